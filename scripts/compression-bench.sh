@@ -0,0 +1,49 @@
+#!/bin/sh
+# 응답 압축/HTTP2 효과 측정: 엔드포인트별 전송 바이트(압축 전/후)와 요청당 서버 CPU 시간을 출력한다.
+#
+# 사용법: sh scripts/compression-bench.sh [BEACH_ID]
+#   BASE_URL (기본 http://localhost:8080), MGMT_URL (기본 http://localhost:8081), REQUESTS (기본 200)
+#   TOKEN이 있으면 Authorization: Bearer 헤더를 붙인다 (인증 사용자 목록 측정).
+#
+# CPU 시간은 actuator process.cpu.time(JVM 전체, 나노초) 증가분을 요청 수로 나눈 값이라 다른 부하가 없을 때 측정한다.
+set -e
+
+BASE_URL=${BASE_URL:-http://localhost:8080}
+MGMT_URL=${MGMT_URL:-http://localhost:8081}
+REQUESTS=${REQUESTS:-200}
+BEACH_ID=$1
+
+cpu_nanos() {
+  curl -s "$MGMT_URL/actuator/metrics/process.cpu.time" \
+    | sed -n 's/.*"value":\([0-9.eE+-]*\).*/\1/p'
+}
+
+# $1: 라벨, $2: 경로, $3: Accept-Encoding (빈 값이면 헤더 없음), $4: curl HTTP 버전 옵션
+measure() {
+  encoding_header=""
+  [ -n "$3" ] && encoding_header="Accept-Encoding: $3"
+  auth_header=""
+  [ -n "$TOKEN" ] && auth_header="Authorization: Bearer $TOKEN"
+
+  bytes=$(curl -s $4 -o /dev/null -w '%{size_download}' \
+    ${encoding_header:+-H "$encoding_header"} ${auth_header:+-H "$auth_header"} "$BASE_URL$2")
+
+  before=$(cpu_nanos)
+  i=0
+  while [ "$i" -lt "$REQUESTS" ]; do
+    curl -s $4 -o /dev/null \
+      ${encoding_header:+-H "$encoding_header"} ${auth_header:+-H "$auth_header"} "$BASE_URL$2"
+    i=$((i + 1))
+  done
+  after=$(cpu_nanos)
+
+  awk -v label="$1" -v bytes="$bytes" -v before="$before" -v after="$after" -v n="$REQUESTS" \
+    'BEGIN { printf "%-40s %10d bytes %10.1f us cpu/req\n", label, bytes, (after - before) / n / 1000 }'
+}
+
+for path in /api/beaches ${BEACH_ID:+/api/beaches/$BEACH_ID/conditions/recent} \
+  ${BEACH_ID:+/api/beaches/$BEACH_ID/facilities}; do
+  measure "$path identity http1.1" "$path" "" "--http1.1"
+  measure "$path gzip http1.1" "$path" "gzip" "--http1.1"
+  measure "$path gzip h2c" "$path" "gzip" "--http2-prior-knowledge"
+done
@@ -0,0 +1,208 @@
+package com.beachcheck.auth.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Why: 발송할 이메일을 호출 트랜잭션과 함께 영속화해 재시작/큐 초과로 유실되지 않게 하기 위해.
+ *
+ * <p>Policy: 상태 전이는 lease/markSent/markFailed로만 수행한다. SENT, FAILED_PERMANENT는 종료 상태다.
+ *
+ * <p>인증 메일은 본문 대신 tokenReference만 저장하고 발송 시점에 링크를 만든다. 종료 상태가 되면 body와 tokenReference를 지워
+ * 발송이 끝난 메일 내용이 보존 기간 동안 남지 않게 한다.
+ */
+@Entity
+@Table(name = "email_outbox")
+public class EmailOutboxMessage {
+
+  public enum Status {
+    PENDING, // 발송 대기
+    SENT, // 발송 완료
+    FAILED_RETRIABLE, // 일시 실패 (nextAttemptAt 이후 재시도)
+    FAILED_PERMANENT // 최대 시도 초과 (재시도 제외)
+  }
+
+  private static final int MAX_ERROR_LENGTH = 500;
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false, length = 320)
+  private String recipient;
+
+  @Column(nullable = false)
+  private String subject;
+
+  @Column(columnDefinition = "TEXT")
+  private String body;
+
+  @Column(name = "token_reference", length = 64)
+  private String tokenReference;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private Status status;
+
+  @Column(nullable = false)
+  private int attempts;
+
+  @Column(name = "next_attempt_at", nullable = false)
+  private Instant nextAttemptAt;
+
+  @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+  private String lastError;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private Instant createdAt;
+
+  @Column(name = "sent_at")
+  private Instant sentAt;
+
+  protected EmailOutboxMessage() {}
+
+  /**
+   * Contract(Input): recipient, subject, body는 NULL 불가.
+   *
+   * <p>Contract(Output): status=PENDING, attempts=0, 즉시 발송 대상인 메시지.
+   */
+  public static EmailOutboxMessage pending(String recipient, String subject, String body) {
+    EmailOutboxMessage message = new EmailOutboxMessage();
+    message.recipient = Objects.requireNonNull(recipient, "recipient");
+    message.subject = Objects.requireNonNull(subject, "subject");
+    message.body = Objects.requireNonNull(body, "body");
+    message.status = Status.PENDING;
+    message.attempts = 0;
+    return message;
+  }
+
+  /**
+   * Contract(Input): tokenReference는 인증 링크를 다시 만들 참조값이다. 원문 토큰을 넣지 않는다.
+   *
+   * <p>Contract(Output): body 없이 PENDING 상태인 메시지. 본문은 발송 시점에 렌더링한다.
+   */
+  public static EmailOutboxMessage verification(
+      String recipient, String subject, String tokenReference) {
+    EmailOutboxMessage message = new EmailOutboxMessage();
+    message.recipient = Objects.requireNonNull(recipient, "recipient");
+    message.subject = Objects.requireNonNull(subject, "subject");
+    message.tokenReference = Objects.requireNonNull(tokenReference, "tokenReference");
+    message.status = Status.PENDING;
+    message.attempts = 0;
+    return message;
+  }
+
+  @PrePersist
+  void onCreate() {
+    if (createdAt == null) {
+      createdAt = Instant.now();
+    }
+    if (nextAttemptAt == null) {
+      nextAttemptAt = createdAt;
+    }
+  }
+
+  /** 워커가 선점한 동안 다른 워커가 같은 메시지를 잡지 않도록 다음 시도 시각을 lease 만료 시각으로 미룬다. */
+  public void lease(Instant leaseUntil) {
+    validateNotTerminal(Status.PENDING);
+    this.nextAttemptAt = leaseUntil;
+  }
+
+  public void markSent(Instant now) {
+    validateNotTerminal(Status.SENT);
+    this.status = Status.SENT;
+    this.attempts++;
+    this.sentAt = now;
+    this.lastError = null;
+    clearContent();
+  }
+
+  /**
+   * Contract(Input): retryAt이 null이면 더 이상 재시도하지 않는다.
+   *
+   * <p>Contract(Output): retryAt 유무에 따라 FAILED_RETRIABLE 또는 FAILED_PERMANENT.
+   */
+  public void markFailed(String error, Instant retryAt) {
+    Status target = retryAt == null ? Status.FAILED_PERMANENT : Status.FAILED_RETRIABLE;
+    validateNotTerminal(target);
+    this.status = target;
+    this.attempts++;
+    this.lastError = truncate(error);
+    if (retryAt != null) {
+      this.nextAttemptAt = retryAt;
+    } else {
+      clearContent();
+    }
+  }
+
+  private void clearContent() {
+    this.body = null;
+    this.tokenReference = null;
+  }
+
+  private void validateNotTerminal(Status target) {
+    if (status == Status.SENT || status == Status.FAILED_PERMANENT) {
+      throw new IllegalStateException(String.format("%s에서 %s로 전이할 수 없습니다.", status, target));
+    }
+  }
+
+  private static String truncate(String error) {
+    if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+      return error;
+    }
+    return error.substring(0, MAX_ERROR_LENGTH);
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public String getRecipient() {
+    return recipient;
+  }
+
+  public String getSubject() {
+    return subject;
+  }
+
+  public String getBody() {
+    return body;
+  }
+
+  public String getTokenReference() {
+    return tokenReference;
+  }
+
+  public Status getStatus() {
+    return status;
+  }
+
+  public int getAttempts() {
+    return attempts;
+  }
+
+  public Instant getNextAttemptAt() {
+    return nextAttemptAt;
+  }
+
+  public String getLastError() {
+    return lastError;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public Instant getSentAt() {
+    return sentAt;
+  }
+}
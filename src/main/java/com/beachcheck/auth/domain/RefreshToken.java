@@ -26,7 +26,8 @@ public class RefreshToken {
   @JoinColumn(name = "user_id", nullable = false) // JoinColumn 있으면 외래키라는거 User에 mappedBy 따로 없으니 단방향
   private User user;
 
-  @Column(nullable = false, unique = true, length = 512)
+  // 원문 JWT가 아닌 SHA-256 hex 해시(64자)를 저장한다.
+  @Column(nullable = false, unique = true, length = 64)
   private String token;
 
   @Column(name = "expires_at", nullable = false)
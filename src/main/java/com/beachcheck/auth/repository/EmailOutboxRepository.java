@@ -0,0 +1,56 @@
+package com.beachcheck.auth.repository;
+
+import com.beachcheck.auth.domain.EmailOutboxMessage;
+import com.beachcheck.auth.domain.EmailOutboxMessage.Status;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, Long> {
+
+  /**
+   * 발송 대상 메시지 조회 (PENDING 또는 FAILED_RETRIABLE이고 다음 시도 시각 도달)
+   *
+   * <p>Why: FOR UPDATE SKIP LOCKED로 여러 워커가 동시에 선점해도 같은 행을 잡지 않게 한다. 호출자는 같은 트랜잭션 안에서 lease를
+   * 기록해야 커밋 후에도 선점이 유지된다.
+   *
+   * <p>Policy: lock.timeout=-2로 SKIP LOCKED를 활성화한다. (Hibernate 6+: -2 = SKIP LOCKED)
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query(
+      """
+      SELECT m FROM EmailOutboxMessage m
+      WHERE m.status IN ('PENDING', 'FAILED_RETRIABLE')
+        AND m.nextAttemptAt <= :now
+      ORDER BY m.nextAttemptAt ASC, m.id ASC
+      """)
+  List<EmailOutboxMessage> findDue(@Param("now") Instant now, Pageable pageable);
+
+  /** 상태별 메시지 개수 조회 (모니터링/테스트용) */
+  long countByStatus(Status status);
+
+  /**
+   * Why: 발송이 끝난 메시지(SENT, FAILED_PERMANENT)를 보존 기간 뒤에 batchSize 단위로 나눠 지운다.
+   *
+   * <p>Contract(Output): 삭제된 행 수. batchSize보다 작으면 더 지울 행이 없다. 호출마다 별도 트랜잭션이다.
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      value =
+          "DELETE FROM email_outbox WHERE id IN ("
+              + "SELECT id FROM email_outbox WHERE status IN ('SENT', 'FAILED_PERMANENT')"
+              + " AND created_at < :cutoff LIMIT :batchSize)",
+      nativeQuery = true)
+  int deleteFinishedBatch(@Param("cutoff") Instant cutoff, @Param("batchSize") int batchSize);
+}
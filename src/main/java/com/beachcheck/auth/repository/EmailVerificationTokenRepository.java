@@ -2,12 +2,16 @@ package com.beachcheck.auth.repository;
 
 import com.beachcheck.auth.domain.EmailVerificationToken;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface EmailVerificationTokenRepository
     extends JpaRepository<EmailVerificationToken, UUID> {
@@ -24,4 +28,37 @@ public interface EmailVerificationTokenRepository
       where t.user.id = :userId and t.usedAt is null
       """)
   int markAllUnusedAsUsed(@Param("userId") UUID userId, @Param("usedAt") Instant usedAt);
+
+  /**
+   * Why: 정리 대상(사용 완료 또는 만료)을 (created_at, id) 키셋 순서로 조금씩 찾아, 이미 훑은 구간을 다시 스캔하지 않기 위해.
+   *
+   * <p>Contract(Input): createdBefore 이전에 발급된 토큰만 대상이다. 재발송 쿨다운 판단에 쓰는 최근 토큰은 남긴다.
+   */
+  @Query(
+      """
+      select t.id as id, t.createdAt as createdAt
+      from EmailVerificationToken t
+      where t.createdAt < :createdBefore
+        and (t.usedAt is not null or t.expiresAt < :now)
+        and (t.createdAt > :afterCreatedAt
+             or (t.createdAt = :afterCreatedAt and t.id > :afterId))
+      order by t.createdAt, t.id
+      """)
+  List<PurgeKey> findPurgeKeys(
+      @Param("createdBefore") Instant createdBefore,
+      @Param("now") Instant now,
+      @Param("afterCreatedAt") Instant afterCreatedAt,
+      @Param("afterId") UUID afterId,
+      Pageable pageable);
+
+  @Transactional
+  @Modifying
+  @Query("delete from EmailVerificationToken t where t.id in :ids")
+  int deleteByIdIn(@Param("ids") Collection<UUID> ids);
+
+  interface PurgeKey {
+    UUID getId();
+
+    Instant getCreatedAt();
+  }
 }
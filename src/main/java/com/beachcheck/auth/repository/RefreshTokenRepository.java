@@ -2,22 +2,42 @@ package com.beachcheck.auth.repository;
 
 import com.beachcheck.auth.domain.RefreshToken;
 import com.beachcheck.user.domain.User;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
 
+  /** token은 원문이 아닌 SHA-256 hex 해시다. */
   Optional<RefreshToken> findByToken(String token);
 
+  /**
+   * Why: 로그인마다 사용자가 가진 모든 토큰 이력을 갱신하지 않도록, 아직 유효한 토큰만 무효화한다.
+   *
+   * <p>Contract(Output): 무효화된 행 수. 부분 인덱스 idx_refresh_tokens_user_active를 사용한다.
+   */
   @Modifying
-  @Query("UPDATE RefreshToken rt SET rt.revoked = true Where rt.user = :user")
-  void revokeAllByUser(@Param("user") User user);
+  @Query(
+      "UPDATE RefreshToken rt SET rt.revoked = true "
+          + "WHERE rt.user = :user AND rt.revoked = false AND rt.expiresAt > :now")
+  int revokeActiveByUser(@Param("user") User user, @Param("now") Instant now);
 
+  /**
+   * Why: 만료 토큰을 한 번에 지우면 긴 트랜잭션과 대량 WAL이 생기므로 batchSize 단위로 나눠 지운다.
+   *
+   * <p>Contract(Output): 삭제된 행 수. batchSize보다 작으면 더 지울 행이 없다. 호출마다 별도 트랜잭션이다.
+   */
+  @Transactional
   @Modifying
-  @Query("DELETE RefreshToken rt WHERE rt.expiresAt < CURRENT_TIMESTAMP ")
-  void deleteExpiredTokens();
+  @Query(
+      value =
+          "DELETE FROM refresh_tokens WHERE id IN ("
+              + "SELECT id FROM refresh_tokens WHERE expires_at < :cutoff LIMIT :batchSize)",
+      nativeQuery = true)
+  int deleteExpiredBatch(@Param("cutoff") Instant cutoff, @Param("batchSize") int batchSize);
 }
@@ -0,0 +1,72 @@
+package com.beachcheck.auth.scheduler;
+
+import com.beachcheck.auth.repository.EmailOutboxRepository;
+import com.beachcheck.global.config.EnableSchedulingConfig;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Why: 발송이 끝난 이메일 아웃박스 행이 쌓여 테이블이 계속 커지고, 수신자 주소가 필요 이상 오래 보관되는 것을 막기 위해.
+ *
+ * <p>Policy:
+ *
+ * <ul>
+ *   <li>app.mail.outbox.purge.enabled=true 일 때만 빈 등록
+ *   <li>생성 후 retention이 지난 SENT/FAILED_PERMANENT 행을 batchSize 단위 트랜잭션으로 나눠 삭제한다.
+ *   <li>한 번의 실행에서 maxBatches까지만 삭제하고, 남은 행은 다음 주기에 이어서 지운다.
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(
+    prefix = "app.mail.outbox.purge",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = false)
+public class EmailOutboxPurgeScheduler {
+
+  private static final Logger log = LoggerFactory.getLogger(EmailOutboxPurgeScheduler.class);
+
+  private final EmailOutboxRepository outboxRepository;
+  private final Clock clock;
+  private final Duration retention;
+  private final int batchSize;
+  private final int maxBatches;
+
+  public EmailOutboxPurgeScheduler(
+      EmailOutboxRepository outboxRepository,
+      Clock clock,
+      @Value("${app.mail.outbox.purge.retention:7d}") Duration retention,
+      @Value("${app.mail.outbox.purge.batch-size:1000}") int batchSize,
+      @Value("${app.mail.outbox.purge.max-batches:100}") int maxBatches) {
+    this.outboxRepository = outboxRepository;
+    this.clock = clock;
+    this.retention = retention;
+    this.batchSize = batchSize;
+    this.maxBatches = maxBatches;
+  }
+
+  @Scheduled(
+      cron = "${app.mail.outbox.purge.cron:0 30 * * * *}",
+      scheduler = EnableSchedulingConfig.RETENTION)
+  public void purgeFinishedMessages() {
+    Instant cutoff = Instant.now(clock).minus(retention);
+    long total = 0;
+    for (int batch = 0; batch < maxBatches; batch++) {
+      int deleted = outboxRepository.deleteFinishedBatch(cutoff, batchSize);
+      total += deleted;
+      if (deleted < batchSize) {
+        break;
+      }
+    }
+    if (total > 0) {
+      log.info("Purged finished email outbox messages. deleted={}, cutoff={}", total, cutoff);
+    }
+  }
+}
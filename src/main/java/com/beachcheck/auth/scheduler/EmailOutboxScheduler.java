@@ -0,0 +1,39 @@
+package com.beachcheck.auth.scheduler;
+
+import com.beachcheck.auth.service.EmailOutboxRelay;
+import com.beachcheck.global.config.EnableSchedulingConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Why: @ConditionalOnProperty를 클래스 레벨에 적용하여 app.mail.outbox.enabled=false 시 빈 자체가 등록되지 않도록 함.
+ *
+ * <p>Policy:
+ *
+ * <ul>
+ *   <li>app.mail.outbox.enabled=true 일 때만 빈 등록
+ *   <li>fixedDelay: 이전 실행 완료 후 app.mail.outbox.fixed-delay만큼 대기 (동시 실행 방지)
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(
+    prefix = "app.mail.outbox",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = false)
+public class EmailOutboxScheduler {
+
+  private final EmailOutboxRelay emailOutboxRelay;
+
+  public EmailOutboxScheduler(EmailOutboxRelay emailOutboxRelay) {
+    this.emailOutboxRelay = emailOutboxRelay;
+  }
+
+  @Scheduled(
+      fixedDelayString = "${app.mail.outbox.fixed-delay:1000}",
+      scheduler = EnableSchedulingConfig.OUTBOX)
+  public void relayEmails() {
+    emailOutboxRelay.relayDue();
+  }
+}
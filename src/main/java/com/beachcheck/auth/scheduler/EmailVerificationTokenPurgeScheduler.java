@@ -0,0 +1,112 @@
+package com.beachcheck.auth.scheduler;
+
+import com.beachcheck.auth.repository.EmailVerificationTokenRepository;
+import com.beachcheck.auth.repository.EmailVerificationTokenRepository.PurgeKey;
+import com.beachcheck.global.config.EnableSchedulingConfig;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Why: 가입/재발송마다 email_verification_tokens 행이 쌓이고 사용 처리도 UPDATE라 삭제되지 않아, 토큰 조회와 쿨다운 확인이 점점
+ * 느려지는 것을 막기 위해.
+ *
+ * <p>Policy:
+ *
+ * <ul>
+ *   <li>app.email-verification.purge.enabled=true 일 때만 빈 등록
+ *   <li>발급 후 retention이 지난 토큰 중 사용 완료 또는 만료된 것만 삭제한다. 최근 토큰은 쿨다운 판단을 위해 남긴다.
+ *   <li>(created_at, id) 키셋 순서로 batchSize씩 찾아 배치마다 별도 트랜잭션으로 삭제하고, 배치 사이에 pause만큼 쉰다.
+ *   <li>한 번의 실행에서 maxBatches까지만 삭제하고, 남은 행은 다음 주기에 이어서 지운다.
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(
+    prefix = "app.email-verification.purge",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = false)
+public class EmailVerificationTokenPurgeScheduler {
+
+  private static final Logger log =
+      LoggerFactory.getLogger(EmailVerificationTokenPurgeScheduler.class);
+  private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+  private final EmailVerificationTokenRepository tokenRepository;
+  private final Clock clock;
+  private final int batchSize;
+  private final int maxBatches;
+  private final Duration pause;
+  private final Duration retention;
+
+  public EmailVerificationTokenPurgeScheduler(
+      EmailVerificationTokenRepository tokenRepository,
+      Clock clock,
+      @Value("${app.email-verification.purge.batch-size:500}") int batchSize,
+      @Value("${app.email-verification.purge.max-batches:100}") int maxBatches,
+      @Value("${app.email-verification.purge.pause:100ms}") Duration pause,
+      @Value("${app.email-verification.purge.retention:1d}") Duration retention) {
+    this.tokenRepository = tokenRepository;
+    this.clock = clock;
+    this.batchSize = batchSize;
+    this.maxBatches = maxBatches;
+    this.pause = pause;
+    this.retention = retention;
+  }
+
+  @Scheduled(
+      cron = "${app.email-verification.purge.cron:0 45 * * * *}",
+      scheduler = EnableSchedulingConfig.RETENTION)
+  public void purgeStaleTokens() {
+    Instant now = Instant.now(clock);
+    Instant createdBefore = now.minus(retention);
+    Instant afterCreatedAt = Instant.EPOCH;
+    UUID afterId = MIN_UUID;
+    long total = 0;
+
+    for (int batch = 0; batch < maxBatches; batch++) {
+      List<PurgeKey> keys =
+          tokenRepository.findPurgeKeys(
+              createdBefore, now, afterCreatedAt, afterId, PageRequest.ofSize(batchSize));
+      if (keys.isEmpty()) {
+        break;
+      }
+      total += tokenRepository.deleteByIdIn(keys.stream().map(PurgeKey::getId).toList());
+
+      PurgeKey last = keys.get(keys.size() - 1);
+      afterCreatedAt = last.getCreatedAt();
+      afterId = last.getId();
+      if (keys.size() < batchSize || !pauseBetweenBatches()) {
+        break;
+      }
+    }
+    if (total > 0) {
+      log.info(
+          "Purged stale email verification tokens. deleted={}, createdBefore={}",
+          total,
+          createdBefore);
+    }
+  }
+
+  private boolean pauseBetweenBatches() {
+    if (pause.isZero() || pause.isNegative()) {
+      return true;
+    }
+    try {
+      Thread.sleep(pause.toMillis());
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
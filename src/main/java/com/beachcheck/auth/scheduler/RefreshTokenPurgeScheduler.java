@@ -0,0 +1,68 @@
+package com.beachcheck.auth.scheduler;
+
+import com.beachcheck.auth.repository.RefreshTokenRepository;
+import com.beachcheck.global.config.EnableSchedulingConfig;
+import java.time.Clock;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Why: 만료된 refresh token이 삭제되지 않아 테이블과 인덱스가 계속 커지고 조회/무효화 비용이 늘어나는 것을 막기 위해.
+ *
+ * <p>Policy:
+ *
+ * <ul>
+ *   <li>app.refresh-token.purge.enabled=true 일 때만 빈 등록
+ *   <li>cron 주기마다 만료 토큰을 batchSize 단위 트랜잭션으로 나눠 삭제한다.
+ *   <li>한 번의 실행에서 maxBatches까지만 삭제하고, 남은 행은 다음 주기에 이어서 지운다.
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(
+    prefix = "app.refresh-token.purge",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = false)
+public class RefreshTokenPurgeScheduler {
+
+  private static final Logger log = LoggerFactory.getLogger(RefreshTokenPurgeScheduler.class);
+
+  private final RefreshTokenRepository refreshTokenRepository;
+  private final Clock clock;
+  private final int batchSize;
+  private final int maxBatches;
+
+  public RefreshTokenPurgeScheduler(
+      RefreshTokenRepository refreshTokenRepository,
+      Clock clock,
+      @Value("${app.refresh-token.purge.batch-size:1000}") int batchSize,
+      @Value("${app.refresh-token.purge.max-batches:100}") int maxBatches) {
+    this.refreshTokenRepository = refreshTokenRepository;
+    this.clock = clock;
+    this.batchSize = batchSize;
+    this.maxBatches = maxBatches;
+  }
+
+  @Scheduled(
+      cron = "${app.refresh-token.purge.cron:0 15 * * * *}",
+      scheduler = EnableSchedulingConfig.RETENTION)
+  public void purgeExpiredTokens() {
+    Instant cutoff = Instant.now(clock);
+    long total = 0;
+    for (int batch = 0; batch < maxBatches; batch++) {
+      int deleted = refreshTokenRepository.deleteExpiredBatch(cutoff, batchSize);
+      total += deleted;
+      if (deleted < batchSize) {
+        break;
+      }
+    }
+    if (total > 0) {
+      log.info("Purged expired refresh tokens. deleted={}, cutoff={}", total, cutoff);
+    }
+  }
+}
@@ -10,6 +10,7 @@ import com.beachcheck.auth.repository.RefreshTokenRepository;
 import com.beachcheck.global.exception.ApiException;
 import com.beachcheck.global.exception.ErrorCode;
 import com.beachcheck.global.security.JwtUtils;
+import com.beachcheck.global.util.HashUtils;
 import com.beachcheck.user.domain.User;
 import com.beachcheck.user.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -85,18 +86,19 @@ public class AuthService {
       throw new IllegalStateException("비활성화된 계정입니다.");
     }
 
-    // 기존 refresh token 무효화
-    refreshTokenRepository.revokeAllByUser(user);
+    Instant now = Instant.now(clock);
+
+    // 기존 refresh token 무효화 (아직 유효한 토큰만 갱신한다)
+    refreshTokenRepository.revokeActiveByUser(user, now);
 
     // 새 토큰 생성
     String accessToken = jwtUtils.generateAccessToken(user);
     String refreshTokenStr = jwtUtils.generateRefreshToken(user);
-    Instant now = Instant.now(clock);
 
-    // Refresh token 세팅 및 저장
+    // Refresh token 세팅 및 저장 (원문 대신 SHA-256 해시만 저장)
     RefreshToken refreshToken = new RefreshToken();
     refreshToken.setUser(user);
-    refreshToken.setToken(refreshTokenStr);
+    refreshToken.setToken(HashUtils.sha256Hex(refreshTokenStr));
     refreshToken.setExpiresAt(now.plusMillis(jwtUtils.getRefreshTokenExpirationMillis()));
     refreshTokenRepository.save(refreshToken);
 
@@ -113,7 +115,7 @@ public class AuthService {
   public void logOut(String refreshTokenStr) {
     RefreshToken refreshToken =
         refreshTokenRepository
-            .findByToken(refreshTokenStr)
+            .findByToken(HashUtils.sha256Hex(refreshTokenStr))
             .orElseThrow(() -> new EntityNotFoundException("리프레시 토큰을 찾을 수 없습니다."));
 
     refreshToken.setRevoked(true);
@@ -124,7 +126,7 @@ public class AuthService {
   public TokenResponseDto refresh(String refreshTokenStr) {
     RefreshToken refreshToken =
         refreshTokenRepository
-            .findByToken(refreshTokenStr)
+            .findByToken(HashUtils.sha256Hex(refreshTokenStr))
             .orElseThrow(() -> invalidRefreshToken());
 
     if (Boolean.TRUE.equals(refreshToken.getRevoked()) || refreshToken.isExpired()) {
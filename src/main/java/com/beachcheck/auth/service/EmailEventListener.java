@@ -1,20 +1,24 @@
 package com.beachcheck.auth.service;
 
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * Why: 인증 메일 이벤트를 발행한 트랜잭션 안에서 아웃박스에 기록해, 가입 커밋과 메일 발송 의무가 함께 영속되게 하기 위해.
+ *
+ * <p>Policy: 동기 @EventListener로 발행 트랜잭션에 참여한다. 실제 발송은 EmailOutboxRelay가 커밋 이후에 수행한다.
+ */
 @Component
 public class EmailEventListener {
 
-  private final AsyncEmailService asyncEmailService;
+  private final EmailOutboxService emailOutboxService;
 
-  public EmailEventListener(AsyncEmailService asyncEmailService) {
-    this.asyncEmailService = asyncEmailService;
+  public EmailEventListener(EmailOutboxService emailOutboxService) {
+    this.emailOutboxService = emailOutboxService;
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @EventListener
   public void handleEmailVerificationEvent(EmailVerificationEvent event) {
-    asyncEmailService.sendVerificationEmailAsync(event.email(), event.verificationLink());
+    emailOutboxService.enqueueVerification(event.email(), event.tokenReference());
   }
 }
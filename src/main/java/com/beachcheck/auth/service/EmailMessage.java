@@ -0,0 +1,4 @@
+package com.beachcheck.auth.service;
+
+/** from이 null이거나 공백이면 전송기의 기본 발신 주소를 사용한다. */
+public record EmailMessage(String from, String to, String subject, String body) {}
@@ -0,0 +1,71 @@
+package com.beachcheck.auth.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Why: 이메일 아웃박스 워커의 배치 크기, 재시도 정책, 선점(lease) 시간을 설정으로 조정하기 위해.
+ *
+ * <p>Policy: 재시도 간격은 initialBackoff * 2^(attempts-1)이며 maxBackoff를 넘지 않는다. maxAttempts번 실패하면
+ * FAILED_PERMANENT로 전이한다.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.mail.outbox")
+public class EmailOutboxProperties {
+
+  private int batchSize = 50;
+  private int maxBatchesPerRun = 20;
+  private int maxAttempts = 6;
+  private Duration initialBackoff = Duration.ofSeconds(30);
+  private Duration maxBackoff = Duration.ofMinutes(30);
+  private Duration lease = Duration.ofMinutes(5);
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public void setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  public int getMaxBatchesPerRun() {
+    return maxBatchesPerRun;
+  }
+
+  public void setMaxBatchesPerRun(int maxBatchesPerRun) {
+    this.maxBatchesPerRun = maxBatchesPerRun;
+  }
+
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  public void setMaxAttempts(int maxAttempts) {
+    this.maxAttempts = maxAttempts;
+  }
+
+  public Duration getInitialBackoff() {
+    return initialBackoff;
+  }
+
+  public void setInitialBackoff(Duration initialBackoff) {
+    this.initialBackoff = initialBackoff;
+  }
+
+  public Duration getMaxBackoff() {
+    return maxBackoff;
+  }
+
+  public void setMaxBackoff(Duration maxBackoff) {
+    this.maxBackoff = maxBackoff;
+  }
+
+  public Duration getLease() {
+    return lease;
+  }
+
+  public void setLease(Duration lease) {
+    this.lease = lease;
+  }
+}
@@ -0,0 +1,93 @@
+package com.beachcheck.auth.service;
+
+import com.beachcheck.auth.domain.EmailOutboxMessage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Why: 아웃박스의 메일을 배치 단위로 꺼내 발송해, 처리량이 스레드 풀 크기가 아닌 SMTP 처리 속도에 의해서만 제한되게 하기 위해.
+ *
+ * <p>Policy:
+ *
+ * <ul>
+ *   <li>선점 → 트랜잭션 밖에서 배치 발송(EmailSender.sendAll, 연결 재사용) → 결과 기록 순서로 진행한다.
+ *   <li>배치가 가득 차 있으면 maxBatchesPerRun까지 즉시 다음 배치를 이어서 처리한다(적체 해소).
+ * </ul>
+ *
+ * <p>Note: 스케줄링은 EmailOutboxScheduler가 담당한다. 테스트에서는 relayDue()를 직접 호출한다.
+ */
+@Component
+public class EmailOutboxRelay {
+
+  private static final Logger log = LoggerFactory.getLogger(EmailOutboxRelay.class);
+
+  private final EmailOutboxService outboxService;
+  private final EmailSender emailSender;
+  private final EmailOutboxProperties properties;
+
+  public EmailOutboxRelay(
+      EmailOutboxService outboxService,
+      EmailSender emailSender,
+      EmailOutboxProperties properties) {
+    this.outboxService = outboxService;
+    this.emailSender = emailSender;
+    this.properties = properties;
+  }
+
+  /** Contract(Output): 이번 실행에서 발송에 성공한 메일 수. */
+  public int relayDue() {
+    int sent = 0;
+    for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+      List<EmailOutboxMessage> claimed = outboxService.claimDue();
+      if (claimed.isEmpty()) {
+        break;
+      }
+      sent += sendBatch(claimed);
+      if (claimed.size() < properties.getBatchSize()) {
+        break;
+      }
+    }
+    return sent;
+  }
+
+  private int sendBatch(List<EmailOutboxMessage> claimed) {
+    List<EmailMessage> messages = new ArrayList<>(claimed.size());
+    for (EmailOutboxMessage message : claimed) {
+      messages.add(outboxService.toEmailMessage(message));
+    }
+
+    Map<EmailMessage, Exception> failures;
+    try {
+      failures = emailSender.sendAll(messages);
+    } catch (RuntimeException e) {
+      log.warn("이메일 배치 발송 실패 - size: {}", messages.size(), e);
+      failures = new IdentityHashMap<>();
+      for (EmailMessage message : messages) {
+        failures.put(message, e);
+      }
+    }
+
+    List<Long> sentIds = new ArrayList<>();
+    Map<Long, String> failedIds = new HashMap<>();
+    for (int i = 0; i < claimed.size(); i++) {
+      Long id = claimed.get(i).getId();
+      Exception failure = failures.get(messages.get(i));
+      if (failure == null) {
+        sentIds.add(id);
+      } else {
+        failedIds.put(id, failure.getClass().getSimpleName() + ": " + failure.getMessage());
+        log.warn("이메일 발송 실패 - outboxId: {}, to: {}", id, claimed.get(i).getRecipient());
+      }
+    }
+
+    outboxService.recordResults(sentIds, failedIds);
+    log.info("이메일 배치 발송 완료 - sent: {}, failed: {}", sentIds.size(), failedIds.size());
+    return sentIds.size();
+  }
+}
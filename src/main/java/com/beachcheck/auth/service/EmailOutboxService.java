@@ -0,0 +1,130 @@
+package com.beachcheck.auth.service;
+
+import com.beachcheck.auth.domain.EmailOutboxMessage;
+import com.beachcheck.auth.repository.EmailOutboxRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Why: 인증 메일을 가입/재전송 트랜잭션 안에서 아웃박스에 기록하고, 워커의 선점/결과 기록을 짧은 트랜잭션으로 분리하기 위해.
+ *
+ * <p>Policy:
+ *
+ * <ul>
+ *   <li>enqueue는 호출자 트랜잭션에 참여한다(MANDATORY). 가입이 롤백되면 메일도 남지 않는다.
+ *   <li>claimDue는 SKIP LOCKED로 선점하고 lease를 기록한 뒤 곧바로 커밋한다. SMTP 발송 동안 DB 커넥션을 잡지 않는다.
+ *   <li>실패 시 지수 백오프로 다음 시도 시각만 기록한다. 재시도를 위해 스레드가 대기하지 않는다.
+ *   <li>인증 메일은 링크 참조값만 저장하고, 링크가 담긴 본문은 발송 직전 {@link #toEmailMessage}에서 만든다.
+ * </ul>
+ */
+@Service
+public class EmailOutboxService {
+
+  private static final String VERIFICATION_SUBJECT = "이메일 인증";
+
+  private final EmailOutboxRepository outboxRepository;
+  private final EmailOutboxProperties properties;
+  private final VerificationLinkFactory linkFactory;
+  private final Clock clock;
+  private final String fromAddress;
+  private final long tokenExpirationMinutes;
+
+  public EmailOutboxService(
+      EmailOutboxRepository outboxRepository,
+      EmailOutboxProperties properties,
+      VerificationLinkFactory linkFactory,
+      Clock clock,
+      @Value("${app.email-verification.from-address:}") String fromAddress,
+      @Value("${app.email-verification.token-expiration-minutes:30}") long tokenExpirationMinutes) {
+    this.outboxRepository = outboxRepository;
+    this.properties = properties;
+    this.linkFactory = linkFactory;
+    this.clock = clock;
+    this.fromAddress = fromAddress;
+    this.tokenExpirationMinutes = tokenExpirationMinutes;
+  }
+
+  /**
+   * Contract(Input): to는 수신자 이메일 주소, tokenReference는 {@link VerificationLinkFactory}의 링크 참조값이다.
+   *
+   * <p>Contract(Output): PENDING 메시지가 호출자 트랜잭션에 저장된다. 트랜잭션이 없으면 예외.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void enqueueVerification(String to, String tokenReference) {
+    outboxRepository.save(
+        EmailOutboxMessage.verification(to, VERIFICATION_SUBJECT, tokenReference));
+  }
+
+  /** 발송 대상 메시지를 batchSize만큼 선점한다. 반환된 엔티티는 커밋 후 detached 상태다. */
+  @Transactional
+  public List<EmailOutboxMessage> claimDue() {
+    Instant now = Instant.now(clock);
+    List<EmailOutboxMessage> due =
+        outboxRepository.findDue(now, PageRequest.of(0, properties.getBatchSize()));
+    Instant leaseUntil = now.plus(properties.getLease());
+    due.forEach(message -> message.lease(leaseUntil));
+    return due;
+  }
+
+  /**
+   * Contract(Input): sentIds는 발송 성공 ID, failures는 실패 ID와 사유다.
+   *
+   * <p>Contract(Output): 성공은 SENT, 실패는 시도 횟수에 따라 FAILED_RETRIABLE 또는 FAILED_PERMANENT.
+   */
+  @Transactional
+  public void recordResults(Collection<Long> sentIds, Map<Long, String> failures) {
+    Instant now = Instant.now(clock);
+    outboxRepository.findAllById(sentIds).forEach(message -> message.markSent(now));
+    outboxRepository
+        .findAllById(failures.keySet())
+        .forEach(
+            message -> message.markFailed(failures.get(message.getId()), retryAt(message, now)));
+  }
+
+  public EmailMessage toEmailMessage(EmailOutboxMessage message) {
+    String body =
+        message.getTokenReference() == null
+            ? message.getBody()
+            : verificationBody(linkFactory.link(message.getTokenReference()));
+    return new EmailMessage(fromAddress, message.getRecipient(), message.getSubject(), body);
+  }
+
+  private String verificationBody(String verificationLink) {
+    String body =
+        """
+        아래 링크를 클릭하여 이메일을 인증해주세요:
+
+        %s
+
+        이 링크는 %d분 후에 만료됩니다.
+        """
+            .formatted(verificationLink, tokenExpirationMinutes);
+    return body;
+  }
+
+  private Instant retryAt(EmailOutboxMessage message, Instant now) {
+    int attempt = message.getAttempts() + 1;
+    if (attempt >= properties.getMaxAttempts()) {
+      return null;
+    }
+    return now.plus(backoff(attempt));
+  }
+
+  Duration backoff(int attempt) {
+    Duration max = properties.getMaxBackoff();
+    Duration delay = properties.getInitialBackoff();
+    for (int i = 1; i < attempt && delay.compareTo(max) < 0; i++) {
+      delay = delay.multipliedBy(2);
+    }
+    return delay.compareTo(max) > 0 ? max : delay;
+  }
+}
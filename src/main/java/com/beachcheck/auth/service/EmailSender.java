@@ -1,5 +1,28 @@
 package com.beachcheck.auth.service;
 
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 public interface EmailSender {
   void send(String from, String to, String subject, String body);
+
+  /**
+   * Why: 아웃박스 워커가 한 배치를 한 번에 넘겨, 구현체가 SMTP 연결을 메시지마다 새로 열지 않고 재사용할 수 있게 하기 위해.
+   *
+   * <p>Policy: 기본 구현은 send를 순서대로 호출하며, 한 메시지의 실패가 나머지 발송을 막지 않는다.
+   *
+   * <p>Contract(Output): 실패한 메시지(identity 기준)와 원인 예외. 비어 있으면 모두 성공이다.
+   */
+  default Map<EmailMessage, Exception> sendAll(List<EmailMessage> messages) {
+    Map<EmailMessage, Exception> failures = new IdentityHashMap<>();
+    for (EmailMessage message : messages) {
+      try {
+        send(message.from(), message.to(), message.subject(), message.body());
+      } catch (RuntimeException e) {
+        failures.put(message, e);
+      }
+    }
+    return failures;
+  }
 }
@@ -1,3 +1,4 @@
 package com.beachcheck.auth.service;
 
-public record EmailVerificationEvent(String email, String verificationLink) {}
+/** tokenReference는 원문 토큰이 아니라 {@link VerificationLinkFactory}가 링크를 만들 때 쓰는 참조값이다. */
+public record EmailVerificationEvent(String email, String tokenReference) {}
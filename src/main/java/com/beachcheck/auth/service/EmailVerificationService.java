@@ -28,28 +28,25 @@ public class EmailVerificationService {
 
   private final Logger log = LoggerFactory.getLogger(EmailVerificationService.class);
 
-  private final AsyncEmailService asyncEmailService;
   private final EmailVerificationTokenRepository tokenRepository;
   private final UserRepository userRepository;
   private final ApplicationEventPublisher eventPublisher;
+  private final VerificationLinkFactory linkFactory;
 
-  private final String baseUrl;
   private final long tokenExpirationMinutes;
   private final long resendCooldownMinutes;
 
   public EmailVerificationService(
-      AsyncEmailService asyncEmailService,
       EmailVerificationTokenRepository tokenRepository,
       UserRepository userRepository,
       ApplicationEventPublisher eventPublisher,
-      @Value("${app.email-verification.base-url}") String baseUrl,
+      VerificationLinkFactory linkFactory,
       @Value("${app.email-verification.token-expiration-minutes:30}") long tokenExpirationMinutes,
       @Value("${app.email-verification.resend-cooldown-minutes:3}") long resendCooldownMinutes) {
-    this.asyncEmailService = asyncEmailService;
     this.tokenRepository = tokenRepository;
     this.userRepository = userRepository;
     this.eventPublisher = eventPublisher;
-    this.baseUrl = baseUrl;
+    this.linkFactory = linkFactory;
     this.tokenExpirationMinutes = tokenExpirationMinutes;
     this.resendCooldownMinutes = resendCooldownMinutes;
   }
@@ -65,9 +62,8 @@ public class EmailVerificationService {
    */
   public void sendVerification(User user) {
     // TODO(OAuth): OAuth 가입자는 email verification 정책을 스킵하거나 대체 흐름 적용.
-    String rawToken = createToken(user);
-    String verificationLink = baseUrl + "?token=" + rawToken;
-    eventPublisher.publishEvent(new EmailVerificationEvent(user.getEmail(), verificationLink));
+    String reference = createToken(user);
+    eventPublisher.publishEvent(new EmailVerificationEvent(user.getEmail(), reference));
   }
 
   /**
@@ -113,19 +109,19 @@ public class EmailVerificationService {
               enforceCooldown(user.getId());
               tokenRepository.markAllUnusedAsUsed(user.getId(), Instant.now());
 
-              String rawToken = createToken(user);
-              String verificationLink = baseUrl + "?token=" + rawToken;
-              eventPublisher.publishEvent(
-                  new EmailVerificationEvent(user.getEmail(), verificationLink));
+              String reference = createToken(user);
+              eventPublisher.publishEvent(new EmailVerificationEvent(user.getEmail(), reference));
             });
   }
 
+  /** Contract(Output): 링크 참조값. 원문 토큰은 발송 시점에 {@link VerificationLinkFactory}로 다시 만든다. */
   private String createToken(User user) {
-    String rawToken = UUID.randomUUID().toString();
+    String reference = linkFactory.newReference();
+    String rawToken = linkFactory.rawToken(reference);
     EmailVerificationToken token =
         EmailVerificationToken.issue(user, hashToken(rawToken), tokenExpirationMinutes);
     tokenRepository.save(token);
-    return rawToken;
+    return reference;
   }
 
   private String hashToken(String token) {
@@ -143,8 +139,8 @@ public class EmailVerificationService {
    *
    * <p>Contract(Output): 쿨다운 위반 시 IllegalStateException을 던진다.
    *
-   * <p>Note: 이 메서드는 {@link AsyncEmailService#sendVerificationEmailAsync}의 @Retryable 백오프와는 다른 목적을
-   * 가진다. enforceCooldown은 사용자 행동 제어(비즈니스 규칙), @Retryable은 SMTP 장애 복구(기술 계층)이다.
+   * <p>Note: 이 메서드는 {@link EmailOutboxService}의 재시도 백오프와는 다른 목적을 가진다. enforceCooldown은 사용자 행동
+   * 제어(비즈니스 규칙), 아웃박스 백오프는 SMTP 장애 복구(기술 계층)이다.
    */
   private void enforceCooldown(UUID userId) {
     tokenRepository
@@ -1,9 +1,17 @@
 package com.beachcheck.auth.service;
 
+import jakarta.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMailMessage;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
@@ -12,23 +20,76 @@ import org.springframework.util.Assert;
 public class SmtpEmailSender implements EmailSender {
 
   private final JavaMailSender mailSender;
+  private final SmtpTransportPool transportPool;
   private final String defaultFrom;
 
   public SmtpEmailSender(
-      JavaMailSender mailSender, @Value("${app.mail.default-from}") String defaultFrom) {
+      JavaMailSender mailSender,
+      SmtpTransportPool transportPool,
+      @Value("${app.mail.default-from}") String defaultFrom) {
     this.mailSender = mailSender;
+    this.transportPool = transportPool;
     Assert.hasText(defaultFrom, "app.mail.default-from이 설정되어야 합니다.");
     this.defaultFrom = defaultFrom;
   }
 
   @Override
   public void send(String from, String to, String subject, String body) {
+    Map<EmailMessage, Exception> failures =
+        sendAll(List.of(new EmailMessage(from, to, subject, body)));
+    if (!failures.isEmpty()) {
+      Exception cause = failures.values().iterator().next();
+      if (cause instanceof MailException mailException) {
+        throw mailException;
+      }
+      throw new MailSendException("이메일 발송 실패: " + to, cause);
+    }
+  }
+
+  /**
+   * Why: 배치를 풀에서 빌린 SMTP 연결(STARTTLS/AUTH 완료 상태)로 이어서 보내, 메시지마다 연결을 여는 비용을 없앤다.
+   *
+   * <p>Policy: 주소 파싱 실패는 해당 메시지만 실패로 처리하고, 연결을 얻지 못하면 남은 메시지 전체가 실패로 반환된다.
+   */
+  @Override
+  public Map<EmailMessage, Exception> sendAll(List<EmailMessage> messages) {
+    Map<EmailMessage, Exception> failures = new IdentityHashMap<>();
+    if (messages.isEmpty()) {
+      return failures;
+    }
+
+    Map<MimeMessage, EmailMessage> sources = new IdentityHashMap<>();
+    List<MimeMessage> mimeMessages = new ArrayList<>(messages.size());
+    for (EmailMessage message : messages) {
+      try {
+        MimeMessage mimeMessage = toMimeMessage(message);
+        sources.put(mimeMessage, message);
+        mimeMessages.add(mimeMessage);
+      } catch (MailException e) {
+        failures.put(message, e);
+      }
+    }
+
+    transportPool
+        .sendAll(mimeMessages)
+        .forEach((mimeMessage, cause) -> failures.put(sources.get(mimeMessage), cause));
+    return failures;
+  }
+
+  private MimeMessage toMimeMessage(EmailMessage message) {
+    MimeMessage mimeMessage = mailSender.createMimeMessage();
+    toMailMessage(message.from(), message.to(), message.subject(), message.body())
+        .copyTo(new MimeMailMessage(mimeMessage));
+    return mimeMessage;
+  }
+
+  private SimpleMailMessage toMailMessage(String from, String to, String subject, String body) {
     SimpleMailMessage message = new SimpleMailMessage();
     String resolvedFrom = (from == null || from.isBlank()) ? defaultFrom : from;
     message.setFrom(resolvedFrom);
     message.setTo(to);
     message.setSubject(subject);
     message.setText(body);
-    mailSender.send(message);
+    return message;
   }
 }
@@ -0,0 +1,61 @@
+package com.beachcheck.auth.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Why: SMTP 연결 재사용 한도(동시 연결 수, 연결당 메시지 수, 유휴 검증/만료)를 메일 서버 정책에 맞춰 조정하기 위해.
+ *
+ * <p>Policy: 유휴 시간이 validateAfterIdle을 넘은 연결은 NOOP으로 검증한 뒤 재사용하고, maxIdle을 넘은 연결은 닫는다.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.mail.smtp-pool")
+public class SmtpPoolProperties {
+
+  private int maxConnections = 4;
+  private int maxMessagesPerConnection = 100;
+  private Duration validateAfterIdle = Duration.ofSeconds(30);
+  private Duration maxIdle = Duration.ofMinutes(5);
+  private Duration borrowTimeout = Duration.ofSeconds(10);
+
+  public int getMaxConnections() {
+    return maxConnections;
+  }
+
+  public void setMaxConnections(int maxConnections) {
+    this.maxConnections = maxConnections;
+  }
+
+  public int getMaxMessagesPerConnection() {
+    return maxMessagesPerConnection;
+  }
+
+  public void setMaxMessagesPerConnection(int maxMessagesPerConnection) {
+    this.maxMessagesPerConnection = maxMessagesPerConnection;
+  }
+
+  public Duration getValidateAfterIdle() {
+    return validateAfterIdle;
+  }
+
+  public void setValidateAfterIdle(Duration validateAfterIdle) {
+    this.validateAfterIdle = validateAfterIdle;
+  }
+
+  public Duration getMaxIdle() {
+    return maxIdle;
+  }
+
+  public void setMaxIdle(Duration maxIdle) {
+    this.maxIdle = maxIdle;
+  }
+
+  public Duration getBorrowTimeout() {
+    return borrowTimeout;
+  }
+
+  public void setBorrowTimeout(Duration borrowTimeout) {
+    this.borrowTimeout = borrowTimeout;
+  }
+}
@@ -0,0 +1,289 @@
+package com.beachcheck.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+/**
+ * Why: JavaMailSender.send는 호출마다 SMTP 연결과 STARTTLS/AUTH 핸드셰이크를 새로 수행해, 발송 시간 대부분이 연결 수립에 쓰이기
+ * 때문에.
+ *
+ * <p>Policy:
+ *
+ * <ul>
+ *   <li>인증/TLS 업그레이드가 끝난 Transport를 최대 maxConnections개까지 재사용한다. 모두 사용 중이면 borrowTimeout까지
+ *       기다린다.
+ *   <li>재사용 전 maxIdle/maxMessagesPerConnection을 확인하고, validateAfterIdle보다 오래 쉬었으면 NOOP으로 검증한다.
+ *   <li>발송 중 연결 오류가 나면 그 연결을 버리고 새 연결로 한 번 재시도한다. 수신자 거부(SendFailedException)는 재시도하지 않는다.
+ *   <li>메트릭: mail.smtp.connections.opened/closed, mail.smtp.messages{result}, mail.smtp.send,
+ *       mail.smtp.pool.idle/active
+ * </ul>
+ *
+ * <p>Contract(Input): 세션/호스트/계정 정보는 spring.mail.* 로 구성된 JavaMailSenderImpl에서 가져온다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.mail", name = "enabled", havingValue = "true")
+public class SmtpTransportPool implements DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(SmtpTransportPool.class);
+
+  private final Session session;
+  private final String protocol;
+  private final String host;
+  private final int port;
+  private final String username;
+  private final String password;
+  private final SmtpPoolProperties properties;
+
+  private final BlockingQueue<PooledTransport> idle;
+  private final Semaphore permits;
+
+  private final Counter opened;
+  private final Counter closed;
+  private final Counter sent;
+  private final Counter failed;
+  private final Timer sendTimer;
+
+  public SmtpTransportPool(
+      JavaMailSender mailSender, SmtpPoolProperties properties, MeterRegistry meterRegistry) {
+    this(settings(mailSender), properties, meterRegistry);
+  }
+
+  private SmtpTransportPool(
+      JavaMailSenderImpl settings, SmtpPoolProperties properties, MeterRegistry meterRegistry) {
+    this(
+        settings.getSession(),
+        settings.getProtocol(),
+        settings.getHost(),
+        settings.getPort(),
+        settings.getUsername(),
+        settings.getPassword(),
+        properties,
+        meterRegistry);
+  }
+
+  SmtpTransportPool(
+      Session session,
+      String protocol,
+      String host,
+      int port,
+      String username,
+      String password,
+      SmtpPoolProperties properties,
+      MeterRegistry meterRegistry) {
+    this.session = session;
+    this.protocol = protocol;
+    this.host = host;
+    this.port = port;
+    this.username = username;
+    this.password = password;
+    this.properties = properties;
+    this.idle = new ArrayBlockingQueue<>(properties.getMaxConnections());
+    this.permits = new Semaphore(properties.getMaxConnections());
+
+    this.opened = meterRegistry.counter("mail.smtp.connections.opened");
+    this.closed = meterRegistry.counter("mail.smtp.connections.closed");
+    this.sent = meterRegistry.counter("mail.smtp.messages", "result", "sent");
+    this.failed = meterRegistry.counter("mail.smtp.messages", "result", "failed");
+    this.sendTimer = meterRegistry.timer("mail.smtp.send");
+    Gauge.builder("mail.smtp.pool.idle", idle, BlockingQueue::size).register(meterRegistry);
+    Gauge.builder(
+            "mail.smtp.pool.active",
+            permits,
+            p -> properties.getMaxConnections() - p.availablePermits())
+        .register(meterRegistry);
+  }
+
+  private static JavaMailSenderImpl settings(JavaMailSender mailSender) {
+    Assert.isInstanceOf(
+        JavaMailSenderImpl.class, mailSender, "SMTP 연결 풀은 JavaMailSenderImpl 설정이 필요합니다.");
+    return (JavaMailSenderImpl) mailSender;
+  }
+
+  /**
+   * Contract(Output): 실패한 메시지(identity 기준)와 원인 예외. 연결을 얻지 못하면 남은 메시지 전체가 실패로 반환된다.
+   */
+  public Map<MimeMessage, Exception> sendAll(List<MimeMessage> messages) {
+    Map<MimeMessage, Exception> failures = new IdentityHashMap<>();
+    PooledTransport pooled = null;
+    try {
+      for (int i = 0; i < messages.size(); i++) {
+        MimeMessage message = messages.get(i);
+        if (pooled == null) {
+          try {
+            pooled = borrow();
+          } catch (MessagingException e) {
+            failRemaining(messages, i, e, failures);
+            break;
+          }
+        }
+
+        try {
+          send(pooled, message);
+        } catch (SendFailedException e) {
+          // 수신자 거부 등 메시지 자체의 문제. 연결은 계속 사용한다.
+          recordFailure(message, e, failures);
+        } catch (MessagingException e) {
+          log.warn("SMTP 연결 오류, 새 연결로 재시도합니다: {}", e.getMessage());
+          discard(pooled);
+          pooled = null;
+          try {
+            pooled = borrow();
+            send(pooled, message);
+          } catch (MessagingException retryFailure) {
+            recordFailure(message, retryFailure, failures);
+            if (pooled != null) {
+              discard(pooled);
+              pooled = null;
+            }
+          }
+        }
+
+        if (pooled != null && pooled.messagesSent >= properties.getMaxMessagesPerConnection()) {
+          discard(pooled);
+          pooled = null;
+        }
+      }
+    } finally {
+      if (pooled != null) {
+        release(pooled);
+      }
+    }
+    return failures;
+  }
+
+  @Override
+  public void destroy() {
+    PooledTransport pooled;
+    while ((pooled = idle.poll()) != null) {
+      close(pooled);
+    }
+  }
+
+  private void send(PooledTransport pooled, MimeMessage message) throws MessagingException {
+    if (message.getSentDate() == null) {
+      message.setSentDate(new Date());
+    }
+    message.saveChanges();
+    long started = System.nanoTime();
+    try {
+      pooled.transport.sendMessage(message, message.getAllRecipients());
+    } finally {
+      sendTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+    pooled.messagesSent++;
+    sent.increment();
+  }
+
+  private PooledTransport borrow() throws MessagingException {
+    try {
+      if (!permits.tryAcquire(properties.getBorrowTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+        throw new MessagingException("SMTP 연결 풀이 가득 찼습니다.");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MessagingException("SMTP 연결 대기 중 인터럽트", e);
+    }
+
+    try {
+      PooledTransport pooled;
+      while ((pooled = idle.poll()) != null) {
+        if (isReusable(pooled)) {
+          return pooled;
+        }
+        close(pooled);
+      }
+      return open();
+    } catch (MessagingException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  private boolean isReusable(PooledTransport pooled) {
+    long idleNanos = System.nanoTime() - pooled.lastUsedNanos;
+    if (idleNanos > properties.getMaxIdle().toNanos()
+        || pooled.messagesSent >= properties.getMaxMessagesPerConnection()) {
+      return false;
+    }
+    if (idleNanos > properties.getValidateAfterIdle().toNanos()) {
+      // SMTPTransport.isConnected()는 NOOP을 보내 서버 측 종료 여부를 확인한다.
+      return pooled.transport.isConnected();
+    }
+    return true;
+  }
+
+  private PooledTransport open() throws MessagingException {
+    Transport transport = session.getTransport(protocol);
+    transport.connect(host, port, username, password);
+    opened.increment();
+    return new PooledTransport(transport);
+  }
+
+  private void release(PooledTransport pooled) {
+    pooled.lastUsedNanos = System.nanoTime();
+    if (!idle.offer(pooled)) {
+      close(pooled);
+    }
+    permits.release();
+  }
+
+  private void discard(PooledTransport pooled) {
+    close(pooled);
+    permits.release();
+  }
+
+  private void close(PooledTransport pooled) {
+    try {
+      pooled.transport.close();
+    } catch (MessagingException e) {
+      log.debug("SMTP 연결 종료 실패(무시): {}", e.getMessage());
+    }
+    closed.increment();
+  }
+
+  private void recordFailure(
+      MimeMessage message, Exception cause, Map<MimeMessage, Exception> failures) {
+    failures.put(message, cause);
+    failed.increment();
+  }
+
+  private void failRemaining(
+      List<MimeMessage> messages, int from, Exception cause, Map<MimeMessage, Exception> failures) {
+    for (int i = from; i < messages.size(); i++) {
+      recordFailure(messages.get(i), cause, failures);
+    }
+  }
+
+  private static final class PooledTransport {
+    private final Transport transport;
+    private int messagesSent;
+    private long lastUsedNanos = System.nanoTime();
+
+    private PooledTransport(Transport transport) {
+      this.transport = transport;
+    }
+  }
+}
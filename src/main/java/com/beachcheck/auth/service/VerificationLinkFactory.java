@@ -0,0 +1,45 @@
+package com.beachcheck.auth.service;
+
+import com.beachcheck.global.util.HashUtils;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+/**
+ * Why: 인증 링크의 원문 토큰을 아웃박스에 평문으로 남기지 않고도 발송 시점에 링크를 다시 만들 수 있게 하기 위해.
+ *
+ * <p>Policy: 원문 토큰은 임의 참조값(reference)의 HMAC-SHA256(linkSecret)이다. DB에는 참조값(email_outbox)과 원문
+ * 토큰의 SHA-256(email_verification_tokens)만 남으므로, 서버 비밀키 없이 DB만으로는 링크를 복원할 수 없다. linkSecret을 바꾸면
+ * 아직 발송되지 않은 메일의 링크는 무효가 된다.
+ *
+ * <p>Contract(Input): linkSecret(APP_EMAIL_VERIFICATION_LINK_SECRET)은 이 용도 전용 키로 필수다. JWT 서명 키를
+ * 재사용하지 않으므로 JWT 키를 교체해도 대기 중인 인증 메일은 유효하다. 없으면 기동에 실패한다.
+ */
+@Component
+public class VerificationLinkFactory {
+
+  private final String baseUrl;
+  private final String linkSecret;
+
+  public VerificationLinkFactory(
+      @Value("${app.email-verification.base-url}") String baseUrl,
+      @Value("${app.email-verification.link-secret:}") String linkSecret) {
+    Assert.hasText(linkSecret, "app.email-verification.link-secret이 설정되어야 합니다.");
+    this.baseUrl = baseUrl;
+    this.linkSecret = linkSecret;
+  }
+
+  public String newReference() {
+    return UUID.randomUUID().toString();
+  }
+
+  /** Contract(Output): 메일 링크에 실리는 원문 토큰. 같은 reference는 항상 같은 토큰이다. */
+  public String rawToken(String reference) {
+    return HashUtils.hmacSha256Hex(linkSecret, reference);
+  }
+
+  public String link(String reference) {
+    return baseUrl + "?token=" + rawToken(reference);
+  }
+}
@@ -2,6 +2,7 @@ package com.beachcheck.beach.controller;
 
 import com.beachcheck.beach.dto.BeachConditionDto;
 import com.beachcheck.beach.service.BeachConditionService;
+import com.beachcheck.beach.service.BeachResourceVersions;
 import jakarta.validation.constraints.NotNull;
 import java.util.List;
 import java.util.UUID;
@@ -23,9 +24,14 @@ public class BeachConditionController {
     this.beachConditionService = beachConditionService;
   }
 
+  /** 최근 관측값. ETag는 관측 시각 범위와 건수로 만들고, 같으면 Spring이 직렬화 없이 304로 응답한다. */
   @GetMapping("/recent")
   public ResponseEntity<List<BeachConditionDto>> findRecent(@PathVariable @NotNull UUID beachId) {
-    return ResponseEntity.ok(beachConditionService.findRecentConditions(beachId));
+    List<BeachConditionDto> conditions = beachConditionService.findRecentConditions(beachId);
+    ResponseEntity.BodyBuilder response =
+        ResponseEntity.ok().eTag(BeachResourceVersions.conditionsEtag(conditions));
+    BeachResourceVersions.latestObservedAt(conditions).ifPresent(response::lastModified);
+    return response.body(conditions);
   }
 
   // TODO: Provide streaming SSE endpoint for real-time condition updates.
@@ -2,16 +2,23 @@ package com.beachcheck.beach.controller;
 
 import com.beachcheck.beach.dto.BeachDto;
 import com.beachcheck.beach.dto.request.BeachSearchRequestDto;
+import com.beachcheck.beach.service.AnonymousBeachListResponse;
+import com.beachcheck.beach.service.BeachResourceVersions;
 import com.beachcheck.beach.service.BeachService;
 import com.beachcheck.user.domain.User;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Locale;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/beaches")
@@ -20,9 +27,11 @@ public class BeachController {
 
   // TODO(OAuth): OAuth 도입 시 인증 Principal 타입(User vs OAuth2User) 통일 및 비로그인(null) 처리 정책 재점검.
   private final BeachService beachService;
+  private final AnonymousBeachListResponse anonymousBeachList;
 
-  public BeachController(BeachService beachService) {
+  public BeachController(BeachService beachService, AnonymousBeachListResponse anonymousBeachList) {
     this.beachService = beachService;
+    this.anonymousBeachList = anonymousBeachList;
   }
 
   /**
@@ -30,27 +39,105 @@ public class BeachController {
    *
    * @param request 검색 조건
    * @param user 인증된 사용자 (찜 여부 포함을 위해 사용, 비로그인 시 null)
-   * @return 해변 목록 (찜 여부 포함)
+   * @param acceptEncoding 비로그인 전체 목록에서 미리 압축한 본문을 쓸지 판단
+   * @param webRequest 조건부 GET 판단 (If-None-Match / If-Modified-Since)
+   * @return 해변 목록 (찜 여부 포함), ETag가 같으면 304
    */
   @GetMapping
-  public ResponseEntity<List<BeachDto>> searchBeaches(
-      @Valid BeachSearchRequestDto request, @AuthenticationPrincipal User user) {
+  public ResponseEntity<?> searchBeaches(
+      @Valid BeachSearchRequestDto request,
+      @AuthenticationPrincipal User user,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+          String acceptEncoding,
+      WebRequest webRequest) {
     // DTO 레벨 검증
     request.validateRadiusParams();
 
+    // checkNotModified가 200 응답에도 ETag(/Last-Modified) 헤더를 써 둔다.
+    // 비로그인 전체 목록: 내보낼 본문 자체의 버전으로 판단하고, 표현별 바이트를 직접 내보내므로 강한 ETag.
+    if (user == null && isDefaultList(request)) {
+      boolean precompressed = acceptsGzip(acceptEncoding);
+      AnonymousBeachListResponse.Body body = anonymousBeachList.current();
+      String etag = body.version() + (precompressed ? "-gzip" : "");
+      if (webRequest.checkNotModified(etag, body.lastModified().toEpochMilli())) {
+        return null;
+      }
+      return anonymousList(body, precompressed);
+    }
+
+    // 나머지 결과는 내보낼 목록 자체로 ETag를 만든다. 조회는 하지만, If-None-Match가 같으면 Spring이 직렬화/전송 없이
+    // 304를 낸다. Tomcat이 압축하도록 약한 ETag.
+    List<BeachDto> beaches = findBeaches(request, user);
+    return ResponseEntity.ok().eTag(BeachResourceVersions.beachListEtag(beaches)).body(beaches);
+  }
+
+  private List<BeachDto> findBeaches(BeachSearchRequestDto request, User user) {
     // 반경 검색 요청인 경우
     if (request.hasCompleteRadiusParams()) {
-      return ResponseEntity.ok(
-          beachService.findNearby(request.lon(), request.lat(), request.radiusKm(), user));
+      return beachService.findNearby(request.lon(), request.lat(), request.radiusKm(), user);
     }
 
     // 기존 검색 또는 필터링
     if (request.q() != null || request.tag() != null) {
-      return ResponseEntity.ok(beachService.search(request.q(), request.tag(), user));
+      return beachService.search(request.q(), request.tag(), user);
     }
 
     // 기본: 전체 목록 (캐시됨)
-    return ResponseEntity.ok(beachService.findAll(user));
+    return beachService.findAll(user);
+  }
+
+  private ResponseEntity<byte[]> anonymousList(
+      AnonymousBeachListResponse.Body body, boolean precompressed) {
+    ResponseEntity.BodyBuilder response =
+        ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .varyBy(HttpHeaders.ACCEPT_ENCODING);
+    if (precompressed) {
+      return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip());
+    }
+    return response.body(body.json());
+  }
+
+  private static boolean isDefaultList(BeachSearchRequestDto request) {
+    return !request.hasCompleteRadiusParams() && request.q() == null && request.tag() == null;
+  }
+
+  /**
+   * Accept-Encoding에서 gzip의 q 값이 0보다 큰지 본다. gzip(x-gzip)이 없으면 "*"의 q 값을 따른다. q=0은 거부다
+   * (RFC 9110 12.5.3).
+   */
+  private static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    Double gzip = null;
+    Double any = null;
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.split(";");
+      String name = parts[0].trim().toLowerCase(Locale.ROOT);
+      if (name.equals("gzip") || name.equals("x-gzip")) {
+        gzip = qValue(parts);
+      } else if (name.equals("*")) {
+        any = qValue(parts);
+      }
+    }
+    Double q = gzip != null ? gzip : any;
+    return q != null && q > 0;
+  }
+
+  /** 파라미터 중 q 값. 없으면 1, 읽을 수 없으면 0(거부)으로 본다. */
+  private static double qValue(String[] parts) {
+    for (int i = 1; i < parts.length; i++) {
+      String param = parts[i].trim();
+      if (param.regionMatches(true, 0, "q=", 0, 2)) {
+        try {
+          return Double.parseDouble(param.substring(2).trim());
+        } catch (NumberFormatException e) {
+          return 0;
+        }
+      }
+    }
+    return 1;
   }
 
   // TODO: Add POST endpoint once upstream event ingestion is designed.
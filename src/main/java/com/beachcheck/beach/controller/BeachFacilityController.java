@@ -2,6 +2,7 @@ package com.beachcheck.beach.controller;
 
 import com.beachcheck.beach.dto.BeachFacilityDto;
 import com.beachcheck.beach.service.BeachFacilityService;
+import com.beachcheck.beach.service.BeachResourceVersions;
 import jakarta.validation.constraints.NotNull;
 import java.util.List;
 import java.util.UUID;
@@ -23,10 +24,14 @@ public class BeachFacilityController {
     this.beachFacilityService = beachFacilityService;
   }
 
+  /** 시설 목록. 시설 테이블에는 버전 컬럼이 없어 캐시된 목록 값으로 ETag를 만든다. */
   @GetMapping
   public ResponseEntity<List<BeachFacilityDto>> findFacilities(
       @PathVariable @NotNull UUID beachId) {
-    return ResponseEntity.ok(beachFacilityService.findByBeachId(beachId));
+    List<BeachFacilityDto> facilities = beachFacilityService.findByBeachId(beachId);
+    return ResponseEntity.ok()
+        .eTag(BeachResourceVersions.facilitiesEtag(facilities))
+        .body(facilities);
   }
 
   // TODO: Introduce PATCH endpoint for facility maintenance window updates.
@@ -0,0 +1,18 @@
+package com.beachcheck.beach.domain;
+
+import com.beachcheck.beach.dto.BeachConditionDto;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Why: 상태 수집 스케줄러가 저장한 새 관측값/혼잡 상태를 캐시에 바로 반영해, 만료 후 첫 조회가 DB 재조회 비용을 떠안지 않게 하기 위해.
+ *
+ * <p>Contract(Output): observations는 이번 실행에서 저장한 관측값이다. statusUpdates는 상태가 바뀐 해변만 담는다. 발행 시점에는
+ * 모두 커밋된 상태다.
+ */
+public record BeachConditionsRefreshedEvent(
+    List<BeachConditionDto> observations, List<StatusUpdate> statusUpdates) {
+
+  public record StatusUpdate(UUID beachId, String status, Instant updatedAt) {}
+}
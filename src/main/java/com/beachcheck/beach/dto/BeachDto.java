@@ -54,4 +54,9 @@ public record BeachDto(
   public static BeachDto from(Beach beach) {
     return from(beach, false);
   }
+
+  /** 캐시된 목록에서 혼잡 상태만 바꿀 때 사용한다. 찜 여부 등 나머지 값은 유지한다. */
+  public BeachDto withStatus(String status, Instant updatedAt) {
+    return new BeachDto(id, code, name, status, latitude, longitude, updatedAt, tag, isFavorite);
+  }
 }
@@ -12,15 +12,54 @@ public interface BeachRepository extends JpaRepository<Beach, UUID> {
 
   Optional<Beach> findByCode(String code);
 
-  // @Query("""
-  //   SELECT b FROM Beach b
-  //   WHERE (:q IS NULL OR LOWER(b.name) LIKE LOWER(CONCAT('%', :q, '%')) OR LOWER(b.code) LIKE
-  // LOWER(CONCAT('%', :q, '%')))
-  //     AND (:tag IS NULL OR LOWER(b.tag) = LOWER(:tag))
-  // """)
+  /**
+   * 이름/코드 부분 일치 검색에 태그 조건을 함께 적용하고 관련도 순으로 자른다.
+   *
+   * <p>정렬: 코드/이름 완전 일치 → 접두 일치 → 트라이그램 유사도 → 이름. name/code ILIKE는 pg_trgm GIN 인덱스(V19)로 찾는다.
+   *
+   * @param q 정규화된 검색어 (완전 일치/유사도 계산용)
+   * @param pattern '%q%' (LIKE 특수문자 %, _, !는 '!'로 이스케이프)
+   * @param prefix 'q%' (이스케이프 동일)
+   * @param tag 태그 (대소문자 무시, null이면 조건 없음)
+   * @param limit 최대 결과 수
+   */
+  @Query(
+      value =
+          """
+    SELECT b.*
+    FROM beaches b
+    WHERE (b.name ILIKE :pattern ESCAPE '!' OR b.code ILIKE :pattern ESCAPE '!')
+      AND (CAST(:tag AS text) IS NULL OR LOWER(b.tag) = LOWER(CAST(:tag AS text)))
+    ORDER BY
+        CASE
+            WHEN LOWER(b.code) = LOWER(:q) OR LOWER(b.name) = LOWER(:q) THEN 0
+            WHEN b.name ILIKE :prefix ESCAPE '!' OR b.code ILIKE :prefix ESCAPE '!' THEN 1
+            ELSE 2
+        END,
+        GREATEST(similarity(b.name, :q), similarity(b.code, :q)) DESC,
+        b.name
+    LIMIT :limit
+    """,
+      nativeQuery = true)
+  List<Beach> searchByText(
+      @Param("q") String q,
+      @Param("pattern") String pattern,
+      @Param("prefix") String prefix,
+      @Param("tag") String tag,
+      @Param("limit") int limit);
 
-  // List<Beach> search(@Param("q") String q, @Param("tag") String tag);
-  List<Beach> findByNameContainingIgnoreCaseOrCodeContainingIgnoreCase(String name, String code);
+  /** 태그 단독 검색. LOWER(tag) 인덱스(V19)로 찾는다. */
+  @Query(
+      value =
+          """
+    SELECT b.*
+    FROM beaches b
+    WHERE LOWER(b.tag) = LOWER(:tag)
+    ORDER BY b.name
+    LIMIT :limit
+    """,
+      nativeQuery = true)
+  List<Beach> searchByTag(@Param("tag") String tag, @Param("limit") int limit);
 
   /**
    * 특정 좌표로부터 지정된 반경 내의 해변을 거리순으로 조회
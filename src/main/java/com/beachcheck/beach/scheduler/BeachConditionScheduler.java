@@ -2,16 +2,22 @@ package com.beachcheck.beach.scheduler;
 
 import com.beachcheck.beach.domain.Beach;
 import com.beachcheck.beach.domain.BeachCondition;
+import com.beachcheck.beach.domain.BeachConditionsRefreshedEvent;
+import com.beachcheck.beach.dto.BeachConditionDto;
 import com.beachcheck.beach.repository.BeachConditionRepository;
 import com.beachcheck.beach.repository.BeachRepository;
+import com.beachcheck.beach.service.BeachRegistry;
 import com.beachcheck.external.congestion.CongestionClient;
 import com.beachcheck.external.congestion.CongestionCurrentResponse;
+import com.beachcheck.global.config.EnableSchedulingConfig;
 import java.time.Clock;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -22,29 +28,44 @@ public class BeachConditionScheduler {
 
   private final BeachRepository beachRepository;
   private final BeachConditionRepository beachConditionRepository;
+  private final BeachRegistry beachRegistry;
   private final CongestionClient congestionClient;
+  private final ApplicationEventPublisher eventPublisher;
   private final Clock clock;
   private final String mode;
 
   public BeachConditionScheduler(
       BeachRepository beachRepository,
       BeachConditionRepository beachConditionRepository,
+      BeachRegistry beachRegistry,
       CongestionClient congestionClient,
+      ApplicationEventPublisher eventPublisher,
       Clock clock,
       @Value("${app.congestion.mode:ai}") String mode) {
     this.beachRepository = beachRepository;
     this.beachConditionRepository = beachConditionRepository;
+    this.beachRegistry = beachRegistry;
     this.congestionClient = congestionClient;
+    this.eventPublisher = eventPublisher;
     this.clock = clock;
     this.mode = mode;
   }
 
-  @Scheduled(cron = "0 0/30 * * * *")
+  /**
+   * 저장이 끝나면 이번에 읽은 목록(상태가 바뀐 해변은 저장 결과)으로 BeachRegistry를 다시 만들고, BeachConditionsRefreshedEvent를 발행해
+   * conditionSnapshots/beachSummaries 캐시를 갱신한다.
+   */
+  @Scheduled(cron = "0 0/30 * * * *", scheduler = EnableSchedulingConfig.CONDITIONS)
   public void refreshConditions() {
     log.info("Scheduled condition refresh triggered");
 
+    List<BeachConditionDto> observations = new ArrayList<>();
+    List<BeachConditionsRefreshedEvent.StatusUpdate> statusUpdates = new ArrayList<>();
     List<Beach> beaches = beachRepository.findAll();
-    for (Beach beach : beaches) {
+    // save()는 분리된 엔티티를 병합한 사본을 돌려주므로, registry는 @PreUpdate가 반영된 사본으로 만든다.
+    List<Beach> current = new ArrayList<>(beaches);
+    for (int i = 0; i < beaches.size(); i++) {
+      Beach beach = beaches.get(i);
       String code = beach.getCode();
       if (code == null || code.isBlank()) {
         log.warn("Skip beach with missing code. beachId={}", beach.getId());
@@ -80,14 +101,25 @@ public class BeachConditionScheduler {
       condition.setWeatherSummary(formatWeatherSummary(tempC, rainMm, windMps));
       condition.setObservationPoint(beach.getLocation());
       beachConditionRepository.save(condition);
+      observations.add(BeachConditionDto.from(condition));
 
       String level = resolveLevel(response);
       String status = mapStatus(level);
       if (status != null && !status.equalsIgnoreCase(beach.getStatus())) {
         beach.setStatus(status);
-        beachRepository.save(beach);
+        // updatedAt은 저장 시 @PreUpdate가 정하므로 저장 결과에서 읽는다 (registry/DB와 같은 값).
+        Beach saved = beachRepository.save(beach);
+        current.set(i, saved);
+        statusUpdates.add(
+            new BeachConditionsRefreshedEvent.StatusUpdate(
+                saved.getId(), status, saved.getUpdatedAt()));
       }
     }
+
+    beachRegistry.rebuild(current);
+    if (!observations.isEmpty()) {
+      eventPublisher.publishEvent(new BeachConditionsRefreshedEvent(observations, statusUpdates));
+    }
   }
 
   private String resolveLevel(CongestionCurrentResponse response) {
@@ -0,0 +1,90 @@
+package com.beachcheck.beach.service;
+
+import com.beachcheck.beach.dto.BeachDto;
+import com.beachcheck.global.util.HashUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.stereotype.Component;
+
+/**
+ * Why: 비로그인 GET /api/beaches는 가장 많이 호출되는 API인데, 캐시 히트여도 매 요청 Jackson이 같은 목록을 다시 직렬화하기 때문에.
+ *
+ * <p>Policy:
+ *
+ * <ul>
+ *   <li>beachSummaries의 익명 목록을 UTF-8 JSON 바이트와 gzip 바이트로 한 번만 만들어 두고, 응답에는 바이트를 그대로 쓴다.
+ *   <li>원본 목록 인스턴스가 바뀔 때만 다시 만든다. 상태 변경(BeachCacheUpdater 패치), 캐시 만료 후 재조회, 카탈로그 변경은 모두 새
+ *       목록을 만들므로 별도 무효화 경로가 필요 없다.
+ *   <li>ETag(version)와 Last-Modified는 같은 본문에서 만든다. 레지스트리 버전과 beachSummaries는 따로 갱신되므로, 다른 출처의
+ *       버전을 붙이면 새 ETag에 이전 본문이 나가거나 그 반대가 될 수 있다. 304 판단에도 캐시 조회는 필요하지만 직렬화는 하지 않는다.
+ * </ul>
+ */
+@Component
+public class AnonymousBeachListResponse {
+
+  private final BeachService beachService;
+  private final ObjectMapper objectMapper;
+  private volatile Body body;
+
+  public AnonymousBeachListResponse(BeachService beachService, ObjectMapper objectMapper) {
+    this.beachService = beachService;
+    this.objectMapper = objectMapper;
+  }
+
+  public Body current() {
+    List<BeachDto> beaches = beachService.findAll(null);
+    Body cached = body;
+    if (cached != null && cached.source() == beaches) {
+      return cached;
+    }
+    // 동시에 다시 만들어도 결과가 같으므로 잠그지 않는다.
+    Body rebuilt = Body.of(beaches, serialize(beaches));
+    body = rebuilt;
+    return rebuilt;
+  }
+
+  private byte[] serialize(List<BeachDto> beaches) {
+    try {
+      return objectMapper.writeValueAsBytes(beaches);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Beach list serialization failed", e);
+    }
+  }
+
+  /**
+   * @param version 따옴표 없는 ETag 값. json 바이트의 해시라 노드가 달라도 같은 본문이면 같다
+   * @param lastModified 목록의 최대 updatedAt
+   */
+  public record Body(
+      List<BeachDto> source, byte[] json, byte[] gzip, String version, Instant lastModified) {
+
+    static Body of(List<BeachDto> source, byte[] json) {
+      Instant lastModified =
+          source.stream()
+              .map(BeachDto::updatedAt)
+              .filter(Objects::nonNull)
+              .max(Comparator.naturalOrder())
+              .orElse(Instant.EPOCH);
+      String version = "a-" + HashUtils.sha256Hex(json).substring(0, 16);
+      return new Body(source, json, gzip(json), version, lastModified);
+    }
+
+    private static byte[] gzip(byte[] json) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+      try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+        gzip.write(json);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return out.toByteArray();
+    }
+  }
+}
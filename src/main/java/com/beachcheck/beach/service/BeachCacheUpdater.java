@@ -0,0 +1,115 @@
+package com.beachcheck.beach.service;
+
+import com.beachcheck.beach.domain.BeachConditionsRefreshedEvent;
+import com.beachcheck.beach.dto.BeachConditionDto;
+import com.beachcheck.beach.dto.BeachDto;
+import com.beachcheck.global.cache.TwoLevelCache;
+import com.beachcheck.global.cache.TwoLevelCacheManager;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Why: 스케줄러가 새 관측값과 상태를 저장한 직후에도 캐시가 최대 TTL 동안 이전 값을 주거나, 만료 후 첫 조회가 DB 재조회를 떠안는 일을 없애기
+ * 위해.
+ *
+ * <p>Policy:
+ *
+ * <ul>
+ *   <li>conditionSnapshots: 캐시된 해변 목록에 새 관측값을 observedAt 내림차순으로 끼워 넣고, 조회 기간(24시간)을 벗어난 값은 뺀다.
+ *   <li>beachSummaries: 이 노드와 Redis에 캐시된 모든 목록(익명/사용자별)에서 상태가 바뀐 해변의 status/updatedAt만 바꾼다.
+ *       다른 노드는 로컬 목록만 버리고 패치된 Redis 값을 다시 읽는다.
+ *   <li>캐시에 없는 키는 채우지 않는다. 다음 조회가 원본에서 전체 값을 읽는다.
+ * </ul>
+ *
+ * <p>Contract(Input): 이벤트의 값은 이미 커밋되어 있어야 한다 (스케줄러는 트랜잭션 밖에서 저장 후 발행한다).
+ */
+@Component
+public class BeachCacheUpdater {
+
+  static final String BEACH_SUMMARIES = "beachSummaries";
+
+  private final TwoLevelCacheManager cacheManager;
+  private final Clock clock;
+
+  public BeachCacheUpdater(TwoLevelCacheManager cacheManager, Clock clock) {
+    this.cacheManager = cacheManager;
+    this.clock = clock;
+  }
+
+  @EventListener
+  public void onConditionsRefreshed(BeachConditionsRefreshedEvent event) {
+    updateConditionSnapshots(event.observations());
+    updateBeachSummaries(event.statusUpdates());
+  }
+
+  private void updateConditionSnapshots(List<BeachConditionDto> observations) {
+    TwoLevelCache cache = cacheManager.getCache(BeachConditionService.CONDITION_SNAPSHOTS);
+    if (cache == null || observations.isEmpty()) {
+      return;
+    }
+    Instant threshold = Instant.now(clock).minus(BeachConditionService.DEFAULT_LOOKBACK);
+    Map<UUID, List<BeachConditionDto>> byBeach =
+        observations.stream().collect(Collectors.groupingBy(BeachConditionDto::beachId));
+    byBeach.forEach(
+        (beachId, added) ->
+            cache.updateIfPresent(
+                beachId, cached -> merge(castConditions(cached), added, threshold)));
+  }
+
+  private void updateBeachSummaries(List<BeachConditionsRefreshedEvent.StatusUpdate> updates) {
+    TwoLevelCache cache = cacheManager.getCache(BEACH_SUMMARIES);
+    if (cache == null || updates.isEmpty()) {
+      return;
+    }
+    Map<UUID, BeachConditionsRefreshedEvent.StatusUpdate> byBeach = new LinkedHashMap<>();
+    updates.forEach(update -> byBeach.put(update.beachId(), update));
+    cache.updateAllPresent(cached -> patchStatuses(castBeaches(cached), byBeach));
+  }
+
+  private static Object merge(
+      List<BeachConditionDto> cached, List<BeachConditionDto> added, Instant threshold) {
+    if (cached == null) {
+      return null;
+    }
+    Map<UUID, BeachConditionDto> byId = new LinkedHashMap<>();
+    Stream.concat(added.stream(), cached.stream())
+        .filter(condition -> condition.observedAt().isAfter(threshold))
+        .forEach(condition -> byId.putIfAbsent(condition.id(), condition));
+    return byId.values().stream()
+        .sorted(Comparator.comparing(BeachConditionDto::observedAt).reversed())
+        .toList();
+  }
+
+  private static Object patchStatuses(
+      List<BeachDto> cached, Map<UUID, BeachConditionsRefreshedEvent.StatusUpdate> byBeach) {
+    if (cached == null || cached.stream().noneMatch(beach -> byBeach.containsKey(beach.id()))) {
+      return cached;
+    }
+    return cached.stream()
+        .map(
+            beach -> {
+              BeachConditionsRefreshedEvent.StatusUpdate update = byBeach.get(beach.id());
+              return update == null ? beach : beach.withStatus(update.status(), update.updatedAt());
+            })
+        .toList();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<BeachConditionDto> castConditions(Object cached) {
+    return (List<BeachConditionDto>) cached;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<BeachDto> castBeaches(Object cached) {
+    return (List<BeachDto>) cached;
+  }
+}
@@ -0,0 +1,133 @@
+package com.beachcheck.beach.service;
+
+import com.beachcheck.beach.dto.BeachDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Why: 배포/스케일아웃 직후 캐시가 모두 비어 있는 노드가 트래픽을 받으면 해변 목록, 시설, 최근 관측값 조회가 한꺼번에 DB로 몰려 p99가 튀기
+ * 때문에.
+ *
+ * <p>Policy:
+ *
+ * <ul>
+ *   <li>ApplicationRunner로 실행한다. Boot는 러너가 끝난 뒤에 readiness를 ACCEPTING_TRAFFIC으로 바꾸므로, 예열이 끝날 때까지
+ *       readiness probe는 REFUSING_TRAFFIC을 보고한다. liveness와 관리 포트는 영향을 받지 않는다.
+ *   <li>해변 목록(익명 키)을 먼저 채우고, 해변별 시설/최근 관측값은 parallelism 크기의 전용 풀에서 병렬로 채운다. 서비스 프록시를 거쳐
+ *       조회하므로 @Cacheable이 값을 저장한다.
+ *   <li>timeout이 지나면 남은 작업을 취소하고 기동을 계속한다. 개별 실패는 건너뛴다 (해당 키는 첫 조회 때 채워진다).
+ *   <li>진행률은 cache.warmup.tasks(전체)/cache.warmup.tasks.completed/cache.warmup.tasks.failed 게이지와
+ *       cache.warmup.duration 타이머로 노출한다.
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(
+    prefix = "app.cache.warmup",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = false)
+public class BeachCacheWarmer implements ApplicationRunner {
+
+  private static final Logger log = LoggerFactory.getLogger(BeachCacheWarmer.class);
+
+  private final BeachService beachService;
+  private final BeachFacilityService beachFacilityService;
+  private final BeachConditionService beachConditionService;
+  private final CacheWarmupProperties properties;
+  private final AtomicInteger total = new AtomicInteger();
+  private final AtomicInteger completed = new AtomicInteger();
+  private final AtomicInteger failed = new AtomicInteger();
+  private final Timer duration;
+
+  public BeachCacheWarmer(
+      BeachService beachService,
+      BeachFacilityService beachFacilityService,
+      BeachConditionService beachConditionService,
+      CacheWarmupProperties properties,
+      MeterRegistry meterRegistry) {
+    this.beachService = beachService;
+    this.beachFacilityService = beachFacilityService;
+    this.beachConditionService = beachConditionService;
+    this.properties = properties;
+    meterRegistry.gauge("cache.warmup.tasks", total);
+    meterRegistry.gauge("cache.warmup.tasks.completed", completed);
+    meterRegistry.gauge("cache.warmup.tasks.failed", failed);
+    this.duration = meterRegistry.timer("cache.warmup.duration");
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    duration.record(this::warmUp);
+  }
+
+  void warmUp() {
+    long started = System.nanoTime();
+    total.set(1);
+    List<BeachDto> beaches;
+    try {
+      beaches = beachService.findAll(null);
+      completed.incrementAndGet();
+    } catch (RuntimeException e) {
+      failed.incrementAndGet();
+      log.warn("Cache warm-up skipped: beach snapshot load failed", e);
+      return;
+    }
+
+    List<Callable<Void>> tasks = new ArrayList<>();
+    for (BeachDto beach : beaches) {
+      UUID beachId = beach.id();
+      tasks.add(task("facilities", beachId, () -> beachFacilityService.findByBeachId(beachId)));
+      tasks.add(
+          task("conditions", beachId, () -> beachConditionService.findRecentConditions(beachId)));
+    }
+    total.addAndGet(tasks.size());
+
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            Math.max(1, properties.getParallelism()),
+            new CustomizableThreadFactory("cache-warmup-"));
+    try {
+      // invokeAll은 timeout이 지나면 끝나지 않은 작업을 취소한다.
+      executor.invokeAll(tasks, properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      executor.shutdownNow();
+    }
+
+    log.info(
+        "Cache warm-up finished completed={}/{} failed={} elapsed={}ms",
+        completed.get(),
+        total.get(),
+        failed.get(),
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+  }
+
+  private Callable<Void> task(String kind, UUID beachId, Runnable load) {
+    return () -> {
+      try {
+        load.run();
+        completed.incrementAndGet();
+      } catch (RuntimeException e) {
+        failed.incrementAndGet();
+        log.debug("Cache warm-up failed kind={} beachId={}", kind, beachId, e);
+      }
+      return null;
+    };
+  }
+}
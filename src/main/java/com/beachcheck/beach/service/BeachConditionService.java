@@ -15,7 +15,9 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class BeachConditionService {
 
-  private static final Duration DEFAULT_LOOKBACK = Duration.ofHours(24);
+  static final String CONDITION_SNAPSHOTS = "conditionSnapshots";
+
+  static final Duration DEFAULT_LOOKBACK = Duration.ofHours(24);
   private static final String SORT_OBSERVED_AT = "observedAt";
 
   private final BeachConditionRepository beachConditionRepository;
@@ -24,8 +26,17 @@ public class BeachConditionService {
     this.beachConditionRepository = beachConditionRepository;
   }
 
-  @Cacheable(value = "conditionSnapshots", key = "#beachId")
+  /**
+   * 캐시 항목은 refresh-after-write가 지나면 기존 값을 반환하면서 백그라운드에서 갱신된다({@link
+   * ConditionSnapshotReloader}). sync=true로 같은 해변의 동시 미스는 한 번만 조회한다.
+   */
+  @Cacheable(value = CONDITION_SNAPSHOTS, key = "#beachId", sync = true)
   public List<BeachConditionDto> findRecentConditions(UUID beachId) {
+    return loadRecentConditions(beachId);
+  }
+
+  /** 캐시를 거치지 않고 최근 관측값을 조회한다. 캐시 재계산 전용이다. */
+  public List<BeachConditionDto> loadRecentConditions(UUID beachId) {
     Instant threshold = Instant.now().minus(DEFAULT_LOOKBACK);
     return beachConditionRepository
         .findByBeachIdAndObservedAtAfter(
@@ -23,7 +23,7 @@ public class BeachFacilityService {
     this.beachFacilityRepository = beachFacilityRepository;
   }
 
-  @Cacheable(value = "facilitySummaries", key = "#beachId")
+  @Cacheable(value = "facilitySummaries", key = "#beachId", sync = true)
   public List<BeachFacilityDto> findByBeachId(UUID beachId) {
     Sort sort = Sort.by(Sort.Order.asc(SORT_FACILITY_NAME).ignoreCase());
     return beachFacilityRepository.findByBeachId(beachId, sort).stream().map(this::toDto).toList();
@@ -0,0 +1,128 @@
+package com.beachcheck.beach.service;
+
+import com.beachcheck.beach.domain.Beach;
+import com.beachcheck.beach.repository.BeachRepository;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * Why: 해변 카탈로그는 작고 거의 바뀌지 않는데, 찜 추가/예약 내보내기 같은 쓰기 경로마다 존재 확인용 PK 조회가 DB로 가기 때문에.
+ *
+ * <p>Policy:
+ *
+ * <ul>
+ *   <li>id/code로 찾는 불변 스냅샷을 volatile 참조 하나로 들고, 갱신은 새 스냅샷을 만들어 통째로 교체한다(copy-on-write). 읽기는
+ *       잠금 없이 한 스냅샷만 본다.
+ *   <li>첫 조회 때 전체를 읽고, 이후에는 상태 수집 스케줄러가 매 실행마다 읽는 목록(상태 반영 후)으로 다시 만든다. 다시 만드는 것은
+ *       스케줄러가 도는 이 노드뿐이다. 다른 노드에서 바뀐 상태나 DB를 직접 고친 값은 이 노드의 다음 스케줄러 실행(30분)이나
+ *       {@link #exists} 미스 전까지 반영되지 않으므로 응답 본문이나 ETag의 근거로 쓰지 않는다.
+ *   <li>교체(rebuild/reload)는 한 잠금으로 직렬화해 더 오래된 목록이 나중에 교체하지 않게 한다.
+ *   <li>{@link #exists}는 스냅샷에 없으면 DB로 확인하고, DB에 있으면 카탈로그가 바뀐 것으로 보고 다시 읽는다.
+ *   <li>좌표는 Point 대신 double 두 개로 보관한다.
+ * </ul>
+ */
+@Component
+public class BeachRegistry {
+
+  private final BeachRepository beachRepository;
+  private volatile Snapshot snapshot;
+
+  public BeachRegistry(BeachRepository beachRepository) {
+    this.beachRepository = beachRepository;
+  }
+
+  public Optional<Entry> findById(UUID id) {
+    return Optional.ofNullable(snapshot().byId().get(id));
+  }
+
+  public Optional<Entry> findByCode(String code) {
+    return Optional.ofNullable(snapshot().byCode().get(code));
+  }
+
+  public List<Entry> all() {
+    return snapshot().entries();
+  }
+
+  /** 해변 존재 여부. 스냅샷에 없을 때만 DB를 조회한다. */
+  public boolean exists(UUID id) {
+    if (snapshot().byId().containsKey(id)) {
+      return true;
+    }
+    if (!beachRepository.existsById(id)) {
+      return false;
+    }
+    reload();
+    return true;
+  }
+
+  /**
+   * 이미 읽은 엔티티 목록으로 스냅샷을 교체한다. 추가 조회는 하지 않는다. {@link #reload}와 같은 잠금으로 직렬화하므로, findAll을
+   * 먼저 읽은 reload가 더 늦게 교체해 이 목록을 덮어쓰는 일은 없다.
+   */
+  public synchronized void rebuild(Collection<Beach> beaches) {
+    snapshot = Snapshot.of(beaches.stream().map(Entry::from).toList());
+  }
+
+  public synchronized void reload() {
+    rebuild(beachRepository.findAll());
+  }
+
+  private Snapshot snapshot() {
+    Snapshot current = snapshot;
+    if (current != null) {
+      return current;
+    }
+    synchronized (this) {
+      if (snapshot == null) {
+        reload();
+      }
+      return snapshot;
+    }
+  }
+
+  public record Entry(
+      UUID id,
+      String code,
+      String name,
+      String status,
+      double latitude,
+      double longitude,
+      Instant updatedAt) {
+
+    static Entry from(Beach beach) {
+      double latitude = 0.0;
+      double longitude = 0.0;
+      if (beach.getLocation() != null) {
+        latitude = beach.getLocation().getY();
+        longitude = beach.getLocation().getX();
+      }
+      return new Entry(
+          beach.getId(),
+          beach.getCode(),
+          beach.getName(),
+          beach.getStatus(),
+          latitude,
+          longitude,
+          beach.getUpdatedAt());
+    }
+  }
+
+  private record Snapshot(List<Entry> entries, Map<UUID, Entry> byId, Map<String, Entry> byCode) {
+
+    static Snapshot of(List<Entry> entries) {
+      return new Snapshot(
+          entries,
+          entries.stream().collect(Collectors.toUnmodifiableMap(Entry::id, Function.identity())),
+          entries.stream()
+              .filter(entry -> entry.code() != null)
+              .collect(Collectors.toUnmodifiableMap(Entry::code, Function.identity())));
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package com.beachcheck.beach.service;
+
+import com.beachcheck.beach.dto.BeachConditionDto;
+import com.beachcheck.beach.dto.BeachDto;
+import com.beachcheck.beach.dto.BeachFacilityDto;
+import com.beachcheck.global.util.HashUtils;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Why: 읽기 API의 조건부 GET(If-None-Match → 304)으로 바뀌지 않은 응답의 직렬화와 전송을 건너뛰기 위해.
+ *
+ * <p>Policy:
+ *
+ * <ul>
+ *   <li>ETag는 응답 본문을 만든 값에서 만든다. 노드 로컬 상태(BeachRegistry 등)로 만들면 다른 노드의 상태 변경이나 DB 직접 수정으로
+ *       본문이 바뀌어도 ETag가 그대로여서 잘못된 304를 준다.
+ *   <li>해변 목록/검색/반경 결과는 내보내는 DTO 목록(찜 여부 포함, 순서 유지)의 값 해시를 쓴다. 비로그인 전체 목록은 내보내는 본문의
+ *       해시({@link AnonymousBeachListResponse.Body#version()})를 쓴다.
+ *   <li>관측값은 가장 최근/오래된 observedAt과 건수, 시설은 버전 컬럼이 없으므로 DTO 목록 값의 SHA-256으로 만든다. 32비트
+ *       hashCode는 충돌 시 바뀐 시설 목록에 304를 줄 수 있어 쓰지 않는다.
+ * </ul>
+ *
+ * <p>Contract(Output): 모두 약한 ETag. 서버 gzip(Tomcat)은 강한 ETag가 붙은 응답을 압축하지 않으므로, Tomcat이 압축할 수 있는
+ * 응답에는 {@link #weak}로 감싼 약한 ETag를 쓴다. 인코딩만 다른 표현은 약한 비교에서 같은 것으로 본다.
+ */
+public final class BeachResourceVersions {
+
+  private BeachResourceVersions() {}
+
+  /** 해변 목록/검색 결과의 약한 ETag. */
+  public static String beachListEtag(List<BeachDto> beaches) {
+    return weak(
+        "b-"
+            + hashOf(
+                beaches.stream()
+                    .map(
+                        beach ->
+                            String.join(
+                                "|",
+                                String.valueOf(beach.id()),
+                                beach.code(),
+                                beach.name(),
+                                beach.status(),
+                                String.valueOf(beach.latitude()),
+                                String.valueOf(beach.longitude()),
+                                String.valueOf(beach.updatedAt()),
+                                beach.tag(),
+                                String.valueOf(beach.isFavorite())))
+                    .toList()));
+  }
+
+  /** 최근 관측값 목록의 약한 ETag. */
+  public static String conditionsEtag(List<BeachConditionDto> conditions) {
+    if (conditions.isEmpty()) {
+      return weak("c-empty");
+    }
+    return weak(
+        "c-"
+            + latestObservedAt(conditions).map(Instant::toEpochMilli).orElse(0L)
+            + "-"
+            + conditions.stream()
+                .map(BeachConditionDto::observedAt)
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder())
+                .map(Instant::toEpochMilli)
+                .orElse(0L)
+            + "-"
+            + conditions.size());
+  }
+
+  public static Optional<Instant> latestObservedAt(List<BeachConditionDto> conditions) {
+    return conditions.stream()
+        .map(BeachConditionDto::observedAt)
+        .filter(Objects::nonNull)
+        .max(Comparator.naturalOrder());
+  }
+
+  /** 시설 목록의 약한 ETag. */
+  public static String facilitiesEtag(List<BeachFacilityDto> facilities) {
+    return weak(
+        "f-"
+            + hashOf(
+                facilities.stream()
+                    .map(
+                        facility ->
+                            String.join(
+                                "|",
+                                String.valueOf(facility.id()),
+                                String.valueOf(facility.beachId()),
+                                facility.name(),
+                                facility.category(),
+                                String.valueOf(facility.latitude()),
+                                String.valueOf(facility.longitude())))
+                    .toList()));
+  }
+
+  /** 약한 ETag 값(W/"...")으로 감싼다. If-None-Match는 약한 비교이므로 304 판단은 그대로 된다. */
+  public static String weak(String version) {
+    return "W/\"" + version + "\"";
+  }
+
+  /** 행 목록의 SHA-256 앞 16자리. 순서가 다르면 본문도 다르므로 정렬하지 않는다. */
+  private static String hashOf(List<String> rows) {
+    return HashUtils.sha256Hex(rows.stream().collect(Collectors.joining("\n"))).substring(0, 16);
+  }
+}
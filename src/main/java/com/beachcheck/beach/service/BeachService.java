@@ -17,6 +17,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class BeachService {
 
+  static final int SEARCH_LIMIT = 50;
+
   private final BeachRepository beachRepository;
   private final UserFavoriteService favoriteService;
 
@@ -25,7 +27,7 @@ public class BeachService {
     this.favoriteService = favoriteService;
   }
 
-  @Cacheable(value = "beachSummaries", key = "'user:' + (#user?.id ?: 'anonymous')")
+  @Cacheable(value = "beachSummaries", key = "'user:' + (#user?.id ?: 'anonymous')", sync = true)
   public List<BeachDto> findAll(User user) {
     return toBeachDtoList(beachRepository.findAll(), user);
   }
@@ -51,27 +53,35 @@ public class BeachService {
     }
   }
 
-  // 대소문자 구분없이 검색
+  /**
+   * 해변 검색 (대소문자 구분 없음)
+   *
+   * <p>Why: 부분 일치 검색이 전체 스캔이 되고, 태그 필터가 조회 후 Java에서 적용되어 카탈로그가 커질수록 비용이 늘기 때문에. Policy: 검색어가
+   * 있으면 이름/코드 트라이그램 인덱스 + 태그 조건을 한 쿼리로 적용해 관련도 순으로, 태그만 있으면 태그 인덱스로 조회한다. 둘 다 없으면 전체
+   * 목록. Contract(Output): 검색 결과는 최대 {@value #SEARCH_LIMIT}건.
+   */
   public List<BeachDto> search(String q, String tag, User user) {
     String qq = (q == null || q.isBlank()) ? null : q.trim();
     String tt = (tag == null || tag.isBlank()) ? null : tag.trim();
 
     List<Beach> rows;
-    if (qq == null) {
-      rows = beachRepository.findAll();
+    if (qq != null) {
+      String escaped = escapeLike(qq);
+      rows = beachRepository.searchByText(qq, "%" + escaped + "%", escaped + "%", tt, SEARCH_LIMIT);
+    } else if (tt != null) {
+      rows = beachRepository.searchByTag(tt, SEARCH_LIMIT);
     } else {
-      // 태그 검사는 stream단계에서 뒤늦게
-      rows = beachRepository.findByNameContainingIgnoreCaseOrCodeContainingIgnoreCase(qq, qq);
-    }
-
-    if (tt != null) {
-      rows =
-          rows.stream().filter(b -> b.getTag() != null && b.getTag().equalsIgnoreCase(tt)).toList();
+      rows = beachRepository.findAll();
     }
 
     return toBeachDtoList(rows, user);
   }
 
+  /** LIKE 패턴 특수문자를 검색어 그대로 일치하도록 이스케이프한다 (ESCAPE '!'). */
+  static String escapeLike(String value) {
+    return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+  }
+
   /**
    * 특정 위치로부터 반경 내 해변 검색
    *
@@ -0,0 +1,34 @@
+package com.beachcheck.beach.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Why: 기동 시 캐시 예열이 readiness를 막는 최대 시간과 DB 동시 조회 수를 환경별로 조정하기 위해.
+ *
+ * <p>Policy: parallelism은 커넥션 풀보다 작게 둔다. timeout이 지나면 남은 예열은 취소하고 기동을 계속한다.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.cache.warmup")
+public class CacheWarmupProperties {
+
+  private Duration timeout = Duration.ofSeconds(30);
+  private int parallelism = 4;
+
+  public Duration getTimeout() {
+    return timeout;
+  }
+
+  public void setTimeout(Duration timeout) {
+    this.timeout = timeout;
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  public void setParallelism(int parallelism) {
+    this.parallelism = parallelism;
+  }
+}
@@ -0,0 +1,32 @@
+package com.beachcheck.beach.service;
+
+import com.beachcheck.global.cache.CacheReloader;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+/**
+ * Why: 인기 해변의 conditionSnapshots 항목이 만료될 때 다음 요청이 24시간 조회 비용을 동기로 떠안지 않도록, 만료 전에 백그라운드에서 다시
+ * 계산하기 위해.
+ *
+ * <p>Policy: 캐시 프록시를 거치지 않는 {@link BeachConditionService#loadRecentConditions}를 호출한다. 서비스 프록시를 통해
+ * 호출하므로 읽기 전용 트랜잭션이 적용된다.
+ */
+@Component
+public class ConditionSnapshotReloader implements CacheReloader {
+
+  private final BeachConditionService beachConditionService;
+
+  public ConditionSnapshotReloader(BeachConditionService beachConditionService) {
+    this.beachConditionService = beachConditionService;
+  }
+
+  @Override
+  public String cacheName() {
+    return BeachConditionService.CONDITION_SNAPSHOTS;
+  }
+
+  @Override
+  public Object reload(String key) {
+    return beachConditionService.loadRecentConditions(UUID.fromString(key));
+  }
+}
@@ -1,5 +1,8 @@
 package com.beachcheck.external.congestion;
 
+import com.beachcheck.global.concurrency.ConcurrencyLimitExceededException;
+import com.beachcheck.global.concurrency.ConcurrencyLimiter;
+import com.beachcheck.global.concurrency.ConcurrencyLimiters;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,11 +15,14 @@ public class CongestionClient {
 
   private static final Logger log = LoggerFactory.getLogger(CongestionClient.class);
   private final RestClient restClient;
+  private final ConcurrencyLimiter limiter;
 
   public CongestionClient(
       @Value("${app.congestion.base-url}") String baseUrl,
       RestClient.Builder builder,
-      CongestionInterceptor sigV4Interceptor) {
+      CongestionInterceptor sigV4Interceptor,
+      ConcurrencyLimiters limiters) {
+    this.limiter = limiters.get(ConcurrencyLimiters.CONGESTION_API);
     this.restClient =
         builder
             .baseUrl(baseUrl)
@@ -26,14 +32,19 @@ public class CongestionClient {
 
   public CongestionCurrentResponse fetchCurrent(String beachCode) {
     try {
-      return restClient
-          .get()
-          .uri(
-              uriBuilder ->
-                  uriBuilder.path("/congestion/current").queryParam("beach_id", beachCode).build())
-          .retrieve()
-          .body(CongestionCurrentResponse.class);
-    } catch (RestClientException ex) {
+      return limiter.execute(
+          () ->
+              restClient
+                  .get()
+                  .uri(
+                      uriBuilder ->
+                          uriBuilder
+                              .path("/congestion/current")
+                              .queryParam("beach_id", beachCode)
+                              .build())
+                  .retrieve()
+                  .body(CongestionCurrentResponse.class));
+    } catch (RestClientException | ConcurrencyLimitExceededException ex) {
       // SdkClientException(자격증명 오류 등)은 의도적으로 잡지 않는다.
       // 자격증명 문제는 모든 해변이 동일하게 실패하는 환경 문제이므로,
       // 첫 해변에서 스케줄러를 중단하는 hard-fail이 정책이다.
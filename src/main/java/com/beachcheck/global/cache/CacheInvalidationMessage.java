@@ -0,0 +1,36 @@
+package com.beachcheck.global.cache;
+
+/**
+ * Why: 한 노드의 evict/put/clear를 다른 노드의 로컬(Caffeine) 캐시에 전달하기 위한 pub/sub 메시지.
+ *
+ * <p>Contract(Output): "origin|op|cache|key" 형식 문자열. key는 마지막 필드라 '|'를 포함해도 된다. CLEAR는 key가 비어 있다.
+ */
+public record CacheInvalidationMessage(String origin, Op op, String cacheName, String key) {
+
+  private static final String SEPARATOR = "|";
+
+  public enum Op {
+    EVICT,
+    CLEAR
+  }
+
+  public static CacheInvalidationMessage evict(String origin, String cacheName, String key) {
+    return new CacheInvalidationMessage(origin, Op.EVICT, cacheName, key);
+  }
+
+  public static CacheInvalidationMessage clear(String origin, String cacheName) {
+    return new CacheInvalidationMessage(origin, Op.CLEAR, cacheName, "");
+  }
+
+  public String encode() {
+    return String.join(SEPARATOR, origin, op.name(), cacheName, key);
+  }
+
+  public static CacheInvalidationMessage decode(String encoded) {
+    String[] parts = encoded.split("\\|", 4);
+    if (parts.length != 4) {
+      throw new IllegalArgumentException("Invalid cache invalidation message: " + encoded);
+    }
+    return new CacheInvalidationMessage(parts[0], Op.valueOf(parts[1]), parts[2], parts[3]);
+  }
+}
@@ -0,0 +1,18 @@
+package com.beachcheck.global.cache;
+
+/**
+ * Why: refreshAfterWrite로 만료 전에 값을 백그라운드에서 다시 계산하려면, 캐시가 @Cacheable 프록시를 거치지 않고 원본 조회를 직접 호출할 수
+ * 있어야 하기 때문에.
+ *
+ * <p>Contract(Input): key는 TwoLevelCache가 정규화한 문자열 키다(예: 해변 UUID 문자열).
+ *
+ * <p>Contract(Output): 캐시에 저장할 값을 반환한다. 예외를 던지면 기존 값을 계속 쓰고 다음 조회 때 다시 시도한다.
+ */
+public interface CacheReloader {
+
+  /** 이 로더가 담당하는 캐시 이름. */
+  String cacheName();
+
+  /** 캐시를 거치지 않고 key의 값을 다시 계산한다. 호출 스레드는 캐시의 백그라운드 스레드다. */
+  Object reload(String key);
+}
@@ -0,0 +1,129 @@
+package com.beachcheck.global.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Why: 캐시마다 데이터 변경 주기와 키 분포가 달라(시설은 거의 불변, 상태는 30분 주기, 요약은 사용자별), 크기/TTL을 캐시별로 정하기 위해.
+ *
+ * <p>Policy:
+ *
+ * <ul>
+ *   <li>specs에 없는 캐시는 기본값(maximumSize 1000, ttl 10분)을 쓴다.
+ *   <li>maximumWeight를 지정하면 maximumSize 대신 값의 원소 수(컬렉션 크기) 합으로 제한한다.
+ *   <li>ttl은 로컬(Caffeine)과 Redis 값에 함께 적용한다.
+ *   <li>refreshAfterWrite는 재계산 로직(CacheReloader)이 등록된 캐시에서만 쓸 수 있다.
+ *   <li>loadTimeout은 같은 키의 동시 미스가 먼저 시작된 로드를 기다리는 최대 시간, staleTtl은 로드 실패/대기 초과 때 대신 줄 마지막 값을
+ *       만료 후에도 보관하는 기간이다. 둘 다 없으면 무제한 대기, stale 대체 없음.
+ *   <li>refreshAfterWrite 재계산은 refresh.poolSize 크기의 전용 풀에서 돈다. 대기 큐(refresh.queueCapacity)가 차면 그
+ *       재계산은 건너뛰고 기존 값을 계속 준다.
+ * </ul>
+ */
+@Component
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheSpecProperties {
+
+  private Map<String, Spec> specs = new LinkedHashMap<>();
+  private Refresh refresh = new Refresh();
+
+  public Map<String, Spec> getSpecs() {
+    return specs;
+  }
+
+  public void setSpecs(Map<String, Spec> specs) {
+    this.specs = specs;
+  }
+
+  public Refresh getRefresh() {
+    return refresh;
+  }
+
+  public void setRefresh(Refresh refresh) {
+    this.refresh = refresh;
+  }
+
+  public Spec specFor(String cacheName) {
+    return specs.getOrDefault(cacheName, new Spec());
+  }
+
+  public static class Refresh {
+    private int poolSize = 2;
+    private int queueCapacity = 500;
+
+    public int getPoolSize() {
+      return poolSize;
+    }
+
+    public void setPoolSize(int poolSize) {
+      this.poolSize = poolSize;
+    }
+
+    public int getQueueCapacity() {
+      return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+      this.queueCapacity = queueCapacity;
+    }
+  }
+
+  public static class Spec {
+    private Long maximumSize;
+    private Long maximumWeight;
+    private Duration ttl = Duration.ofMinutes(10);
+    private Duration refreshAfterWrite;
+    private Duration loadTimeout;
+    private Duration staleTtl;
+
+    public Long getMaximumSize() {
+      return maximumSize;
+    }
+
+    public void setMaximumSize(Long maximumSize) {
+      this.maximumSize = maximumSize;
+    }
+
+    public Long getMaximumWeight() {
+      return maximumWeight;
+    }
+
+    public void setMaximumWeight(Long maximumWeight) {
+      this.maximumWeight = maximumWeight;
+    }
+
+    public Duration getTtl() {
+      return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+      this.ttl = ttl;
+    }
+
+    public Duration getRefreshAfterWrite() {
+      return refreshAfterWrite;
+    }
+
+    public void setRefreshAfterWrite(Duration refreshAfterWrite) {
+      this.refreshAfterWrite = refreshAfterWrite;
+    }
+
+    public Duration getLoadTimeout() {
+      return loadTimeout;
+    }
+
+    public void setLoadTimeout(Duration loadTimeout) {
+      this.loadTimeout = loadTimeout;
+    }
+
+    public Duration getStaleTtl() {
+      return staleTtl;
+    }
+
+    public void setStaleTtl(Duration staleTtl) {
+      this.staleTtl = staleTtl;
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package com.beachcheck.global.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import java.io.IOException;
+
+/**
+ * Why: Redis에 저장하는 캐시 값을 JDK 직렬화나 타입 정보가 붙은 JSON보다 작게 만들기 위해.
+ *
+ * <p>Policy: Jackson Smile(바이너리 JSON)로 직렬화하고, 타입 정보는 값에 넣지 않고 캐시별로 선언한 JavaType으로 읽는다.
+ *
+ * <p>Contract(Output): 읽기 실패는 IOException으로 알린다. 호출자는 캐시 미스로 처리한다.
+ */
+public class CacheValueSerializer {
+
+  private final ObjectMapper mapper = SmileMapper.builder().findAndAddModules().build();
+
+  public byte[] serialize(Object value) throws IOException {
+    return mapper.writeValueAsBytes(value);
+  }
+
+  public Object deserialize(byte[] bytes, JavaType type) throws IOException {
+    return mapper.readValue(bytes, type);
+  }
+
+  public TypeFactory getTypeFactory() {
+    return mapper.getTypeFactory();
+  }
+}
@@ -0,0 +1,268 @@
+package com.beachcheck.global.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+/**
+ * Why: 여러 노드가 같은 캐시 값을 공유해 배포 직후 노드마다 DB에서 다시 읽는 일을 줄이고, 변경을 모든 노드의 로컬 캐시에 전파하기 위해.
+ *
+ * <p>Policy:
+ *
+ * <ul>
+ *   <li>값은 "{keyPrefix}{cache}::{key}"에 캐시별 ttl로 저장한다. NullValue는 저장하지 않는다.
+ *   <li>put/evict/clear/updateAll 후 invalidation 채널에 발행해 다른 노드가 로컬 값을 버리게 한다 (다음 조회는 Redis에서 읽는다).
+ *   <li>Redis 오류가 나면 retryInterval 동안 Redis를 건너뛰고 로컬 캐시만으로 동작한다. 오류는 장애 구간당 한 번만 WARN으로 남긴다.
+ *   <li>장애 구간에 실패하거나 건너뛴 put/evict/clear/updateAll은 캐시별로 기억했다가 복구 직후 evict/clear로 다시 보낸다. 그러지 않으면
+ *       Redis와 다른 노드의 로컬 캐시에 변경 전 값이 ttl까지 남는다. 캐시별로 maxPendingEvicts를 넘으면 키 대신 캐시 전체를 지운다.
+ * </ul>
+ */
+public class RedisCacheTier {
+
+  private static final Logger log = LoggerFactory.getLogger(RedisCacheTier.class);
+  private static final String KEY_SEPARATOR = "::";
+  private static final Set<String> CLEAR_ALL = Collections.emptySet();
+
+  private final RedisTemplate<String, byte[]> redisTemplate;
+  private final CacheValueSerializer serializer;
+  private final TwoLevelCacheProperties properties;
+  private final String nodeId = UUID.randomUUID().toString();
+  private volatile long suspendedUntilNanos;
+  private volatile boolean suspended;
+  // 캐시 이름 -> 장애 중 반영하지 못한 키. CLEAR_ALL이면 캐시 전체를 지운다.
+  private final ConcurrentMap<String, Set<String>> missedInvalidations = new ConcurrentHashMap<>();
+
+  public RedisCacheTier(
+      RedisTemplate<String, byte[]> redisTemplate,
+      CacheValueSerializer serializer,
+      TwoLevelCacheProperties properties) {
+    this.redisTemplate = redisTemplate;
+    this.serializer = serializer;
+    this.properties = properties;
+  }
+
+  public String getNodeId() {
+    return nodeId;
+  }
+
+  public boolean isAvailable() {
+    return !suspended || System.nanoTime() - suspendedUntilNanos >= 0;
+  }
+
+  public Object get(String cacheName, String key, JavaType type) {
+    byte[] bytes = call("get", () -> redisTemplate.opsForValue().get(redisKey(cacheName, key)));
+    if (bytes == null) {
+      return null;
+    }
+    try {
+      return serializer.deserialize(bytes, type);
+    } catch (Exception e) {
+      // 형식이 바뀐 이전 값 등은 미스로 처리하고 로더가 새 값으로 덮어쓴다.
+      log.debug("Cache value unreadable, treating as miss. cache={}, key={}", cacheName, key, e);
+      return null;
+    }
+  }
+
+  public void put(String cacheName, String key, Object value, Duration ttl) {
+    if (value == null || value instanceof NullValue) {
+      return;
+    }
+    byte[] bytes;
+    try {
+      bytes = serializer.serialize(value);
+    } catch (Exception e) {
+      log.warn("Cache value not serializable, kept local only. cache={}, key={}", cacheName, key);
+      return;
+    }
+    boolean written =
+        run(
+            "put",
+            () -> {
+              redisTemplate.opsForValue().set(redisKey(cacheName, key), bytes, ttl);
+              publish(CacheInvalidationMessage.evict(nodeId, cacheName, key));
+            });
+    if (!written) {
+      recordMissedEvict(cacheName, key);
+    }
+  }
+
+  public void evict(String cacheName, String key) {
+    boolean evicted =
+        run(
+            "evict",
+            () -> {
+              redisTemplate.delete(redisKey(cacheName, key));
+              publish(CacheInvalidationMessage.evict(nodeId, cacheName, key));
+            });
+    if (!evicted) {
+      recordMissedEvict(cacheName, key);
+    }
+  }
+
+  public void clear(String cacheName) {
+    boolean cleared =
+        run(
+            "clear",
+            () -> {
+              List<String> keys = scanKeys(cacheName);
+              if (!keys.isEmpty()) {
+                redisTemplate.delete(keys);
+              }
+              publish(CacheInvalidationMessage.clear(nodeId, cacheName));
+            });
+    if (!cleared) {
+      missedInvalidations.put(cacheName, CLEAR_ALL);
+    }
+  }
+
+  /**
+   * Redis에 있는 cacheName의 모든 값에 update를 적용해 키별로 다시 쓰고, 다른 노드에는 로컬 값만 버리라고(clear) 발행한다. 다른
+   * 노드는 다음 조회에서 패치된 Redis 값을 읽는다. update가 같은 인스턴스를 돌려주면 쓰지 않고, 읽는 사이 evict된 키는 되살리지
+   * 않도록 키가 남아 있을 때만 쓴다. 읽거나 패치할 수 없는 값은 지운다. 장애로 끝내지 못하면 복구 때 캐시 전체를 지운다.
+   */
+  public void updateAll(
+      String cacheName, JavaType type, Duration ttl, UnaryOperator<Object> update) {
+    boolean updated =
+        run(
+            "update",
+            () -> {
+              for (String redisKey : scanKeys(cacheName)) {
+                updateValue(cacheName, redisKey, type, ttl, update);
+              }
+              publish(CacheInvalidationMessage.clear(nodeId, cacheName));
+            });
+    if (!updated) {
+      missedInvalidations.put(cacheName, CLEAR_ALL);
+    }
+  }
+
+  private void updateValue(
+      String cacheName,
+      String redisKey,
+      JavaType type,
+      Duration ttl,
+      UnaryOperator<Object> update) {
+    byte[] bytes = redisTemplate.opsForValue().get(redisKey);
+    if (bytes == null) {
+      return;
+    }
+    byte[] patched;
+    try {
+      Object current = serializer.deserialize(bytes, type);
+      Object updated = update.apply(current);
+      if (updated == current) {
+        return;
+      }
+      patched = updated == null ? null : serializer.serialize(updated);
+    } catch (Exception e) {
+      log.debug("Cache value not patchable, evicting. cache={}, key={}", cacheName, redisKey, e);
+      patched = null;
+    }
+    if (patched == null) {
+      // 다음 조회가 원본에서 읽는다.
+      redisTemplate.delete(redisKey);
+      return;
+    }
+    redisTemplate.opsForValue().setIfPresent(redisKey, patched, ttl);
+  }
+
+  private List<String> scanKeys(String cacheName) {
+    List<String> keys = new ArrayList<>();
+    ScanOptions options =
+        ScanOptions.scanOptions().match(redisKey(cacheName, "*")).count(1000).build();
+    try (Cursor<String> cursor = redisTemplate.scan(options)) {
+      cursor.forEachRemaining(keys::add);
+    }
+    return keys;
+  }
+
+  private void publish(CacheInvalidationMessage message) {
+    redisTemplate.convertAndSend(
+        properties.getChannel(), message.encode().getBytes(StandardCharsets.UTF_8));
+  }
+
+  private String redisKey(String cacheName, String key) {
+    return properties.getKeyPrefix() + cacheName + KEY_SEPARATOR + key;
+  }
+
+  /** Contract(Output): Redis에 반영했으면 true, 건너뛰었거나 실패했으면 false. */
+  private boolean run(String operation, Runnable action) {
+    Boolean done =
+        call(
+            operation,
+            () -> {
+              action.run();
+              return Boolean.TRUE;
+            });
+    return done != null;
+  }
+
+  private void recordMissedEvict(String cacheName, String key) {
+    missedInvalidations.compute(
+        cacheName,
+        (name, keys) -> {
+          if (keys == CLEAR_ALL) {
+            return CLEAR_ALL;
+          }
+          Set<String> missed = keys == null ? new HashSet<>() : keys;
+          missed.add(key);
+          return missed.size() > properties.getMaxPendingEvicts() ? CLEAR_ALL : missed;
+        });
+  }
+
+  /** 복구 직후 장애 중 놓친 무효화를 다시 보낸다. 다시 실패하면 evict/clear가 스스로 다시 기록한다. */
+  private void replayMissedInvalidations() {
+    for (String cacheName : List.copyOf(missedInvalidations.keySet())) {
+      Set<String> keys = missedInvalidations.remove(cacheName);
+      if (keys == CLEAR_ALL) {
+        clear(cacheName);
+      } else if (keys != null) {
+        keys.forEach(key -> evict(cacheName, key));
+      }
+    }
+  }
+
+  private <T> T call(String operation, Supplier<T> action) {
+    if (!isAvailable()) {
+      return null;
+    }
+    try {
+      T result = action.get();
+      if (suspended) {
+        suspended = false;
+        log.info(
+            "Redis cache tier recovered. replaying missed invalidations for {}",
+            missedInvalidations.keySet());
+        replayMissedInvalidations();
+      }
+      return result;
+    } catch (RuntimeException e) {
+      if (!suspended) {
+        log.warn(
+            "Redis cache {} failed, using local cache only for {}s.",
+            operation,
+            properties.getRetryInterval().toSeconds(),
+            e);
+      }
+      suspended = true;
+      suspendedUntilNanos = System.nanoTime() + properties.getRetryInterval().toNanos();
+      return null;
+    }
+  }
+}
@@ -0,0 +1,346 @@
+package com.beachcheck.global.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+/**
+ * Why: 조회는 노드 로컬 Caffeine에서 끝내고, 로컬 미스일 때만 공유 Redis를 거쳐 DB로 가게 하기 위해.
+ *
+ * <p>Policy:
+ *
+ * <ul>
+ *   <li>조회: L1(Caffeine) → L2(Redis) → 로더. L2에서 찾은 값은 L1에 채운다.
+ *   <li>쓰기/무효화: L1과 L2에 함께 반영하고, L2가 다른 노드에 무효화를 발행한다.
+ *   <li>키는 문자열로 정규화한다. 노드 간 무효화 메시지와 L1 키가 같은 형태여야 하기 때문이다.
+ *   <li>remote가 null이면 로컬 전용 캐시로 동작한다.
+ *   <li>reloader가 있으면 refreshAfterWrite가 지난 L1 값을 그대로 반환하면서 백그라운드에서 한 번만 다시 계산하고, 결과를 L2에도
+ *       쓴다. 같은 키의 재계산은 Caffeine이 하나로 합친다. 재계산 중 patch/put/evict로 항목이 바뀌면 Caffeine이 결과를 버리므로
+ *       L2와 stale에도 쓰지 않는다. 재계산 스레드는 localSpec의 executor(CacheConfig의 전용 풀)다.
+ *   <li>로더 조회(@Cacheable sync=true)는 키별 single-flight다. 같은 키의 동시 미스는 먼저 온 요청 하나만 L2/로더를 실행하고,
+ *       나머지는 그 결과를 기다린다. Caffeine compute 안에서 로드하지 않으므로 느린 로드가 다른 키를 막지 않는다. 로드 중에
+ *       evict/clear가 오면 그 결과는 L1/L2 어디에도 저장하지 않는다.
+ *   <li>loadTimeout이 있으면 대기는 그 시간까지만 하고, 로드 실패/대기 초과 시 stale 보관소(만료 후에도 staleSpec 기간 동안 남는 마지막
+ *       값)가 있으면 그 값을 준다. 명시적 무효화(evict/clear)된 값은 stale로도 주지 않는다.
+ * </ul>
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+  private final String name;
+  private final Cache<String, Object> local;
+  private final RedisCacheTier remote;
+  private final JavaType valueType;
+  private final Duration ttl;
+  private final Cache<String, Object> stale;
+  private final Duration loadTimeout;
+  private final ConcurrentMap<String, CompletableFuture<Object>> loading =
+      new ConcurrentHashMap<>();
+
+  public TwoLevelCache(
+      String name,
+      Caffeine<Object, Object> localSpec,
+      CacheReloader reloader,
+      RedisCacheTier remote,
+      JavaType valueType,
+      Duration ttl,
+      boolean allowNullValues) {
+    this(name, localSpec, null, reloader, remote, valueType, ttl, null, allowNullValues);
+  }
+
+  /**
+   * @param staleSpec 만료된 값을 대체 응답용으로 더 오래 보관할 Caffeine 설정. null이면 stale 대체 없음
+   * @param loadTimeout 같은 키의 로드를 기다리는 최대 시간. null이면 끝날 때까지 기다린다
+   */
+  public TwoLevelCache(
+      String name,
+      Caffeine<Object, Object> localSpec,
+      Caffeine<Object, Object> staleSpec,
+      CacheReloader reloader,
+      RedisCacheTier remote,
+      JavaType valueType,
+      Duration ttl,
+      Duration loadTimeout,
+      boolean allowNullValues) {
+    super(allowNullValues);
+    this.name = name;
+    this.remote = remote;
+    this.valueType = valueType;
+    this.ttl = ttl;
+    this.stale = staleSpec == null ? null : staleSpec.<String, Object>build();
+    this.loadTimeout = loadTimeout;
+    this.local =
+        reloader == null
+            ? localSpec.<String, Object>build()
+            : localSpec.<String, Object>build(
+                new CacheLoader<>() {
+                  @Override
+                  public Object load(String cacheKey) {
+                    return reload(cacheKey, null, reloader);
+                  }
+
+                  @Override
+                  public Object reload(String cacheKey, Object oldValue) {
+                    return TwoLevelCache.this.reload(cacheKey, oldValue, reloader);
+                  }
+                });
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public Cache<String, Object> getNativeCache() {
+    return local;
+  }
+
+  @Override
+  protected Object lookup(Object key) {
+    String cacheKey = cacheKey(key);
+    Object value = local.getIfPresent(cacheKey);
+    if (value != null) {
+      return value;
+    }
+    Object remoteValue = lookupRemote(cacheKey);
+    if (remoteValue != null) {
+      storeLocal(cacheKey, remoteValue);
+    }
+    return remoteValue;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    String cacheKey = cacheKey(key);
+    Object stored = local.getIfPresent(cacheKey);
+    if (stored == null) {
+      stored = loadOnce(cacheKey, key, valueLoader);
+    }
+    return (T) fromStoreValue(stored);
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    String cacheKey = cacheKey(key);
+    Object storeValue = toStoreValue(value);
+    storeLocal(cacheKey, storeValue);
+    if (remote != null) {
+      remote.put(name, cacheKey, storeValue, ttl);
+    }
+  }
+
+  @Override
+  public void evict(Object key) {
+    String cacheKey = cacheKey(key);
+    evictLocal(cacheKey);
+    if (remote != null) {
+      remote.evict(name, cacheKey);
+    }
+  }
+
+  @Override
+  public void clear() {
+    clearLocal();
+    if (remote != null) {
+      remote.clear(name);
+    }
+  }
+
+  /**
+   * 로컬에 있는 key 항목을 update 결과로 바꾸고 L2에도 쓴다. update가 같은 인스턴스를 돌려주면 쓰지 않는다. 로컬에 없는 항목은
+   * 채우지 않고 L2에서 지운다 (부분 값만으로는 전체 값을 만들 수 없고, 남겨 두면 다음 조회가 패치 전 L2 값을 읽는다).
+   */
+  public void updateIfPresent(Object key, UnaryOperator<Object> update) {
+    patch(cacheKey(key), update, true);
+  }
+
+  /**
+   * 모든 항목에 update를 적용한다. 사용자별 키처럼 갱신 대상 키를 미리 알 수 없는 캐시용이다. 로컬 항목을 패치한 뒤 L2 값도 키별로
+   * 패치하고, 다른 노드는 로컬 값만 버려 패치된 L2 값을 다시 읽게 한다.
+   */
+  public void updateAllPresent(UnaryOperator<Object> update) {
+    for (String cacheKey : List.copyOf(local.asMap().keySet())) {
+      patch(cacheKey, update, false);
+    }
+    if (remote != null) {
+      remote.updateAll(name, valueType, ttl, update);
+    }
+  }
+
+  /** 로컬(L1, stale, 진행 중 로드)만 무효화한다. 다른 노드의 무효화 메시지도 이것으로 반영하며 Redis에는 쓰지 않는다. */
+  void evictLocal(String cacheKey) {
+    // 진행 중인 로드가 무효화 이전 데이터를 다시 채우지 않도록 먼저 떼어 낸다.
+    loading.remove(cacheKey);
+    local.invalidate(cacheKey);
+    if (stale != null) {
+      stale.invalidate(cacheKey);
+    }
+  }
+
+  void clearLocal() {
+    loading.clear();
+    local.invalidateAll();
+    if (stale != null) {
+      stale.invalidateAll();
+    }
+  }
+
+  /** 같은 키의 로드를 하나로 합친다. 먼저 등록한 요청이 로드하고, 나머지는 {@link #await}로 결과를 기다린다. */
+  private Object loadOnce(String cacheKey, Object key, Callable<?> valueLoader) {
+    CompletableFuture<Object> flight = new CompletableFuture<>();
+    CompletableFuture<Object> leader = loading.putIfAbsent(cacheKey, flight);
+    if (leader != null) {
+      return await(cacheKey, key, valueLoader, leader);
+    }
+    try {
+      // 직전 로더가 방금 끝내고 빠졌을 수 있으므로 다시 확인한다.
+      Object stored = local.getIfPresent(cacheKey);
+      if (stored == null) {
+        stored = load(cacheKey, key, valueLoader, flight);
+        if (loading.get(cacheKey) == flight) {
+          storeLocal(cacheKey, stored);
+        }
+      }
+      flight.complete(stored);
+      return stored;
+    } catch (RuntimeException e) {
+      flight.completeExceptionally(e);
+      return staleOrThrow(cacheKey, e);
+    } finally {
+      loading.remove(cacheKey, flight);
+    }
+  }
+
+  /**
+   * L2 → 로더 순으로 읽는다. 로드하는 동안 evict/clear가 flight를 떼어 냈으면 로더 결과는 무효화 이전 데이터일 수 있으므로 L2에
+   * 쓰지 않는다 (호출자에게는 그대로 돌려준다).
+   */
+  private Object load(
+      String cacheKey, Object key, Callable<?> valueLoader, CompletableFuture<Object> flight) {
+    Object remoteValue = lookupRemote(cacheKey);
+    if (remoteValue != null) {
+      return remoteValue;
+    }
+    Object storeValue;
+    try {
+      storeValue = toStoreValue(valueLoader.call());
+    } catch (Exception e) {
+      throw new ValueRetrievalException(key, valueLoader, e);
+    }
+    if (remote != null && loading.get(cacheKey) == flight) {
+      remote.put(name, cacheKey, storeValue, ttl);
+      // 확인과 put 사이에 무효화가 끼어들었으면 그 evict보다 늦게 쓴 값일 수 있으므로 다시 지운다.
+      if (loading.get(cacheKey) != flight) {
+        remote.evict(name, cacheKey);
+      }
+    }
+    return storeValue;
+  }
+
+  private Object await(
+      String cacheKey, Object key, Callable<?> valueLoader, CompletableFuture<Object> leader) {
+    try {
+      return loadTimeout == null
+          ? leader.get()
+          : leader.get(loadTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      return staleOrThrow(cacheKey, new ValueRetrievalException(key, valueLoader, e));
+    } catch (ExecutionException e) {
+      RuntimeException failure =
+          e.getCause() instanceof RuntimeException cause
+              ? cause
+              : new ValueRetrievalException(key, valueLoader, e.getCause());
+      return staleOrThrow(cacheKey, failure);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ValueRetrievalException(key, valueLoader, e);
+    }
+  }
+
+  private Object staleOrThrow(String cacheKey, RuntimeException failure) {
+    Object staleValue = stale == null ? null : stale.getIfPresent(cacheKey);
+    if (staleValue == null) {
+      throw failure;
+    }
+    return staleValue;
+  }
+
+  private void storeLocal(String cacheKey, Object storeValue) {
+    local.put(cacheKey, storeValue);
+    if (stale != null) {
+      stale.put(cacheKey, storeValue);
+    }
+  }
+
+  /**
+   * refreshAfterWrite 재계산. DB 기준 최신 값이므로 L2를 읽지 않고 바로 덮어쓴다. 단, 재계산하는 동안 로컬 항목이 oldValue에서
+   * 바뀌었으면(patch 등) Caffeine이 결과를 버리므로, 이전 데이터로 계산했을 수 있는 값을 L2/stale에 남기지 않는다.
+   */
+  private Object reload(String cacheKey, Object oldValue, CacheReloader reloader) {
+    Object storeValue = toStoreValue(reloader.reload(cacheKey));
+    if (oldValue != null && local.policy().getIfPresentQuietly(cacheKey) != oldValue) {
+      return storeValue;
+    }
+    if (stale != null) {
+      stale.put(cacheKey, storeValue);
+    }
+    if (remote != null) {
+      remote.put(name, cacheKey, storeValue, ttl);
+    }
+    return storeValue;
+  }
+
+  private void patch(String cacheKey, UnaryOperator<Object> update, boolean writeRemote) {
+    AtomicReference<Object> written = new AtomicReference<>();
+    Object present =
+        local
+            .asMap()
+            .computeIfPresent(
+                cacheKey,
+                (k, stored) -> {
+                  Object current = fromStoreValue(stored);
+                  Object updated = update.apply(current);
+                  if (updated == current) {
+                    return stored;
+                  }
+                  Object storeValue = toStoreValue(updated);
+                  written.set(storeValue);
+                  return storeValue;
+                });
+    if (present == null) {
+      if (writeRemote && remote != null) {
+        remote.evict(name, cacheKey);
+      }
+      return;
+    }
+    // stale/Redis 쓰기는 로컬 맵 잠금 밖에서 한다.
+    if (written.get() != null && stale != null) {
+      stale.put(cacheKey, written.get());
+    }
+    if (written.get() != null && writeRemote && remote != null) {
+      remote.put(name, cacheKey, written.get(), ttl);
+    }
+  }
+
+  private Object lookupRemote(String cacheKey) {
+    return remote == null ? null : remote.get(name, cacheKey, valueType);
+  }
+
+  private static String cacheKey(Object key) {
+    return String.valueOf(key);
+  }
+}
@@ -0,0 +1,67 @@
+package com.beachcheck.global.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+/**
+ * Why: 설정에 선언한 캐시만 TwoLevelCache로 만들고, Redis 무효화 채널 메시지를 해당 캐시의 로컬 계층에 반영하기 위해.
+ *
+ * <p>Policy: 캐시 목록은 고정이다. 선언되지 않은 이름은 null을 반환한다 (CaffeineCacheManager static 모드와 동일). 자신이 발행한
+ * 메시지는 무시한다.
+ */
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+  private static final Logger log = LoggerFactory.getLogger(TwoLevelCacheManager.class);
+
+  private final Map<String, TwoLevelCache> caches;
+  private final String nodeId;
+
+  public TwoLevelCacheManager(Collection<TwoLevelCache> caches, String nodeId) {
+    Map<String, TwoLevelCache> byName = new LinkedHashMap<>();
+    caches.forEach(cache -> byName.put(cache.getName(), cache));
+    this.caches = Collections.unmodifiableMap(byName);
+    this.nodeId = nodeId;
+  }
+
+  @Override
+  public TwoLevelCache getCache(String name) {
+    return caches.get(name);
+  }
+
+  @Override
+  public Collection<String> getCacheNames() {
+    return caches.keySet();
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    try {
+      apply(CacheInvalidationMessage.decode(body));
+    } catch (IllegalArgumentException e) {
+      log.warn("Ignore malformed cache invalidation message: {}", body);
+    }
+  }
+
+  void apply(CacheInvalidationMessage message) {
+    if (message.origin().equals(nodeId)) {
+      return;
+    }
+    TwoLevelCache cache = caches.get(message.cacheName());
+    if (cache == null) {
+      return;
+    }
+    switch (message.op()) {
+      case EVICT -> cache.evictLocal(message.key());
+      case CLEAR -> cache.clearLocal();
+    }
+  }
+}
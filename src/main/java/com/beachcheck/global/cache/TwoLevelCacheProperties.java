@@ -0,0 +1,62 @@
+package com.beachcheck.global.cache;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Why: 로컬 Caffeine 뒤의 공유 Redis 캐시(2차)와 노드 간 무효화 채널을 설정으로 켜고 끄기 위해.
+ *
+ * <p>Policy: enabled=false이거나 Redis 연결이 없으면 로컬 캐시만 사용한다. keyPrefix에 스키마 버전을 넣어, 캐시 DTO가 바뀐 배포에서
+ * 이전 형식 값을 읽지 않도록 한다.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.cache.redis")
+public class TwoLevelCacheProperties {
+
+  private boolean enabled = false;
+  private String keyPrefix = "cache:v1:";
+  private String channel = "cache:invalidation";
+  private Duration retryInterval = Duration.ofSeconds(30);
+  private int maxPendingEvicts = 1000;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public String getKeyPrefix() {
+    return keyPrefix;
+  }
+
+  public void setKeyPrefix(String keyPrefix) {
+    this.keyPrefix = keyPrefix;
+  }
+
+  public String getChannel() {
+    return channel;
+  }
+
+  public void setChannel(String channel) {
+    this.channel = channel;
+  }
+
+  public Duration getRetryInterval() {
+    return retryInterval;
+  }
+
+  public void setRetryInterval(Duration retryInterval) {
+    this.retryInterval = retryInterval;
+  }
+
+  public int getMaxPendingEvicts() {
+    return maxPendingEvicts;
+  }
+
+  public void setMaxPendingEvicts(int maxPendingEvicts) {
+    this.maxPendingEvicts = maxPendingEvicts;
+  }
+}
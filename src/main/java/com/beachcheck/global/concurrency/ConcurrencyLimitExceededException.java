@@ -0,0 +1,21 @@
+package com.beachcheck.global.concurrency;
+
+/**
+ * Why: 동시 실행 제한 거절을 HTTP 응답 타입(ApiException)과 분리해, 스케줄러/아웃박스 같은 백그라운드 호출자가 재시도 정책으로 처리할 수
+ * 있게 하기 위해.
+ *
+ * <p>Contract(Output): 요청 처리 중 전파되면 GlobalExceptionHandler가 503 SERVICE_BUSY로 응답한다.
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+  private final String limiterName;
+
+  public ConcurrencyLimitExceededException(String limiterName) {
+    super("Concurrency limit exceeded: " + limiterName);
+    this.limiterName = limiterName;
+  }
+
+  public String getLimiterName() {
+    return limiterName;
+  }
+}
@@ -0,0 +1,49 @@
+package com.beachcheck.global.concurrency;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Why: 가상 스레드 모드에서는 스레드 풀 크기가 더 이상 동시 호출 수를 제한하지 않으므로, 외부 의존성별 동시 호출 상한을 설정으로 관리하기 위해.
+ *
+ * <p>Policy: limits에 없는 이름은 defaultLimit을 쓴다. 허가를 acquireTimeout 안에 얻지 못하면 호출을 거절한다.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.concurrency")
+public class ConcurrencyLimitProperties {
+
+  private int defaultLimit = 16;
+  private Duration acquireTimeout = Duration.ofSeconds(5);
+  private Map<String, Integer> limits = new HashMap<>();
+
+  public int getDefaultLimit() {
+    return defaultLimit;
+  }
+
+  public void setDefaultLimit(int defaultLimit) {
+    this.defaultLimit = defaultLimit;
+  }
+
+  public Duration getAcquireTimeout() {
+    return acquireTimeout;
+  }
+
+  public void setAcquireTimeout(Duration acquireTimeout) {
+    this.acquireTimeout = acquireTimeout;
+  }
+
+  public Map<String, Integer> getLimits() {
+    return limits;
+  }
+
+  public void setLimits(Map<String, Integer> limits) {
+    this.limits = limits;
+  }
+
+  public int limitFor(String name) {
+    return limits.getOrDefault(name, defaultLimit);
+  }
+}
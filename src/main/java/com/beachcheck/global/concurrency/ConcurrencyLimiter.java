@@ -0,0 +1,73 @@
+package com.beachcheck.global.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Why: 블로킹 외부 호출(Lambda, FCM 등)의 동시 실행 수를 스레드 풀 대신 세마포어로 제한해, 가상 스레드가 무제한으로 늘어나도 하위 시스템에
+ * 보내는 동시 요청 수는 일정하게 유지하기 위해.
+ *
+ * <p>Policy: 허가를 acquireTimeout까지 기다리고, 얻지 못하면 {@link ConcurrencyLimitExceededException}으로
+ * 거절한다(요청 처리 중이면 503 SERVICE_BUSY). 사용 중 허가 수는 concurrency.limit.in_use, 거절 건수는
+ * concurrency.limit.rejected (tag: name)로 노출한다.
+ *
+ * <p>Contract(Output): 호출 결과와 예외는 그대로 전달한다.
+ */
+public class ConcurrencyLimiter {
+
+  private final String name;
+  private final int permits;
+  private final Semaphore semaphore;
+  private final long acquireTimeoutNanos;
+  private final Counter rejected;
+
+  public ConcurrencyLimiter(
+      String name, int permits, Duration acquireTimeout, MeterRegistry meterRegistry) {
+    this.name = name;
+    this.permits = permits;
+    this.semaphore = new Semaphore(permits, true);
+    this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    this.rejected = meterRegistry.counter("concurrency.limit.rejected", "name", name);
+    Gauge.builder("concurrency.limit.in_use", semaphore, s -> permits - s.availablePermits())
+        .tag("name", name)
+        .register(meterRegistry);
+  }
+
+  public <T, E extends Exception> T execute(LimitedCall<T, E> call) throws E {
+    acquire();
+    try {
+      return call.call();
+    } finally {
+      semaphore.release();
+    }
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getPermits() {
+    return permits;
+  }
+
+  private void acquire() {
+    try {
+      if (semaphore.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+        return;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    rejected.increment();
+    throw new ConcurrencyLimitExceededException(name);
+  }
+
+  @FunctionalInterface
+  public interface LimitedCall<T, E extends Exception> {
+    T call() throws E;
+  }
+}
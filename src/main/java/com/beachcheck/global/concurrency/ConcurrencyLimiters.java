@@ -0,0 +1,35 @@
+package com.beachcheck.global.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Why: 같은 의존성을 호출하는 모든 빈이 하나의 세마포어를 공유하도록 이름별 ConcurrencyLimiter를 한곳에서 관리하기 위해.
+ *
+ * <p>Contract(Output): 같은 이름에는 항상 같은 인스턴스를 돌려준다.
+ */
+@Component
+public class ConcurrencyLimiters {
+
+  public static final String CONGESTION_API = "congestion-api";
+  public static final String FCM = "fcm";
+
+  private final ConcurrencyLimitProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, ConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+  public ConcurrencyLimiters(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+  }
+
+  public ConcurrencyLimiter get(String name) {
+    return limiters.computeIfAbsent(
+        name,
+        key ->
+            new ConcurrencyLimiter(
+                key, properties.limitFor(key), properties.getAcquireTimeout(), meterRegistry));
+  }
+}
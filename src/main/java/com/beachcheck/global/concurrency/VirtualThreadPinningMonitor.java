@@ -0,0 +1,130 @@
+package com.beachcheck.global.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Why: JDK 21에서는 synchronized 블록 안의 블로킹 I/O가 가상 스레드를 캐리어 스레드에 고정(pinning)시켜, Hikari/JDBC/Firebase
+ * 경로의 synchronized가 캐리어 수만큼의 동시성 상한으로 되돌아갈 수 있기 때문에.
+ *
+ * <p>Policy:
+ *
+ * <ul>
+ *   <li>spring.threads.virtual.enabled=true이고 app.virtual-threads.pinning-monitor.enabled=true일 때만
+ *       등록
+ *   <li>JFR jdk.VirtualThreadPinned 이벤트(threshold 이상)를 스트리밍으로 구독한다. 별도 녹화 파일은 만들지 않는다.
+ *   <li>고정 지점(JDK 외 첫 프레임)별로 jvm.threads.virtual.pinned 카운터를 올리고, 지점마다 처음 한 번만 스택을 WARN으로 남긴다.
+ * </ul>
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(
+    prefix = "app.virtual-threads.pinning-monitor",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = false)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+  private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final int LOGGED_FRAMES = 12;
+
+  private final MeterRegistry meterRegistry;
+  private final Duration threshold;
+  private final Set<String> loggedSites = ConcurrentHashMap.newKeySet();
+  private volatile RecordingStream stream;
+
+  public VirtualThreadPinningMonitor(
+      MeterRegistry meterRegistry,
+      @Value("${app.virtual-threads.pinning-monitor.threshold:20ms}") Duration threshold) {
+    this.meterRegistry = meterRegistry;
+    this.threshold = threshold;
+  }
+
+  @Override
+  public void start() {
+    RecordingStream recording = new RecordingStream();
+    recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+    recording.onEvent(PINNED_EVENT, this::onPinned);
+    recording.startAsync();
+    stream = recording;
+    log.info("Virtual thread pinning monitor started. threshold={}ms", threshold.toMillis());
+  }
+
+  @Override
+  public void stop() {
+    RecordingStream recording = stream;
+    stream = null;
+    if (recording != null) {
+      recording.close();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return stream != null;
+  }
+
+  private void onPinned(RecordedEvent event) {
+    RecordedStackTrace stackTrace = event.getStackTrace();
+    String site = pinnedSite(stackTrace);
+    meterRegistry.counter("jvm.threads.virtual.pinned", "site", site).increment();
+    if (loggedSites.add(site)) {
+      log.warn(
+          "Virtual thread pinned for {}ms at {}\n{}",
+          event.getDuration().toMillis(),
+          site,
+          describe(stackTrace));
+    }
+  }
+
+  private static String pinnedSite(RecordedStackTrace stackTrace) {
+    if (stackTrace == null) {
+      return "unknown";
+    }
+    for (RecordedFrame frame : stackTrace.getFrames()) {
+      if (!frame.isJavaFrame()) {
+        continue;
+      }
+      String type = frame.getMethod().getType().getName();
+      if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+        return type + "." + frame.getMethod().getName();
+      }
+    }
+    return "jdk";
+  }
+
+  private static String describe(RecordedStackTrace stackTrace) {
+    if (stackTrace == null) {
+      return "(no stack trace)";
+    }
+    StringBuilder builder = new StringBuilder();
+    stackTrace.getFrames().stream()
+        .limit(LOGGED_FRAMES)
+        .forEach(
+            frame ->
+                builder
+                    .append("\tat ")
+                    .append(frame.getMethod().getType().getName())
+                    .append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':')
+                    .append(frame.getLineNumber())
+                    .append('\n'));
+    return builder.toString();
+  }
+}
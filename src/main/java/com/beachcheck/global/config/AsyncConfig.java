@@ -1,43 +1,45 @@
 package com.beachcheck.global.config;
 
-import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+/**
+ * Why: @EnableAsync 단일 활성화 지점.
+ *
+ * <p>Policy: Spring Boot 기본 executor와 같은 구성(spring.task.execution.*)을 applicationTaskExecutor로 직접
+ * 선언한다. EnableSchedulingConfig의 작업군별 스케줄러가 Executor 빈이라 Boot 자동 구성은 기본 executor를 만들지 않기
+ * 때문이다. spring.threads.virtual.enabled=true면 가상 스레드 executor
+ * (spring.task.execution.simple.concurrency-limit로 동시 실행 제한)로 바뀐다.
+ *
+ * <p>Note: 인증 메일은 더 이상 메모리 큐(emailTaskExecutor)를 쓰지 않고, email_outbox 테이블에 기록된 뒤
+ * EmailOutboxRelay가 배치로 발송한다.
+ */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
-  /**
-   * 비동기 작업용 Thread Pool 설정
-   *
-   * <p>Why: 알림 발송과 같은 시간이 오래 걸리는 작업을 비동기로 처리하여 메인 스레드를 블로킹하지 않기 위함.
-   *
-   * <p>Policy:
-   *
-   * <ul>
-   *   <li>Core Pool Size: 5 (기본 유지 스레드 개수, 항상 살아있음)
-   *   <li>Max Pool Size: 10 (최대 스레드 개수, 부하 시 5→10까지 증가)
-   *   <li>Queue Capacity: 100 (대기 큐 크기, 스레드 풀이 가득 찰 때 대기)
-   *   <li>Thread Name Prefix: "notification-" (로그 추적 용이성)
-   * </ul>
-   *
-   * <p>Contract(Output): TaskExecutor 인스턴스 반환
-   *
-   * @return 비동기 작업용 Executor
-   */
-  @Bean(name = "emailTaskExecutor")
-  public Executor emailTaskExecutor() {
-    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-    executor.setCorePoolSize(3);
-    executor.setMaxPoolSize(6);
-    executor.setQueueCapacity(50);
-    executor.setThreadNamePrefix("email-");
-    executor.initialize();
-    return executor;
+  /** @Async와 MVC 비동기 요청이 쓰는 기본 executor. taskExecutor 별칭으로 @Async 기본값이 된다. */
+  @Lazy
+  @Bean(
+      name = {
+        TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+        AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+      })
+  public AsyncTaskExecutor applicationTaskExecutor(
+      ThreadPoolTaskExecutorBuilder threadPoolTaskExecutorBuilder,
+      SimpleAsyncTaskExecutorBuilder simpleAsyncTaskExecutorBuilder,
+      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+    if (virtualThreads) {
+      return simpleAsyncTaskExecutorBuilder.build();
+    }
+    return threadPoolTaskExecutorBuilder.build();
   }
-
-  // TODO: 성능 테스트 후 가상 스레드 사용 검토
 }
@@ -1,30 +1,209 @@
 package com.beachcheck.global.config;
 
+import com.beachcheck.beach.dto.BeachConditionDto;
+import com.beachcheck.beach.dto.BeachDto;
+import com.beachcheck.beach.dto.BeachFacilityDto;
+import com.beachcheck.global.cache.CacheReloader;
+import com.beachcheck.global.cache.CacheSpecProperties;
+import com.beachcheck.global.cache.CacheValueSerializer;
+import com.beachcheck.global.cache.RedisCacheTier;
+import com.beachcheck.global.cache.TwoLevelCache;
+import com.beachcheck.global.cache.TwoLevelCacheManager;
+import com.beachcheck.global.cache.TwoLevelCacheProperties;
+import com.beachcheck.global.security.PrincipalSnapshot;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import org.springframework.cache.CacheManager;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
 
+/**
+ * Why: 노드 로컬 Caffeine(L1) 앞단 조회 성능은 유지하면서, 여러 노드가 Redis(L2) 값을 공유하고 찜 변경 같은 무효화를 모든 노드에 전파하기
+ * 위해.
+ *
+ * <p>Policy:
+ *
+ * <ul>
+ *   <li>app.cache.redis.enabled=false이거나 Redis 연결이 없으면 L1만 사용한다.
+ *   <li>크기/TTL은 app.cache.specs.{cacheName}으로 캐시별로 정하고, 통계는 cache.* 메트릭으로 노출한다.
+ *   <li>refresh-after-write를 쓰는 캐시는 같은 이름의 CacheReloader 빈이 있어야 하며, 없으면 기동에 실패한다. 재계산은
+ *       ForkJoinPool.commonPool()이 아니라 cacheRefreshExecutor에서 돈다.
+ *   <li>Redis 값은 캐시별로 선언한 타입으로 Smile 직렬화한다. 새 캐시를 추가하면 값 타입도 여기에 등록한다. 값 타입이 없는
+ *       app.cache.specs 항목(오타 등)은 만들어지지 않으므로 기동에 실패한다. spring.cache.*는 쓰지 않는다.
+ *   <li>무효화는 app.cache.redis.channel pub/sub으로 받아 로컬 계층에만 반영한다.
+ * </ul>
+ */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
   @Bean
-  public CacheManager cacheManager() {
-    CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-    cacheManager.setCacheNames(
-        List.of("beachSummaries", "facilitySummaries", "conditionSnapshots"));
+  public CacheValueSerializer cacheValueSerializer() {
+    return new CacheValueSerializer();
+  }
+
+  /**
+   * refreshAfterWrite 재계산 전용 풀. 큐가 차면 AbortPolicy로 거절하고, Caffeine은 기존 값을 유지한 채 다음 조회 때 다시
+   * 시도한다. 풀 상태는 executor.* 메트릭(name=cacheRefresh)으로 노출한다.
+   */
+  @Bean(destroyMethod = "shutdown")
+  public ThreadPoolExecutor cacheRefreshExecutor(
+      CacheSpecProperties specProperties, MeterRegistry meterRegistry) {
+    CacheSpecProperties.Refresh refresh = specProperties.getRefresh();
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            refresh.getPoolSize(),
+            refresh.getPoolSize(),
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, refresh.getQueueCapacity())),
+            new CustomizableThreadFactory("cache-refresh-"),
+            new ThreadPoolExecutor.AbortPolicy());
+    ExecutorServiceMetrics.monitor(meterRegistry, executor, "cacheRefresh", List.of());
+    return executor;
+  }
+
+  @Bean
+  public TwoLevelCacheManager cacheManager(
+      CacheSpecProperties specProperties,
+      TwoLevelCacheProperties properties,
+      ObjectProvider<RedisConnectionFactory> connectionFactoryProvider,
+      ObjectProvider<CacheReloader> reloaderProvider,
+      CacheValueSerializer serializer,
+      ThreadPoolExecutor cacheRefreshExecutor) {
+    RedisConnectionFactory connectionFactory =
+        properties.isEnabled() ? connectionFactoryProvider.getIfAvailable() : null;
+    RedisCacheTier remote =
+        connectionFactory == null
+            ? null
+            : new RedisCacheTier(cacheTemplate(connectionFactory), serializer, properties);
+    Map<String, CacheReloader> reloaders =
+        reloaderProvider.orderedStream()
+            .collect(Collectors.toMap(CacheReloader::cacheName, Function.identity()));
+
+    Map<String, JavaType> valueTypes = valueTypes(serializer.getTypeFactory());
+    for (String cacheName : specProperties.getSpecs().keySet()) {
+      Assert.state(
+          valueTypes.containsKey(cacheName),
+          () -> "app.cache.specs의 캐시에 값 타입이 등록되지 않았습니다: " + cacheName);
+    }
 
-    // 10분 후 자동 만료 -> 최악의 경우에도 10분 후엔 최신 데이터 제공, 최대 1000개 캐시 유지
-    cacheManager.setCaffeine(
-        Caffeine.newBuilder().maximumSize(1000).expireAfterWrite(10, TimeUnit.MINUTES)); // TTL 설정
-    return cacheManager;
+    List<TwoLevelCache> caches =
+        valueTypes.entrySet().stream()
+            .map(
+                entry -> {
+                  String cacheName = entry.getKey();
+                  CacheSpecProperties.Spec spec = specProperties.specFor(cacheName);
+                  CacheReloader reloader =
+                      spec.getRefreshAfterWrite() != null ? reloaders.get(cacheName) : null;
+                  Assert.state(
+                      spec.getRefreshAfterWrite() == null || reloader != null,
+                      () -> "refresh-after-write에는 CacheReloader가 필요합니다: " + cacheName);
+                  return new TwoLevelCache(
+                      cacheName,
+                      caffeine(spec, cacheRefreshExecutor),
+                      staleCaffeine(spec),
+                      reloader,
+                      remote,
+                      entry.getValue(),
+                      spec.getTtl(),
+                      spec.getLoadTimeout(),
+                      true);
+                })
+            .toList();
+    return new TwoLevelCacheManager(caches, remote != null ? remote.getNodeId() : "local");
   }
 
-  // TODO: Replace simple map cache with Redis-backed cache metrics once Redis cluster is
-  // provisioned.
+  /** Boot의 캐시 메트릭 등록기가 TwoLevelCache의 로컬(Caffeine) 통계를 cache.* 메트릭으로 노출하게 한다. */
+  @Bean
+  public CacheMeterBinderProvider<TwoLevelCache> twoLevelCacheMeterBinderProvider() {
+    return (cache, tags) ->
+        new CaffeineCacheMetrics<>(cache.getNativeCache(), cache.getName(), tags);
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "app.cache.redis", name = "enabled", havingValue = "true")
+  public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+      RedisConnectionFactory connectionFactory,
+      TwoLevelCacheManager cacheManager,
+      TwoLevelCacheProperties properties) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    container.addMessageListener(cacheManager, new ChannelTopic(properties.getChannel()));
+    return container;
+  }
+
+  private static Caffeine<Object, Object> caffeine(
+      CacheSpecProperties.Spec spec, Executor refreshExecutor) {
+    Caffeine<Object, Object> builder =
+        Caffeine.newBuilder().expireAfterWrite(spec.getTtl()).recordStats();
+    if (spec.getRefreshAfterWrite() != null) {
+      builder.refreshAfterWrite(spec.getRefreshAfterWrite()).executor(refreshExecutor);
+    }
+    return bounded(builder, spec);
+  }
+
+  /** 로드 실패/대기 초과 때 대신 줄 마지막 값 보관소. 크기 제한은 본 캐시와 같다. */
+  private static Caffeine<Object, Object> staleCaffeine(CacheSpecProperties.Spec spec) {
+    if (spec.getStaleTtl() == null) {
+      return null;
+    }
+    return bounded(Caffeine.newBuilder().expireAfterWrite(spec.getStaleTtl()), spec);
+  }
+
+  private static Caffeine<Object, Object> bounded(
+      Caffeine<Object, Object> builder, CacheSpecProperties.Spec spec) {
+    if (spec.getMaximumWeight() != null) {
+      // 값은 DTO 리스트이므로 원소 수를 가중치로 쓴다 (사용자별 요약처럼 크기가 다른 값을 함께 제한).
+      return builder
+          .maximumWeight(spec.getMaximumWeight())
+          .weigher((key, value) -> value instanceof Collection<?> c ? Math.max(1, c.size()) : 1);
+    }
+    return builder.maximumSize(spec.getMaximumSize() != null ? spec.getMaximumSize() : 1000L);
+  }
+
+  private static Map<String, JavaType> valueTypes(TypeFactory types) {
+    Map<String, JavaType> valueTypes = new LinkedHashMap<>();
+    valueTypes.put("beachSummaries", types.constructCollectionType(List.class, BeachDto.class));
+    valueTypes.put(
+        "facilitySummaries", types.constructCollectionType(List.class, BeachFacilityDto.class));
+    valueTypes.put(
+        "conditionSnapshots", types.constructCollectionType(List.class, BeachConditionDto.class));
+    valueTypes.put("principalCache", types.constructType(PrincipalSnapshot.class));
+    return valueTypes;
+  }
+
+  private static RedisTemplate<String, byte[]> cacheTemplate(
+      RedisConnectionFactory connectionFactory) {
+    RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+    template.setConnectionFactory(connectionFactory);
+    template.setKeySerializer(RedisSerializer.string());
+    template.setValueSerializer(RedisSerializer.byteArray());
+    template.afterPropertiesSet();
+    return template;
+  }
 }
@@ -1,5 +1,10 @@
 package com.beachcheck.global.config;
 
+import com.beachcheck.global.scheduling.MonitoredTaskScheduler;
+import com.beachcheck.global.scheduling.SchedulingPoolProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
@@ -12,8 +17,51 @@ import org.springframework.scheduling.annotation.EnableScheduling;
  *   <li>@EnableScheduling은 이 클래스에서만 선언
  *   <li>개별 스케줄러는 기능별 클래스에서 관리 (예: OutboxSchedulingConfig, BeachConditionScheduler)
  *   <li>조건부 스케줄러는 개별 스케줄러의 해당 클래스 레벨에 @ConditionalOnProperty 적용
+ *   <li>작업군별 풀을 분리한다. @Scheduled(scheduler = ...)로 OUTBOX/CONDITIONS/RETENTION 중 하나를 지정하고, 지정하지
+ *       않은 작업은 기본 taskScheduler에서 실행된다.
+ *   <li>스케줄러 빈은 Executor이기도 해서 Boot의 기본 applicationTaskExecutor가 물러나므로, AsyncConfig가 직접 선언한다.
  * </ul>
  */
 @Configuration
 @EnableScheduling
-public class EnableSchedulingConfig {}
+public class EnableSchedulingConfig {
+
+  public static final String OUTBOX = "outboxTaskScheduler";
+  public static final String CONDITIONS = "conditionsTaskScheduler";
+  public static final String RETENTION = "retentionTaskScheduler";
+
+  private final MeterRegistry meterRegistry;
+  private final boolean virtualThreads;
+
+  public EnableSchedulingConfig(
+      MeterRegistry meterRegistry,
+      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+    this.meterRegistry = meterRegistry;
+    this.virtualThreads = virtualThreads;
+  }
+
+  /** 스케줄러를 지정하지 않은 @Scheduled 작업용 기본 풀 (빈 이름 taskScheduler로 기본값이 된다). */
+  @Bean
+  public MonitoredTaskScheduler taskScheduler() {
+    return scheduler("default", 1);
+  }
+
+  @Bean(name = OUTBOX)
+  public MonitoredTaskScheduler outboxTaskScheduler(SchedulingPoolProperties properties) {
+    return scheduler("outbox", properties.getOutbox());
+  }
+
+  @Bean(name = CONDITIONS)
+  public MonitoredTaskScheduler conditionsTaskScheduler(SchedulingPoolProperties properties) {
+    return scheduler("conditions", properties.getConditions());
+  }
+
+  @Bean(name = RETENTION)
+  public MonitoredTaskScheduler retentionTaskScheduler(SchedulingPoolProperties properties) {
+    return scheduler("retention", properties.getRetention());
+  }
+
+  private MonitoredTaskScheduler scheduler(String name, int poolSize) {
+    return new MonitoredTaskScheduler(name, poolSize, virtualThreads, meterRegistry);
+  }
+}
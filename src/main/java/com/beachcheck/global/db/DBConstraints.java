@@ -7,4 +7,8 @@ public final class DBConstraints {
   // 상수화.
   public static final String UK_USER_BEACH = "uk_user_beach";
   public static final String UK_RESERVATION_USER_BEACH_TIME = "uk_reservation_user_beach_time";
+
+  // V8에서 인라인 REFERENCES로 생성된 FK의 PostgreSQL 기본 이름 (<table>_<column>_fkey)
+  public static final String FK_RESERVATION_USER = "reservations_user_id_fkey";
+  public static final String FK_RESERVATION_BEACH = "reservations_beach_id_fkey";
 }
@@ -25,6 +25,21 @@ public enum ErrorCode {
   INVALID_GRANT(HttpStatus.BAD_REQUEST, "INVALID_GRANT", "Invalid grant"),
   RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "RESOURCE_NOT_FOUND", "Resource not found"),
   INVALID_STATE(HttpStatus.CONFLICT, "INVALID_STATE", "Invalid state"),
+
+  IDEMPOTENCY_KEY_INVALID(
+      HttpStatus.BAD_REQUEST, "IDEMPOTENCY_KEY_INVALID", "Invalid Idempotency-Key header"),
+  IDEMPOTENCY_IN_PROGRESS(
+      HttpStatus.CONFLICT,
+      "IDEMPOTENCY_IN_PROGRESS",
+      "A request with the same Idempotency-Key is in progress"),
+  IDEMPOTENCY_KEY_REUSED(
+      HttpStatus.UNPROCESSABLE_ENTITY,
+      "IDEMPOTENCY_KEY_REUSED",
+      "Idempotency-Key was already used with a different request body"),
+
+  TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_REQUESTS", "Too many requests"),
+  SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "SERVICE_BUSY", "Server is busy, retry later"),
+
   INTERNAL_SERVER_ERROR(
       HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR", "Unexpected error");
 
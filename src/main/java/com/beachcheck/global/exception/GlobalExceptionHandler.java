@@ -1,5 +1,6 @@
 package com.beachcheck.global.exception;
 
+import com.beachcheck.global.concurrency.ConcurrencyLimitExceededException;
 import com.beachcheck.global.db.DBConstraints;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.HashMap;
@@ -38,6 +39,12 @@ public class GlobalExceptionHandler {
     return pd;
   }
 
+  /** 외부 호출 동시 실행 제한 초과. ApiException(SERVICE_BUSY)과 같은 응답 계약을 쓴다. */
+  @ExceptionHandler(ConcurrencyLimitExceededException.class)
+  public ProblemDetail handleConcurrencyLimitExceeded(ConcurrencyLimitExceededException ex) {
+    return handleApiException(new ApiException(ErrorCode.SERVICE_BUSY, ex.getMessage()));
+  }
+
   /** Validation 에러 처리 (회원가입 양식 오류 등) 각 필드별로 어떤 문제가 있는지 명확하게 반환 */
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ProblemDetail handleValidationException(MethodArgumentNotValidException ex) {
@@ -0,0 +1,237 @@
+package com.beachcheck.global.idempotency;
+
+import com.beachcheck.global.exception.ErrorCode;
+import com.beachcheck.global.util.CachedBodyRequest;
+import com.beachcheck.global.util.HashUtils;
+import com.beachcheck.user.domain.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Why: 불안정한 모바일 네트워크에서 재시도된 예약/찜 변경 요청이 DB 파이프라인 전체를 다시 타지 않도록 하기 위해.
+ *
+ * <p>Policy:
+ *
+ * <ul>
+ *   <li>Idempotency-Key 헤더가 있는 인증 사용자의 변경 요청(POST/PUT/PATCH/DELETE)만 대상이다.
+ *   <li>키 범위는 userId + method + URI + 헤더 값이다. 같은 키를 다른 사용자/경로에서 재사용해도 섞이지 않는다.
+ *   <li>5xx가 아닌 최초 응답(상태, 본문, Location 등 헤더)과 요청 본문의 SHA-256을 저장하고, 반복 요청에는 저장된 응답을
+ *       Idempotent-Replayed: true와 함께 돌려준다.
+ *   <li>같은 키를 다른 본문으로 재사용하면 재생하지 않고 422 IDEMPOTENCY_KEY_REUSED로 거절한다. 본문이 maxBodyBytes를 넘으면 앞부분으로
+ *       비교한다.
+ *   <li>같은 키의 동시 요청은 최초 요청 완료를 inFlightWait 동안 기다린 뒤 그 응답을 재사용하고, 시간 초과 시 409로 거절한다.
+ * </ul>
+ *
+ * <p>Note: JwtAuthenticationFilter 다음에 SecurityConfig 필터 체인에 등록된다.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+  public static final String HEADER = "Idempotency-Key";
+  public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+  private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+  /** 재생하지 않는 응답 헤더. 길이/인코딩은 재생 시 다시 정해지고, 쿠키와 날짜는 요청마다 달라야 한다. */
+  private static final Set<String> UNREPLAYED_HEADERS =
+      Set.of(
+          HttpHeaders.CONTENT_TYPE.toLowerCase(Locale.ROOT),
+          HttpHeaders.CONTENT_LENGTH.toLowerCase(Locale.ROOT),
+          HttpHeaders.TRANSFER_ENCODING.toLowerCase(Locale.ROOT),
+          HttpHeaders.DATE.toLowerCase(Locale.ROOT),
+          HttpHeaders.SET_COOKIE.toLowerCase(Locale.ROOT));
+
+  private final IdempotencyStore store;
+  private final IdempotencyProperties properties;
+  private final ObjectMapper objectMapper;
+  private final AntPathMatcher pathMatcher = new AntPathMatcher();
+  private final Map<String, CompletableFuture<IdempotentResponse>> inFlight =
+      new ConcurrentHashMap<>();
+
+  public IdempotencyFilter(
+      IdempotencyStore store, IdempotencyProperties properties, ObjectMapper objectMapper) {
+    this.store = store;
+    this.properties = properties;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    if (!properties.isEnabled() || request.getHeader(HEADER) == null) {
+      return true;
+    }
+    if (!MUTATING_METHODS.contains(request.getMethod())) {
+      return true;
+    }
+    String path = request.getRequestURI();
+    return properties.getPaths().stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    User user = currentUser();
+    if (user == null) {
+      // 인증 실패 응답은 인가 단계에서 처리한다.
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    String idempotencyKey = request.getHeader(HEADER).trim();
+    if (!StringUtils.hasText(idempotencyKey)
+        || idempotencyKey.length() > properties.getMaxKeyLength()) {
+      writeProblem(response, ErrorCode.IDEMPOTENCY_KEY_INVALID);
+      return;
+    }
+
+    String key =
+        user.getId()
+            + ":"
+            + request.getMethod()
+            + ":"
+            + request.getRequestURI()
+            + ":"
+            + idempotencyKey;
+
+    CachedBodyRequest cachedRequest = CachedBodyRequest.wrap(request, properties.getMaxBodyBytes());
+    String requestHash = HashUtils.sha256Hex(cachedRequest.head());
+
+    Optional<IdempotentResponse> stored = store.find(key);
+    if (stored.isPresent()) {
+      replay(response, stored.get(), requestHash);
+      return;
+    }
+
+    CompletableFuture<IdempotentResponse> mine = new CompletableFuture<>();
+    CompletableFuture<IdempotentResponse> existing = inFlight.putIfAbsent(key, mine);
+    if (existing != null) {
+      awaitInFlight(response, existing, requestHash);
+      return;
+    }
+
+    try {
+      // putIfAbsent 직전에 완료된 요청이 있을 수 있으므로 한 번 더 확인한다.
+      stored = store.find(key);
+      if (stored.isPresent()) {
+        mine.complete(stored.get());
+        replay(response, stored.get(), requestHash);
+        return;
+      }
+
+      ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+      filterChain.doFilter(cachedRequest, wrapper);
+
+      IdempotentResponse captured = null;
+      if (wrapper.getStatus() < 500) {
+        captured =
+            new IdempotentResponse(
+                wrapper.getStatus(),
+                wrapper.getContentType(),
+                wrapper.getContentAsByteArray(),
+                replayableHeaders(wrapper),
+                requestHash);
+        store.save(key, captured);
+      }
+      wrapper.copyBodyToResponse();
+      mine.complete(captured);
+    } finally {
+      if (!mine.isDone()) {
+        mine.complete(null);
+      }
+      inFlight.remove(key, mine);
+    }
+  }
+
+  private void awaitInFlight(
+      HttpServletResponse response,
+      CompletableFuture<IdempotentResponse> existing,
+      String requestHash)
+      throws IOException {
+    IdempotentResponse completed = null;
+    try {
+      completed = existing.get(properties.getInFlightWait().toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException | TimeoutException e) {
+      // 최초 요청이 끝나지 않았거나 실패했다. 클라이언트가 다시 시도하도록 409를 반환한다.
+    }
+
+    if (completed == null) {
+      writeProblem(response, ErrorCode.IDEMPOTENCY_IN_PROGRESS);
+      return;
+    }
+    replay(response, completed, requestHash);
+  }
+
+  private void replay(HttpServletResponse response, IdempotentResponse stored, String requestHash)
+      throws IOException {
+    if (!stored.matches(requestHash)) {
+      writeProblem(response, ErrorCode.IDEMPOTENCY_KEY_REUSED);
+      return;
+    }
+    stored.headers().forEach((name, values) -> values.forEach(v -> response.addHeader(name, v)));
+    response.setStatus(stored.status());
+    if (stored.contentType() != null) {
+      response.setContentType(stored.contentType());
+    }
+    response.setHeader(REPLAYED_HEADER, "true");
+    response.setContentLength(stored.body().length);
+    response.getOutputStream().write(stored.body());
+  }
+
+  private static Map<String, List<String>> replayableHeaders(HttpServletResponse response) {
+    Map<String, List<String>> headers = new LinkedHashMap<>();
+    for (String name : response.getHeaderNames()) {
+      if (!UNREPLAYED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+        headers.putIfAbsent(name, List.copyOf(response.getHeaders(name)));
+      }
+    }
+    return headers;
+  }
+
+  private void writeProblem(HttpServletResponse response, ErrorCode code) throws IOException {
+    ProblemDetail problemDetail =
+        ProblemDetail.forStatusAndDetail(code.getStatus(), code.getDefaultMessage());
+    problemDetail.setTitle(code.getDefaultMessage());
+    problemDetail.setProperty("code", code.getCode());
+    problemDetail.setProperty("details", Map.of("header", HEADER));
+
+    response.setStatus(code.getStatus().value());
+    response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+    objectMapper.writeValue(response.getOutputStream(), problemDetail);
+  }
+
+  private User currentUser() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null && authentication.getPrincipal() instanceof User user) {
+      return user;
+    }
+    return null;
+  }
+}
@@ -0,0 +1,110 @@
+package com.beachcheck.global.idempotency;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Why: Idempotency-Key 처리 범위와 저장소 한도를 설정으로 조정하기 위해.
+ *
+ * <p>Policy: 로컬(Caffeine) 저장소는 항상 사용하고, redis.enabled=true일 때만 Redis를 2차 저장소로 사용한다.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.idempotency")
+public class IdempotencyProperties {
+
+  private boolean enabled = true;
+  private Duration ttl = Duration.ofHours(24);
+  private long maximumSize = 10_000;
+  private Duration inFlightWait = Duration.ofSeconds(5);
+  private int maxKeyLength = 128;
+  private int maxBodyBytes = 64 * 1024;
+  private List<String> paths =
+      new ArrayList<>(
+          List.of(
+              "/api/beaches/*/reservations", "/api/beaches/*/reservations/*", "/api/favorites/**"));
+  private final Redis redis = new Redis();
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public Duration getTtl() {
+    return ttl;
+  }
+
+  public void setTtl(Duration ttl) {
+    this.ttl = ttl;
+  }
+
+  public long getMaximumSize() {
+    return maximumSize;
+  }
+
+  public void setMaximumSize(long maximumSize) {
+    this.maximumSize = maximumSize;
+  }
+
+  public Duration getInFlightWait() {
+    return inFlightWait;
+  }
+
+  public void setInFlightWait(Duration inFlightWait) {
+    this.inFlightWait = inFlightWait;
+  }
+
+  public int getMaxKeyLength() {
+    return maxKeyLength;
+  }
+
+  public void setMaxKeyLength(int maxKeyLength) {
+    this.maxKeyLength = maxKeyLength;
+  }
+
+  public int getMaxBodyBytes() {
+    return maxBodyBytes;
+  }
+
+  public void setMaxBodyBytes(int maxBodyBytes) {
+    this.maxBodyBytes = maxBodyBytes;
+  }
+
+  public List<String> getPaths() {
+    return paths;
+  }
+
+  public void setPaths(List<String> paths) {
+    this.paths = paths;
+  }
+
+  public Redis getRedis() {
+    return redis;
+  }
+
+  public static class Redis {
+    private boolean enabled = false;
+    private String keyPrefix = "idempotency:";
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public String getKeyPrefix() {
+      return keyPrefix;
+    }
+
+    public void setKeyPrefix(String keyPrefix) {
+      this.keyPrefix = keyPrefix;
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package com.beachcheck.global.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Why: 완료된 멱등 요청의 응답을 재시도 시 상수 시간에 돌려주기 위해.
+ *
+ * <p>Policy:
+ *
+ * <ul>
+ *   <li>1차: 노드 로컬 Caffeine (maximumSize/ttl로 크기 제한)
+ *   <li>2차(선택): Redis. 다른 노드로 재시도가 라우팅돼도 응답을 재사용한다.
+ *   <li>Redis 장애는 로그만 남기고 로컬 저장소로 계속 동작한다.
+ * </ul>
+ */
+@Component
+public class IdempotencyStore {
+
+  private static final Logger log = LoggerFactory.getLogger(IdempotencyStore.class);
+
+  private final Cache<String, IdempotentResponse> local;
+  private final StringRedisTemplate redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final IdempotencyProperties properties;
+
+  public IdempotencyStore(
+      IdempotencyProperties properties,
+      ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+      ObjectMapper objectMapper) {
+    this.properties = properties;
+    this.objectMapper = objectMapper;
+    this.local =
+        Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getTtl())
+            .build();
+    this.redisTemplate =
+        properties.getRedis().isEnabled() ? redisTemplateProvider.getIfAvailable() : null;
+  }
+
+  public Optional<IdempotentResponse> find(String key) {
+    IdempotentResponse cached = local.getIfPresent(key);
+    if (cached != null || redisTemplate == null) {
+      return Optional.ofNullable(cached);
+    }
+
+    try {
+      String json = redisTemplate.opsForValue().get(redisKey(key));
+      if (json == null) {
+        return Optional.empty();
+      }
+      IdempotentResponse response = objectMapper.readValue(json, IdempotentResponse.class);
+      local.put(key, response);
+      return Optional.of(response);
+    } catch (Exception e) {
+      log.warn("Idempotency Redis 조회 실패, 로컬 저장소만 사용합니다. key={}", key, e);
+      return Optional.empty();
+    }
+  }
+
+  public void save(String key, IdempotentResponse response) {
+    local.put(key, response);
+    if (redisTemplate == null) {
+      return;
+    }
+
+    try {
+      redisTemplate
+          .opsForValue()
+          .set(redisKey(key), objectMapper.writeValueAsString(response), properties.getTtl());
+    } catch (Exception e) {
+      log.warn("Idempotency Redis 저장 실패, 로컬 저장소에만 보관합니다. key={}", key, e);
+    }
+  }
+
+  private String redisKey(String key) {
+    return properties.getRedis().getKeyPrefix() + key;
+  }
+}
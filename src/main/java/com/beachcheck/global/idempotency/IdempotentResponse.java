@@ -0,0 +1,28 @@
+package com.beachcheck.global.idempotency;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Why: 재시도 요청에 최초 응답을 그대로 돌려주기 위해 직렬화 가능한 최소 형태로 보관한다.
+ *
+ * <p>Contract(Output): status, contentType, body 바이트와 재생할 응답 헤더(Location 등), 최초 요청 본문의 SHA-256
+ * (requestHash)을 담는다. body는 Redis 저장 시 Base64로 직렬화된다. requestHash는 필수다 (없으면 생성/역직렬화에 실패한다).
+ */
+public record IdempotentResponse(
+    int status,
+    String contentType,
+    byte[] body,
+    Map<String, List<String>> headers,
+    String requestHash) {
+
+  public IdempotentResponse {
+    Objects.requireNonNull(requestHash, "requestHash");
+    headers = headers == null ? Map.of() : Map.copyOf(headers);
+  }
+
+  boolean matches(String otherRequestHash) {
+    return requestHash.equals(otherRequestHash);
+  }
+}
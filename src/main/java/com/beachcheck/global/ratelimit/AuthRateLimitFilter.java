@@ -0,0 +1,123 @@
+package com.beachcheck.global.ratelimit;
+
+import com.beachcheck.global.exception.ErrorCode;
+import com.beachcheck.global.util.CachedBodyRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Why: 인증 엔드포인트 폭주가 BCrypt로 워커 스레드를 고갈시켜 해변 조회 API까지 멈추게 하는 것을 막기 위해.
+ *
+ * <p>Policy:
+ *
+ * <ul>
+ *   <li>대상: 설정된 경로(기본 /api/auth/login, /api/auth/signup)의 POST 요청.
+ *   <li>IP 버킷을 먼저 확인하고, 본문 JSON의 email이 있으면 이메일 버킷도 확인한다(대소문자 무시).
+ *   <li>거부 시 429 TOO_MANY_REQUESTS ProblemDetail과 Retry-After(초)를 반환한다.
+ *   <li>auth.rate_limit.allowed, auth.rate_limit.rejected(key_type=ip|email) 카운터를 기록한다.
+ * </ul>
+ *
+ * <p>Note: 클라이언트 IP는 request.getRemoteAddr()만 사용한다. 프록시 뒤라면 server.forward-headers-strategy로
+ * 신뢰할 수 있는 주소를 복원해야 한다.
+ */
+@Component
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+  private static final String ALLOWED_METRIC = "auth.rate_limit.allowed";
+  private static final String REJECTED_METRIC = "auth.rate_limit.rejected";
+
+  private final AuthRateLimiter rateLimiter;
+  private final AuthRateLimitProperties properties;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+
+  public AuthRateLimitFilter(
+      AuthRateLimiter rateLimiter,
+      AuthRateLimitProperties properties,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry) {
+    this.rateLimiter = rateLimiter;
+    this.properties = properties;
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !properties.isEnabled()
+        || !"POST".equals(request.getMethod())
+        || !properties.getPaths().contains(request.getRequestURI());
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    Duration ipWait = rateLimiter.tryConsume("ip:" + request.getRemoteAddr(), properties.getIp());
+    if (!ipWait.isZero()) {
+      reject(response, "ip", ipWait);
+      return;
+    }
+
+    CachedBodyRequest cachedRequest = CachedBodyRequest.wrap(request, properties.getMaxBodyBytes());
+    String email = extractEmail(cachedRequest.body());
+    if (email != null) {
+      Duration emailWait = rateLimiter.tryConsume("email:" + email, properties.getEmail());
+      if (!emailWait.isZero()) {
+        reject(response, "email", emailWait);
+        return;
+      }
+    }
+
+    meterRegistry.counter(ALLOWED_METRIC).increment();
+    filterChain.doFilter(cachedRequest, response);
+  }
+
+  private String extractEmail(byte[] body) {
+    if (body.length == 0) {
+      return null;
+    }
+    try {
+      JsonNode email = objectMapper.readTree(body).path("email");
+      if (!email.isTextual() || email.asText().isBlank()) {
+        return null;
+      }
+      return email.asText().trim().toLowerCase(Locale.ROOT);
+    } catch (IOException e) {
+      // 형식 오류는 컨트롤러 검증에서 400으로 처리되도록 그대로 통과시킨다(IP 버킷은 이미 차감).
+      return null;
+    }
+  }
+
+  private void reject(HttpServletResponse response, String keyType, Duration wait)
+      throws IOException {
+    meterRegistry.counter(REJECTED_METRIC, "key_type", keyType).increment();
+
+    long retryAfterSeconds = Math.max(1, (wait.toMillis() + 999) / 1000);
+    ErrorCode code = ErrorCode.TOO_MANY_REQUESTS;
+    ProblemDetail problemDetail =
+        ProblemDetail.forStatusAndDetail(code.getStatus(), code.getDefaultMessage());
+    problemDetail.setTitle(code.getDefaultMessage());
+    problemDetail.setProperty("code", code.getCode());
+    problemDetail.setProperty("details", Map.of("retryAfterSeconds", retryAfterSeconds));
+
+    response.setStatus(code.getStatus().value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+    response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+    objectMapper.writeValue(response.getOutputStream(), problemDetail);
+  }
+}
@@ -0,0 +1,119 @@
+package com.beachcheck.global.ratelimit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Why: BCrypt를 수행하는 인증 엔드포인트의 허용량을 운영 중에 조정하기 위해.
+ *
+ * <p>Policy: IP 버킷과 이메일 버킷을 각각 capacity개 토큰, refillPeriod마다 capacity개 충전으로 운용한다.
+ * redis.enabled=true면 여러 노드가 Redis 버킷을 공유한다.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit.auth")
+public class AuthRateLimitProperties {
+
+  private boolean enabled = true;
+  private List<String> paths = new ArrayList<>(List.of("/api/auth/login", "/api/auth/signup"));
+  private final Bandwidth ip = new Bandwidth(30, Duration.ofMinutes(1));
+  private final Bandwidth email = new Bandwidth(5, Duration.ofMinutes(1));
+  private long maximumBuckets = 100_000;
+  private int maxBodyBytes = 8 * 1024;
+  private final Redis redis = new Redis();
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public List<String> getPaths() {
+    return paths;
+  }
+
+  public void setPaths(List<String> paths) {
+    this.paths = paths;
+  }
+
+  public Bandwidth getIp() {
+    return ip;
+  }
+
+  public Bandwidth getEmail() {
+    return email;
+  }
+
+  public long getMaximumBuckets() {
+    return maximumBuckets;
+  }
+
+  public void setMaximumBuckets(long maximumBuckets) {
+    this.maximumBuckets = maximumBuckets;
+  }
+
+  public int getMaxBodyBytes() {
+    return maxBodyBytes;
+  }
+
+  public void setMaxBodyBytes(int maxBodyBytes) {
+    this.maxBodyBytes = maxBodyBytes;
+  }
+
+  public Redis getRedis() {
+    return redis;
+  }
+
+  public static class Bandwidth {
+    private int capacity;
+    private Duration refillPeriod;
+
+    public Bandwidth() {}
+
+    public Bandwidth(int capacity, Duration refillPeriod) {
+      this.capacity = capacity;
+      this.refillPeriod = refillPeriod;
+    }
+
+    public int getCapacity() {
+      return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+      this.capacity = capacity;
+    }
+
+    public Duration getRefillPeriod() {
+      return refillPeriod;
+    }
+
+    public void setRefillPeriod(Duration refillPeriod) {
+      this.refillPeriod = refillPeriod;
+    }
+  }
+
+  public static class Redis {
+    private boolean enabled = false;
+    private String keyPrefix = "rate-limit:auth:";
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public String getKeyPrefix() {
+      return keyPrefix;
+    }
+
+    public void setKeyPrefix(String keyPrefix) {
+      this.keyPrefix = keyPrefix;
+    }
+  }
+}
@@ -0,0 +1,117 @@
+package com.beachcheck.global.ratelimit;
+
+import com.beachcheck.global.ratelimit.AuthRateLimitProperties.Bandwidth;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.time.Duration;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Why: 로그인/회원가입 폭주가 Tomcat 워커를 BCrypt로 모두 점유하지 않도록 요청을 처리 전에 거르기 위해.
+ *
+ * <p>Policy:
+ *
+ * <ul>
+ *   <li>기본: 노드 로컬 토큰 버킷. 버킷은 Caffeine(maximumBuckets, 마지막 접근 후 refillPeriod 경과 시 제거)에 둔다.
+ *   <li>redis.enabled=true: Lua 스크립트로 원자적으로 갱신하는 Redis 토큰 버킷을 모든 노드가 공유한다.
+ *   <li>Redis 장애 시 로그만 남기고 로컬 버킷으로 판단한다(가용성 우선).
+ * </ul>
+ *
+ * <p>Contract(Output): tryConsume은 허용 시 Duration.ZERO, 거부 시 다시 시도할 수 있을 때까지의 시간.
+ */
+@Component
+public class AuthRateLimiter {
+
+  private static final Logger log = LoggerFactory.getLogger(AuthRateLimiter.class);
+
+  // KEYS[1]=버킷 키, ARGV[1]=capacity, ARGV[2]=refillPeriod(ms). 반환값: 대기 시간(ms), 0이면 허용.
+  private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          local capacity = tonumber(ARGV[1])
+          local period = tonumber(ARGV[2])
+          local time = redis.call('TIME')
+          local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+          local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+          local tokens = tonumber(state[1]) or capacity
+          local ts = tonumber(state[2]) or now
+          local rate = capacity / period
+          tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+          local wait = 0
+          if tokens >= 1 then
+            tokens = tokens - 1
+          else
+            wait = math.ceil((1 - tokens) / rate)
+          end
+          redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+          redis.call('PEXPIRE', KEYS[1], period)
+          return wait
+          """,
+          Long.class);
+
+  private final AuthRateLimitProperties properties;
+  private final StringRedisTemplate redisTemplate;
+  private final Ticker ticker;
+  private final Cache<String, TokenBucket> buckets;
+
+  @Autowired
+  public AuthRateLimiter(
+      AuthRateLimitProperties properties,
+      ObjectProvider<StringRedisTemplate> redisTemplateProvider) {
+    this(properties, redisTemplateProvider, Ticker.systemTicker());
+  }
+
+  AuthRateLimiter(
+      AuthRateLimitProperties properties,
+      ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+      Ticker ticker) {
+    this.properties = properties;
+    this.ticker = ticker;
+    this.redisTemplate =
+        properties.getRedis().isEnabled() ? redisTemplateProvider.getIfAvailable() : null;
+    Duration idle =
+        properties.getIp().getRefillPeriod().compareTo(properties.getEmail().getRefillPeriod()) > 0
+            ? properties.getIp().getRefillPeriod()
+            : properties.getEmail().getRefillPeriod();
+    this.buckets =
+        Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumBuckets())
+            .expireAfterAccess(idle)
+            .ticker(ticker)
+            .build();
+  }
+
+  public Duration tryConsume(String key, Bandwidth bandwidth) {
+    if (redisTemplate != null) {
+      try {
+        Long waitMillis =
+            redisTemplate.execute(
+                TOKEN_BUCKET_SCRIPT,
+                List.of(properties.getRedis().getKeyPrefix() + key),
+                String.valueOf(bandwidth.getCapacity()),
+                String.valueOf(bandwidth.getRefillPeriod().toMillis()));
+        return waitMillis == null ? Duration.ZERO : Duration.ofMillis(waitMillis);
+      } catch (Exception e) {
+        log.warn("Rate limit Redis 호출 실패, 로컬 버킷으로 판단합니다. key={}", key, e);
+      }
+    }
+
+    long now = ticker.read();
+    TokenBucket bucket =
+        buckets.get(
+            key,
+            k ->
+                new TokenBucket(
+                    bandwidth.getCapacity(), bandwidth.getRefillPeriod().toNanos(), now));
+    return Duration.ofNanos(bucket.tryConsume(now));
+  }
+}
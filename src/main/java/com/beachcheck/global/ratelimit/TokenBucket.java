@@ -0,0 +1,35 @@
+package com.beachcheck.global.ratelimit;
+
+/**
+ * Why: 키별 허용량을 버스트(capacity)와 평균 속도(capacity / refillPeriod)로 함께 제한하기 위해.
+ *
+ * <p>Policy: 버킷마다 자신의 모니터로 동기화한다(키 단위 락). 서로 다른 키는 경합하지 않는다.
+ *
+ * <p>Contract(Output): tryConsume은 허용 시 0, 거부 시 토큰 1개가 찰 때까지의 대기 시간(나노초)을 반환한다.
+ */
+final class TokenBucket {
+
+  private final double capacity;
+  private final double tokensPerNano;
+  private double tokens;
+  private long lastRefillNanos;
+
+  TokenBucket(int capacity, long refillPeriodNanos, long nowNanos) {
+    this.capacity = capacity;
+    this.tokensPerNano = capacity / (double) refillPeriodNanos;
+    this.tokens = capacity;
+    this.lastRefillNanos = nowNanos;
+  }
+
+  synchronized long tryConsume(long nowNanos) {
+    if (nowNanos > lastRefillNanos) {
+      tokens = Math.min(capacity, tokens + (nowNanos - lastRefillNanos) * tokensPerNano);
+      lastRefillNanos = nowNanos;
+    }
+    if (tokens >= 1) {
+      tokens -= 1;
+      return 0;
+    }
+    return (long) Math.ceil((1 - tokens) / tokensPerNano);
+  }
+}
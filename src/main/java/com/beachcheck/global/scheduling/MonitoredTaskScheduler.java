@@ -0,0 +1,82 @@
+package com.beachcheck.global.scheduling;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Why: 모든 @Scheduled 작업이 기본 단일 스레드 스케줄러를 공유하면, 긴 상태 갱신 작업이 도는 동안 아웃박스 폴링이 멈춰 푸시 지연이 튀기 때문에.
+ *
+ * <p>Policy:
+ *
+ * <ul>
+ *   <li>작업군마다 이름 있는 별도 풀을 쓴다. 스레드 이름은 "{name}-scheduler-N"이다.
+ *   <li>같은 작업은 겹쳐 실행되지 않는다. fixedRate/fixedDelay는 ScheduledThreadPoolExecutor가, cron은 Spring의
+ *       ReschedulingRunnable이 이전 실행이 끝난 뒤에 다음 실행을 큐에 넣는다. 밀린 실행은 건너뛰지 않고 늦게 시작한다.
+ *   <li>예정 시각 대비 시작 지연은 scheduler.task.delay, 실행 시간은 scheduler.task.execution
+ *       (tag: scheduler)로 남긴다.
+ *   <li>virtualThreads=true면 같은 풀 구조를 가상 스레드로 실행한다. 이때 풀 크기는 동시 실행 상한이다.
+ * </ul>
+ */
+public class MonitoredTaskScheduler extends ThreadPoolTaskScheduler {
+
+  private final String name;
+  private final Timer delayTimer;
+  private final Timer executionTimer;
+
+  public MonitoredTaskScheduler(
+      String name, int poolSize, boolean virtualThreads, MeterRegistry meterRegistry) {
+    this.name = name;
+    this.delayTimer = meterRegistry.timer("scheduler.task.delay", "scheduler", name);
+    this.executionTimer = meterRegistry.timer("scheduler.task.execution", "scheduler", name);
+
+    setPoolSize(poolSize);
+    setThreadNamePrefix(name + "-scheduler-");
+    if (virtualThreads) {
+      setThreadFactory(Thread.ofVirtual().name(name + "-scheduler-", 1).factory());
+    }
+    setWaitForTasksToCompleteOnShutdown(true);
+    setAwaitTerminationSeconds(30);
+    Gauge.builder("scheduler.pool.active", this, ThreadPoolTaskScheduler::getActiveCount)
+        .tag("scheduler", name)
+        .register(meterRegistry);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  protected ScheduledExecutorService createExecutor(
+      int poolSize, ThreadFactory threadFactory, RejectedExecutionHandler rejectedHandler) {
+    return new ScheduledThreadPoolExecutor(poolSize, threadFactory, rejectedHandler) {
+      private final ThreadLocal<Long> startedAt = new ThreadLocal<>();
+
+      @Override
+      protected void beforeExecute(Thread thread, Runnable task) {
+        // 실행 직전의 getDelay()는 예정 시각을 지난 만큼 음수가 된다.
+        if (task instanceof Delayed delayed) {
+          delayTimer.record(
+              Math.max(0L, -delayed.getDelay(TimeUnit.NANOSECONDS)), TimeUnit.NANOSECONDS);
+        }
+        startedAt.set(System.nanoTime());
+      }
+
+      @Override
+      protected void afterExecute(Runnable task, Throwable failure) {
+        Long started = startedAt.get();
+        startedAt.remove();
+        if (started != null) {
+          executionTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+      }
+    };
+  }
+}
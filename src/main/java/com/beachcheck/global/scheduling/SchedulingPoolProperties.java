@@ -0,0 +1,43 @@
+package com.beachcheck.global.scheduling;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Why: 작업 성격별(발송, 상태 갱신, 보존 정리) 스케줄러 풀 크기를 따로 조정하기 위해.
+ *
+ * <p>Policy: outbox는 FCM/이메일 아웃박스 폴링이 서로 기다리지 않도록 기본 2개, 나머지는 1개다. 가상 스레드 모드에서는 풀 크기가
+ * 동시 실행 상한 역할만 한다.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.scheduling.pools")
+public class SchedulingPoolProperties {
+
+  private int outbox = 2;
+  private int conditions = 1;
+  private int retention = 1;
+
+  public int getOutbox() {
+    return outbox;
+  }
+
+  public void setOutbox(int outbox) {
+    this.outbox = outbox;
+  }
+
+  public int getConditions() {
+    return conditions;
+  }
+
+  public void setConditions(int conditions) {
+    this.conditions = conditions;
+  }
+
+  public int getRetention() {
+    return retention;
+  }
+
+  public void setRetention(int retention) {
+    this.retention = retention;
+  }
+}
@@ -0,0 +1,58 @@
+package com.beachcheck.global.security;
+
+import java.time.Duration;
+import java.util.function.IntFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Why: 배포 하드웨어마다 같은 BCrypt cost의 소요 시간이 달라, 고정 cost로는 보안 강도와 로그인 지연을 함께 맞추기 어렵기 때문에.
+ *
+ * <p>Policy: minStrength부터 cost를 1씩 올리며 1회 해싱 시간을 측정하고, targetLatency 이하인 가장 높은 cost를 고른다. cost가
+ * 1 오르면 시간이 약 2배가 되므로 목표를 넘는 첫 cost에서 측정을 멈춘다. minStrength가 이미 목표를 넘으면 minStrength를 쓴다.
+ *
+ * <p>Contract(Output): 반환값은 항상 [minStrength, maxStrength] 범위다. 기존 해시는 cost가 해시에 포함되므로 계속 검증된다.
+ */
+class BCryptStrengthCalibrator {
+
+  private static final Logger log = LoggerFactory.getLogger(BCryptStrengthCalibrator.class);
+  private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+
+  private final IntFunction<Duration> benchmark;
+
+  BCryptStrengthCalibrator() {
+    this(BCryptStrengthCalibrator::measure);
+  }
+
+  BCryptStrengthCalibrator(IntFunction<Duration> benchmark) {
+    this.benchmark = benchmark;
+  }
+
+  int calibrate(PasswordHashingProperties.Calibration calibration) {
+    int min = calibration.getMinStrength();
+    int max = Math.max(min, calibration.getMaxStrength());
+    Duration target = calibration.getTargetLatency();
+
+    int chosen = min;
+    for (int strength = min; strength <= max; strength++) {
+      Duration elapsed = benchmark.apply(strength);
+      log.info("BCrypt calibration strength={} elapsed={}ms", strength, elapsed.toMillis());
+      if (elapsed.compareTo(target) > 0) {
+        break;
+      }
+      chosen = strength;
+    }
+    log.info("BCrypt strength calibrated to {} (target={}ms)", chosen, target.toMillis());
+    return chosen;
+  }
+
+  private static Duration measure(int strength) {
+    BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+    // 첫 호출은 클래스 로딩/JIT 영향을 받으므로 버리고 두 번째 측정값을 쓴다.
+    encoder.encode(SAMPLE_PASSWORD);
+    long started = System.nanoTime();
+    encoder.encode(SAMPLE_PASSWORD);
+    return Duration.ofNanos(System.nanoTime() - started);
+  }
+}
@@ -0,0 +1,113 @@
+package com.beachcheck.global.security;
+
+import com.beachcheck.global.exception.ApiException;
+import com.beachcheck.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Why: BCrypt는 CPU 바운드 작업이라 서블릿 스레드에서 제한 없이 실행하면 로그인 폭주가 코어를 모두 점유해 I/O 위주의 다른 API까지 지연시키기
+ * 때문에.
+ *
+ * <p>Policy:
+ *
+ * <ul>
+ *   <li>encode/matches는 코어 수 크기의 전용 풀에서만 실행한다. 동시 해싱 수가 코어 수를 넘지 않는다.
+ *   <li>대기 큐는 queueCapacity로 제한하고, 가득 차면 기다리지 않고 즉시 503 SERVICE_BUSY로 거절한다.
+ *   <li>큐에 들어갔더라도 maxWait 안에 끝나지 않으면 작업을 취소하고 같은 오류로 응답한다.
+ *   <li>풀 상태는 executor.* 메트릭(name=passwordHashing)으로, 거절 건수는 auth.password_hashing.rejected로 노출한다.
+ * </ul>
+ *
+ * <p>Contract(Output): 해시 형식은 위임 인코더와 동일하다. 기존 저장 해시와 호환된다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+  static final String EXECUTOR_NAME = "passwordHashing";
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+  private final long maxWaitMillis;
+  private final Counter rejected;
+
+  public BoundedPasswordEncoder(
+      PasswordEncoder delegate, PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    int poolSize = properties.resolvedPoolSize();
+    this.executor =
+        new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+            new CustomizableThreadFactory("password-hash-"),
+            new ThreadPoolExecutor.AbortPolicy());
+    this.maxWaitMillis = properties.getMaxWait().toMillis();
+    this.rejected = meterRegistry.counter("auth.password_hashing.rejected");
+    ExecutorServiceMetrics.monitor(meterRegistry, executor, EXECUTOR_NAME, List.of());
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return execute(() -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return execute(() -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdown();
+  }
+
+  private <T> T execute(Callable<T> task) {
+    Future<T> future;
+    try {
+      future = executor.submit(task);
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      throw busy();
+    }
+
+    try {
+      return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      rejected.increment();
+      throw busy();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw busy();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      throw new IllegalStateException("Password hashing failed", e.getCause());
+    }
+  }
+
+  private ApiException busy() {
+    return new ApiException(ErrorCode.SERVICE_BUSY, "Password hashing capacity exceeded");
+  }
+}
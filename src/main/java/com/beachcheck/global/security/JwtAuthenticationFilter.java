@@ -1,12 +1,11 @@
 package com.beachcheck.global.security;
 
-import com.beachcheck.user.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.UUID;
+import java.util.Optional;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -19,13 +18,18 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtUtils jwtUtils;
-  private final UserRepository userRepository;
+  private final PrincipalCache principalCache;
+  private final PrincipalCacheProperties principalCacheProperties;
 
   // TODO(OAuth): OAuth 클레임/권한 매핑 정책 확정 시 인증 객체 생성 로직 보완.
 
-  public JwtAuthenticationFilter(JwtUtils jwtUtils, UserRepository userRepository) {
+  public JwtAuthenticationFilter(
+      JwtUtils jwtUtils,
+      PrincipalCache principalCache,
+      PrincipalCacheProperties principalCacheProperties) {
     this.jwtUtils = jwtUtils;
-    this.userRepository = userRepository;
+    this.principalCache = principalCache;
+    this.principalCacheProperties = principalCacheProperties;
   }
 
   @Override
@@ -40,14 +44,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       throws ServletException, IOException {
     try {
       String jwt = getJwtFromRequest(request);
+      // 서명 검증/클레임 파싱은 요청당 최대 한 번 (최근 검증 토큰은 JwtUtils 캐시에서 재사용)
+      Optional<VerifiedToken> verified =
+          StringUtils.hasText(jwt) ? jwtUtils.verify(jwt) : Optional.empty();
 
-      if (StringUtils.hasText(jwt) && jwtUtils.validateToken(jwt) && jwtUtils.isAccessToken(jwt)) {
-        UUID userId = jwtUtils.getUserIdFromToken(jwt);
-
-        UserDetails userDetails =
-            userRepository
-                .findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+      if (verified.isPresent() && verified.get().isAccessToken()) {
+        UserDetails userDetails = resolvePrincipal(verified.get());
 
         UsernamePasswordAuthenticationToken authentication =
             new UsernamePasswordAuthenticationToken(
@@ -63,6 +65,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     filterChain.doFilter(request, response);
   }
 
+  /**
+   * Why: 요청마다 users를 조회하지 않기 위해. Policy: 기본은 PrincipalCache(사용자 변경 시 무효화), stateless 모드면 토큰 클레임으로
+   * 만든다. Contract(Output): 사용자가 없으면 예외를 던져 인증 없이 체인을 계속 진행하게 한다.
+   */
+  private UserDetails resolvePrincipal(VerifiedToken token) {
+    if (principalCacheProperties.isStateless()) {
+      return token.toPrincipal();
+    }
+    return principalCache
+        .find(token.userId())
+        .orElseThrow(() -> new RuntimeException("User not found"));
+  }
+
   private String getJwtFromRequest(HttpServletRequest request) {
     String bearerToken = request.getHeader("Authorization");
     if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
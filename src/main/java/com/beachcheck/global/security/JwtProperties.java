@@ -10,6 +10,8 @@ public class JwtProperties {
   private String secret;
   private long accessTokenExpiration;
   private long refreshTokenExpiration;
+  // 검증된 토큰 다이제스트 LRU 최대 건수 (토큰 만료 시각까지만 유지)
+  private long verifiedTokenCacheSize = 10_000;
 
   // Getters and Setters
   public String getSecret() {
@@ -35,4 +37,12 @@ public class JwtProperties {
   public void setRefreshTokenExpiration(long refreshTokenExpiration) {
     this.refreshTokenExpiration = refreshTokenExpiration;
   }
+
+  public long getVerifiedTokenCacheSize() {
+    return verifiedTokenCacheSize;
+  }
+
+  public void setVerifiedTokenCacheSize(long verifiedTokenCacheSize) {
+    this.verifiedTokenCacheSize = verifiedTokenCacheSize;
+  }
 }
@@ -1,30 +1,50 @@
 package com.beachcheck.global.security;
 
+import com.beachcheck.global.util.HashUtils;
 import com.beachcheck.user.domain.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import javax.crypto.SecretKey;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 @Component
 public class JwtUtils {
 
   private static final Logger log = LoggerFactory.getLogger(JwtUtils.class);
   private final SecretKey key;
+  private final JwtParser parser;
+  private final Cache<String, VerifiedToken> verifiedTokens;
   private final long accessTokenExpiration;
   private final long refreshTokenExpiration;
 
   public JwtUtils(JwtProperties jwtProperties) {
     this.key = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+    this.parser = Jwts.parser().verifyWith(key).build();
+    this.verifiedTokens =
+        Caffeine.newBuilder()
+            .maximumSize(jwtProperties.getVerifiedTokenCacheSize())
+            .expireAfter(new UntilTokenExpiry())
+            .build();
     this.accessTokenExpiration = jwtProperties.getAccessTokenExpiration();
     this.refreshTokenExpiration = jwtProperties.getRefreshTokenExpiration();
   }
@@ -59,44 +79,77 @@ public class JwtUtils {
   }
 
   public UUID getUserIdFromToken(String token) {
-    Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
-
-    return UUID.fromString(claims.getSubject());
+    return verify(token)
+        .map(VerifiedToken::userId)
+        .orElseThrow(() -> new JwtException("Invalid JWT"));
   }
 
   public boolean validateToken(String token) {
+    return verify(token).isPresent();
+  }
+
+  public boolean isAccessToken(String token) {
+    return verify(token).map(VerifiedToken::isAccessToken).orElse(false);
+  }
+
+  /**
+   * Why: 요청 하나에서 서명 검증과 JSON 파싱을 여러 번 반복하지 않기 위해.
+   *
+   * <p>Policy:
+   *
+   * <ul>
+   *   <li>파서는 생성 시 한 번 만들어 재사용한다(thread-safe).
+   *   <li>검증에 성공한 토큰은 SHA-256 다이제스트를 키로 LRU에 보관하고, 토큰 자체 만료 시각까지만 유효하다.
+   *   <li>캐시 적중 시 서명 검증/파싱 없이 같은 결과를 돌려준다.
+   * </ul>
+   *
+   * <p>Contract(Output): 서명 불일치/만료/형식 오류면 empty.
+   */
+  public Optional<VerifiedToken> verify(String token) {
+    if (!StringUtils.hasText(token)) {
+      return Optional.empty();
+    }
+
+    String digest = HashUtils.sha256Hex(token);
+    VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+    if (cached != null) {
+      if (!cached.isExpired(Instant.now())) {
+        return Optional.of(cached);
+      }
+      verifiedTokens.invalidate(digest);
+    }
+
+    VerifiedToken verified = parse(token);
+    if (verified != null) {
+      verifiedTokens.put(digest, verified);
+    }
+    return Optional.ofNullable(verified);
+  }
+
+  private VerifiedToken parse(String token) {
     try {
-      Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-      return true;
-    } catch (SecurityException | MalformedJwtException e) {
-      // Invalid JWT signature
+      Claims claims = parser.parseSignedClaims(token).getPayload();
+      if (claims.getSubject() == null || claims.getExpiration() == null) {
+        log.info("JWT without subject or expiration");
+        return null;
+      }
+      return new VerifiedToken(
+          UUID.fromString(claims.getSubject()),
+          claims.get("type", String.class),
+          claims.get("email", String.class),
+          claims.get("role", String.class),
+          claims.getExpiration().toInstant());
+    } catch (SignatureException | MalformedJwtException e) {
       log.info("Invalid JWT signature: {}", e.getMessage());
     } catch (ExpiredJwtException e) {
-      // Expired JWT token
       log.info("Expired token: {}", e.getMessage());
     } catch (UnsupportedJwtException e) {
-      // Unsupported JWT token
       log.info("Unsupported token: {}", e.getMessage());
-    } catch (IllegalArgumentException e) {
-      // JWT claims string is empty
-      log.info("JWT claims string is empty: {}", e.getMessage());
-    }
-    return false;
-  }
-
-  public boolean isAccessToken(String token) {
-    try {
-      Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
-      String tokenType = claims.get("type", String.class);
-      // Backward compatibility: tokens without "type" are treated as access tokens.
-      return tokenType == null || "access".equals(tokenType);
-    } catch (SecurityException
-        | MalformedJwtException
-        | ExpiredJwtException
-        | UnsupportedJwtException
-        | IllegalArgumentException e) {
-      return false;
+    } catch (JwtException | IllegalArgumentException e) {
+      // 빈 클레임 문자열 또는 UUID가 아닌 sub
+      log.info("Invalid JWT claims: {}", e.getMessage());
     }
+    return null;
   }
 
   public long getAccessTokenExpiration() {
@@ -106,4 +159,26 @@ public class JwtUtils {
   public long getRefreshTokenExpirationMillis() {
     return refreshTokenExpiration;
   }
+
+  /** 검증 캐시 항목은 토큰의 exp 시각에 만료된다. 조회/갱신으로 수명이 늘어나지 않는다. */
+  private static final class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+    @Override
+    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+      long millis = Duration.between(Instant.now(), value.expiresAt()).toMillis();
+      return TimeUnit.MILLISECONDS.toNanos(Math.max(0, millis));
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String key, VerifiedToken value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        String key, VerifiedToken value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
 }
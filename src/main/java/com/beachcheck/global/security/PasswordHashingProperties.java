@@ -0,0 +1,102 @@
+package com.beachcheck.global.security;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Why: 비밀번호 해싱 전용 풀의 크기/대기 한도와 BCrypt cost를 설정으로 조정하기 위해.
+ *
+ * <p>Policy: poolSize=0이면 가용 코어 수를 사용한다. calibration.enabled=true면 기동 시 targetLatency를 넘지 않는 가장 높은
+ * cost를 [minStrength, maxStrength] 범위에서 측정해 strength 대신 사용한다. 측정값은 노드 사양/기동 시 부하에 따라 달라지므로
+ * 기본은 꺼 두고(운영은 고정 strength) 필요한 환경에서만 켠다.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.security.password-hashing")
+public class PasswordHashingProperties {
+
+  private int poolSize = 0;
+  private int queueCapacity = 64;
+  private Duration maxWait = Duration.ofSeconds(5);
+  private int strength = 10;
+  private final Calibration calibration = new Calibration();
+
+  public int getPoolSize() {
+    return poolSize;
+  }
+
+  public void setPoolSize(int poolSize) {
+    this.poolSize = poolSize;
+  }
+
+  public int resolvedPoolSize() {
+    return poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+  }
+
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  public void setQueueCapacity(int queueCapacity) {
+    this.queueCapacity = queueCapacity;
+  }
+
+  public Duration getMaxWait() {
+    return maxWait;
+  }
+
+  public void setMaxWait(Duration maxWait) {
+    this.maxWait = maxWait;
+  }
+
+  public int getStrength() {
+    return strength;
+  }
+
+  public void setStrength(int strength) {
+    this.strength = strength;
+  }
+
+  public Calibration getCalibration() {
+    return calibration;
+  }
+
+  public static class Calibration {
+    private boolean enabled = false;
+    private Duration targetLatency = Duration.ofMillis(250);
+    private int minStrength = 10;
+    private int maxStrength = 14;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public Duration getTargetLatency() {
+      return targetLatency;
+    }
+
+    public void setTargetLatency(Duration targetLatency) {
+      this.targetLatency = targetLatency;
+    }
+
+    public int getMinStrength() {
+      return minStrength;
+    }
+
+    public void setMinStrength(int minStrength) {
+      this.minStrength = minStrength;
+    }
+
+    public int getMaxStrength() {
+      return maxStrength;
+    }
+
+    public void setMaxStrength(int maxStrength) {
+      this.maxStrength = maxStrength;
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.beachcheck.global.security;
+
+import com.beachcheck.global.cache.TwoLevelCache;
+import com.beachcheck.global.cache.TwoLevelCacheManager;
+import com.beachcheck.user.domain.User;
+import com.beachcheck.user.domain.UserChangedEvent;
+import com.beachcheck.user.repository.UserRepository;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.cache.Cache;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Why: 인증된 요청마다 users 조회(커넥션 점유 포함)를 하던 비용을 없애기 위해 사용자 ID별 principal을 짧게 보관한다.
+ *
+ * <p>Policy:
+ *
+ * <ul>
+ *   <li>TwoLevelCacheManager의 principalCache(크기/ttl은 app.cache.specs.principalCache)를 쓴다. 무효화는
+ *       Redis invalidation 채널로 다른 노드에도 전파되므로, 한 노드에서 사용자를 비활성화하거나 권한을 바꿔도 다른 노드가 이전
+ *       principal로 인증하지 않는다. 미존재 사용자는 캐시하지 않는다.
+ *   <li>캐시 값은 불변 {@link PrincipalSnapshot}이다(비밀번호 해시 없음).
+ *   <li>UserChangedEvent 수신 시 즉시 제거하고, 트랜잭션 안이면 커밋 후 한 번 더 제거해 커밋 전 재적재된 값을 버린다.
+ *   <li>hit/miss/eviction은 cache.* 메트릭(cache=principalCache)으로 노출한다.
+ * </ul>
+ *
+ * <p>Contract(Output): 조회마다 새 User 인스턴스를 돌려준다(password는 null). 변경이 필요하면 UserRepository로 다시 조회한다.
+ */
+@Component
+public class PrincipalCache {
+
+  static final String CACHE_NAME = "principalCache";
+
+  private final UserRepository userRepository;
+  private final PrincipalCacheProperties properties;
+  private final TwoLevelCache cache;
+
+  public PrincipalCache(
+      UserRepository userRepository,
+      PrincipalCacheProperties properties,
+      TwoLevelCacheManager cacheManager) {
+    this.userRepository = userRepository;
+    this.properties = properties;
+    this.cache = cacheManager.getCache(CACHE_NAME);
+  }
+
+  public Optional<User> find(UUID userId) {
+    if (!properties.isEnabled()) {
+      return userRepository
+          .findById(userId)
+          .map(PrincipalSnapshot::from)
+          .map(PrincipalSnapshot::toUser);
+    }
+    try {
+      PrincipalSnapshot snapshot =
+          cache.get(
+              userId,
+              () -> userRepository.findById(userId).map(PrincipalSnapshot::from).orElseThrow());
+      return Optional.of(snapshot.toUser());
+    } catch (Cache.ValueRetrievalException e) {
+      // 미존재 사용자는 로더가 NoSuchElementException으로 끝내 캐시에 남기지 않는다.
+      if (e.getCause() instanceof NoSuchElementException) {
+        return Optional.empty();
+      }
+      throw e;
+    }
+  }
+
+  public void evict(UUID userId) {
+    cache.evict(userId);
+  }
+
+  @EventListener
+  public void onUserChanged(UserChangedEvent event) {
+    UUID userId = event.userId();
+    evict(userId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              evict(userId);
+            }
+          });
+    }
+  }
+}
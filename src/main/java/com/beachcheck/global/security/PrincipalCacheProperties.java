@@ -0,0 +1,35 @@
+package com.beachcheck.global.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Why: 인증 필터의 사용자 조회 캐시 사용 여부와 무상태 모드를 설정으로 조정하기 위해.
+ *
+ * <p>Policy: 캐시 크기/만료는 다른 캐시와 같이 app.cache.specs.principalCache로 정한다. stateless=true면 DB/캐시를
+ * 거치지 않고 액세스 토큰 클레임(sub, email, role)만으로 principal을 만든다. 이 경우 권한/활성 상태 변경은 토큰 만료 전까지 반영되지
+ * 않는다.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.security.principal-cache")
+public class PrincipalCacheProperties {
+
+  private boolean enabled = true;
+  private boolean stateless = false;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public boolean isStateless() {
+    return stateless;
+  }
+
+  public void setStateless(boolean stateless) {
+    this.stateless = stateless;
+  }
+}
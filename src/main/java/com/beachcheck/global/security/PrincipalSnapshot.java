@@ -0,0 +1,35 @@
+package com.beachcheck.global.security;
+
+import com.beachcheck.user.domain.User;
+import java.util.UUID;
+
+/**
+ * Why: 인증 principal 캐시에 엔티티 대신 불변 값을 두기 위해. 공유되는 detached User는 요청 간에 변경될 수 있고 비밀번호 해시까지
+ * 캐시(및 Redis)에 남긴다.
+ *
+ * <p>Policy: principal로 쓰는 필드(id, email, name, role, enabled)만 담는다. 비밀번호 해시는 담지 않는다.
+ *
+ * <p>Contract(Output): {@link #toUser()}는 호출마다 새 User를 만든다. 요청끼리 인스턴스를 공유하지 않으며 password는 null이다.
+ */
+public record PrincipalSnapshot(
+    UUID id, String email, String name, User.Role role, boolean enabled) {
+
+  public static PrincipalSnapshot from(User user) {
+    return new PrincipalSnapshot(
+        user.getId(),
+        user.getEmail(),
+        user.getName(),
+        user.getRole(),
+        Boolean.TRUE.equals(user.getEnabled()));
+  }
+
+  public User toUser() {
+    User user = new User();
+    user.setId(id);
+    user.setEmail(email);
+    user.setName(name);
+    user.setRole(role);
+    user.setEnabled(enabled);
+    return user;
+  }
+}
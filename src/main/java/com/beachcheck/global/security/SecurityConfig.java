@@ -1,8 +1,13 @@
 package com.beachcheck.global.security;
 
 import com.beachcheck.global.exception.ErrorCode;
+import com.beachcheck.global.idempotency.IdempotencyFilter;
+import com.beachcheck.global.ratelimit.AuthRateLimitFilter;
+import com.beachcheck.reservation.controller.ReservationController;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -28,9 +33,16 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 public class SecurityConfig {
 
   private final JwtAuthenticationFilter jwtAuthenticationFilter;
+  private final IdempotencyFilter idempotencyFilter;
+  private final AuthRateLimitFilter authRateLimitFilter;
 
-  public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+  public SecurityConfig(
+      JwtAuthenticationFilter jwtAuthenticationFilter,
+      IdempotencyFilter idempotencyFilter,
+      AuthRateLimitFilter authRateLimitFilter) {
     this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+    this.idempotencyFilter = idempotencyFilter;
+    this.authRateLimitFilter = authRateLimitFilter;
   }
 
   /**
@@ -118,7 +130,11 @@ public class SecurityConfig {
                     // 그 외는 인증 필요
                     .anyRequest()
                     .authenticated())
-        .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+        // 로그인/회원가입 폭주는 JWT 처리나 BCrypt 이전에 차단한다.
+        .addFilterBefore(authRateLimitFilter, JwtAuthenticationFilter.class)
+        // 멱등 키는 사용자 단위로 격리하므로 JWT 인증 이후에 처리한다.
+        .addFilterAfter(idempotencyFilter, JwtAuthenticationFilter.class);
 
     return http.build();
   }
@@ -132,14 +148,48 @@ public class SecurityConfig {
     config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
     config.setAllowedHeaders(List.of("*"));
     config.setAllowCredentials(true);
+    // 커서 페이지네이션 헤더는 safelisted 응답 헤더가 아니므로 노출해야 브라우저 클라이언트가 읽을 수 있다.
+    config.setExposedHeaders(List.of(ReservationController.NEXT_CURSOR_HEADER));
 
     UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
     source.registerCorsConfiguration("/**", config);
     return source;
   }
 
+  /**
+   * Why: IdempotencyFilter는 @Component라 서블릿 필터로도 자동 등록된다. 인증 이전에 먼저 실행되면 사용자 없이 통과 처리되어
+   * OncePerRequestFilter 표시 때문에 보안 체인 안에서는 건너뛰게 되므로, 자동 등록을 끈다.
+   */
+  @Bean
+  public FilterRegistrationBean<IdempotencyFilter> idempotencyFilterRegistration(
+      IdempotencyFilter filter) {
+    FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(filter);
+    registration.setEnabled(false);
+    return registration;
+  }
+
+  /** Why: AuthRateLimitFilter도 보안 체인 안에서만 실행되도록 서블릿 필터 자동 등록을 끈다. */
+  @Bean
+  public FilterRegistrationBean<AuthRateLimitFilter> authRateLimitFilterRegistration(
+      AuthRateLimitFilter filter) {
+    FilterRegistrationBean<AuthRateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+    registration.setEnabled(false);
+    return registration;
+  }
+
+  /**
+   * Why: BCrypt 해싱을 요청 스레드가 아닌 코어 수 크기의 전용 풀에서 실행해 CPU 바운드 작업을 격리한다.
+   *
+   * <p>Policy: calibration.enabled=true면 기동 시 측정한 cost를, 아니면 설정된 strength를 사용한다.
+   */
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder passwordEncoder(
+      PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+    int strength =
+        properties.getCalibration().isEnabled()
+            ? new BCryptStrengthCalibrator().calibrate(properties.getCalibration())
+            : properties.getStrength();
+    return new BoundedPasswordEncoder(
+        new BCryptPasswordEncoder(strength), properties, meterRegistry);
   }
 }
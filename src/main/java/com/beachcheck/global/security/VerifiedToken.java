@@ -0,0 +1,39 @@
+package com.beachcheck.global.security;
+
+import com.beachcheck.user.domain.User;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Why: 서명 검증과 클레임 파싱을 요청당 한 번만 하고, 그 결과를 필터/캐시가 공유하기 위해.
+ *
+ * <p>Policy: 불변 값이며 JwtUtils.verify만 생성한다. type 클레임이 없는 레거시 토큰은 access로 간주한다.
+ *
+ * <p>Contract(Output): email/role은 refresh 토큰에서 null일 수 있다.
+ */
+public record VerifiedToken(
+    UUID userId, String type, String email, String role, Instant expiresAt) {
+
+  static final String TYPE_ACCESS = "access";
+
+  public boolean isAccessToken() {
+    return type == null || TYPE_ACCESS.equals(type);
+  }
+
+  public boolean isExpired(Instant now) {
+    return !expiresAt.isAfter(now);
+  }
+
+  /**
+   * Why: 무상태 인증 모드에서 DB 조회 없이 principal을 만들기 위해. Policy: sub/email/role 클레임만 사용하며 검증된 토큰이면 enabled로
+   * 간주한다.
+   */
+  public User toPrincipal() {
+    User user = new User();
+    user.setId(userId);
+    user.setEmail(email);
+    user.setRole(role == null ? User.Role.USER : User.Role.valueOf(role));
+    user.setEnabled(true);
+    return user;
+  }
+}
@@ -0,0 +1,96 @@
+package com.beachcheck.global.util;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Why: 필터가 본문을 한 번 읽어 검사(이메일 추출, 멱등 요청 지문)한 뒤에도 컨트롤러가 다시 읽을 수 있도록 보관하기 위해.
+ *
+ * <p>Policy: maxBytes를 넘는 본문은 앞부분만 메모리에 두고 나머지는 원래 스트림에서 이어 읽는다. {@link #body()}는 전체를 읽은
+ * 경우에만 본문을, {@link #head()}는 항상 메모리에 있는 앞부분(최대 maxBytes + 1바이트)을 돌려준다.
+ */
+public final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+  private final byte[] head;
+  private final boolean complete;
+
+  private CachedBodyRequest(HttpServletRequest request, byte[] head, boolean complete) {
+    super(request);
+    this.head = head;
+    this.complete = complete;
+  }
+
+  public static CachedBodyRequest wrap(HttpServletRequest request, int maxBytes)
+      throws IOException {
+    byte[] head = request.getInputStream().readNBytes(maxBytes + 1);
+    return new CachedBodyRequest(request, head, head.length <= maxBytes);
+  }
+
+  public byte[] body() {
+    return complete ? head : new byte[0];
+  }
+
+  public byte[] head() {
+    return head;
+  }
+
+  @Override
+  public ServletInputStream getInputStream() throws IOException {
+    InputStream in =
+        complete
+            ? new ByteArrayInputStream(head)
+            : new SequenceInputStream(new ByteArrayInputStream(head), super.getInputStream());
+    return new ServletInputStream() {
+      private boolean finished;
+
+      @Override
+      public boolean isFinished() {
+        return finished;
+      }
+
+      @Override
+      public boolean isReady() {
+        return true;
+      }
+
+      /** 본문은 이미 메모리에 있으므로(남은 부분도 블로킹으로 이어 읽는다) 등록 즉시 읽기 가능과 읽기 완료를 알린다. */
+      @Override
+      public void setReadListener(ReadListener readListener) {
+        try {
+          readListener.onDataAvailable();
+          readListener.onAllDataRead();
+        } catch (IOException e) {
+          readListener.onError(e);
+        }
+      }
+
+      @Override
+      public int read() throws IOException {
+        int b = in.read();
+        finished = b < 0;
+        return b;
+      }
+
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        int n = in.read(b, off, len);
+        finished = n < 0;
+        return n;
+      }
+    };
+  }
+
+  @Override
+  public BufferedReader getReader() throws IOException {
+    return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+  }
+}
@@ -1,21 +1,37 @@
 package com.beachcheck.global.util;
 
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.HexFormat;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 
 public final class HashUtils {
 
   private HashUtils() {}
 
   public static String sha256Hex(String value) {
+    return sha256Hex(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static String sha256Hex(byte[] value) {
     try {
       MessageDigest digest = MessageDigest.getInstance("SHA-256");
-      byte[] hashed = digest.digest(value.getBytes(StandardCharsets.UTF_8));
-      return HexFormat.of().formatHex(hashed);
+      return HexFormat.of().formatHex(digest.digest(value));
     } catch (NoSuchAlgorithmException ex) {
       throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", ex);
     }
   }
+
+  public static String hmacSha256Hex(String key, String value) {
+    try {
+      Mac mac = Mac.getInstance("HmacSHA256");
+      mac.init(new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+      return HexFormat.of().formatHex(mac.doFinal(value.getBytes(StandardCharsets.UTF_8)));
+    } catch (GeneralSecurityException ex) {
+      throw new IllegalStateException("HmacSHA256 알고리즘을 사용할 수 없습니다.", ex);
+    }
+  }
 }
@@ -1,5 +1,6 @@
 package com.beachcheck.outbox.config;
 
+import com.beachcheck.global.concurrency.ConcurrencyLimiters;
 import com.beachcheck.notification.repository.NotificationRepository;
 import com.beachcheck.outbox.repository.OutboxEventRepository;
 import com.beachcheck.outbox.service.OutboxEventDispatcher;
@@ -28,9 +29,13 @@ public class OutboxFirebaseConfig {
   public OutboxEventDispatcher outboxEventDispatcher(
       OutboxEventRepository outboxEventRepository,
       NotificationRepository notificationRepository,
-      FirebaseMessaging firebaseMessaging) {
+      FirebaseMessaging firebaseMessaging,
+      ConcurrencyLimiters limiters) {
     return new OutboxEventDispatcher(
-        outboxEventRepository, notificationRepository, firebaseMessaging);
+        outboxEventRepository,
+        notificationRepository,
+        firebaseMessaging,
+        limiters.get(ConcurrencyLimiters.FCM));
   }
 
   @Bean
@@ -1,5 +1,6 @@
 package com.beachcheck.outbox.config;
 
+import com.beachcheck.global.config.EnableSchedulingConfig;
 import com.beachcheck.outbox.service.OutboxPublisher;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -37,7 +38,9 @@ public class OutboxSchedulingConfig {
    *
    * <p>Policy: fixedDelay 방식으로 이전 실행 완료 후 delay만큼 대기 (동시 실행 방지)
    */
-  @Scheduled(fixedDelayString = "${app.outbox.polling.fixed-delay:1000}")
+  @Scheduled(
+      fixedDelayString = "${app.outbox.polling.fixed-delay:1000}",
+      scheduler = EnableSchedulingConfig.OUTBOX)
   public void scheduleOutboxPolling() {
     outboxPublisher.processPendingOutboxEvents();
   }
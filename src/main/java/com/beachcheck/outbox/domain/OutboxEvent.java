@@ -118,6 +118,12 @@ public class OutboxEvent {
     this.nextRetryAt = Instant.now().plus(nextRetryDelay);
   }
 
+  /** 전송을 시도하지 못한 경우(동시 실행 제한 등) 상태와 재시도 횟수는 그대로 두고 다음 처리 시각만 미룬다. */
+  public void deferRetry(Duration delay) {
+    validateNotTerminal(this.status);
+    this.nextRetryAt = Instant.now().plus(delay);
+  }
+
   public void markAsFailedPermanent() {
     validateNotTerminal(OutboxEventStatus.FAILED_PERMANENT);
     this.status = OutboxEventStatus.FAILED_PERMANENT;
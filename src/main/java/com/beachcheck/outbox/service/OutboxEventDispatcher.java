@@ -1,5 +1,7 @@
 package com.beachcheck.outbox.service;
 
+import com.beachcheck.global.concurrency.ConcurrencyLimitExceededException;
+import com.beachcheck.global.concurrency.ConcurrencyLimiter;
 import com.beachcheck.notification.domain.Notification;
 import com.beachcheck.notification.domain.Notification.NotificationStatus;
 import com.beachcheck.notification.repository.NotificationRepository;
@@ -11,6 +13,8 @@ import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.MessagingErrorCode;
 import java.time.Duration;
 import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,23 +26,29 @@ import org.springframework.transaction.annotation.Transactional;
  */
 public class OutboxEventDispatcher {
 
+  private static final Logger log = LoggerFactory.getLogger(OutboxEventDispatcher.class);
+
   private final OutboxEventRepository outboxEventRepository;
   private final NotificationRepository notificationRepository;
   private final FirebaseMessaging firebaseMessaging;
+  private final ConcurrencyLimiter fcmLimiter;
 
   public OutboxEventDispatcher(
       OutboxEventRepository outboxEventRepository,
       NotificationRepository notificationRepository,
-      FirebaseMessaging firebaseMessaging) {
+      FirebaseMessaging firebaseMessaging,
+      ConcurrencyLimiter fcmLimiter) {
     this.outboxEventRepository = outboxEventRepository;
     this.notificationRepository = notificationRepository;
     this.firebaseMessaging = firebaseMessaging;
+    this.fcmLimiter = fcmLimiter;
   }
 
   /**
    * Why: 각 이벤트마다 별도 트랜잭션으로 격리하여 FCM 전송 시 커넥션 풀을 오래 잡지 않도록 함 Policy: REQUIRES_NEW - OutboxPublisher의
    * readOnly 트랜잭션과 분리된 독립 트랜잭션으로 실행 Contract(Input): OutboxEvent - PENDING 또는 재시도 대상 이벤트
-   * Contract(Output): 성공 시 SENT, 재시도 가능 실패 시 FAILED_RETRIABLE, 영구 실패 시 FAILED_PERMANENT
+   * Contract(Output): 성공 시 SENT, 재시도 가능 실패 시 FAILED_RETRIABLE, 영구 실패 시 FAILED_PERMANENT. FCM 동시 실행
+   * 제한에 걸리면 전송을 시도하지 않은 것이므로 재시도 횟수를 쓰지 않고 backoff 뒤로 미룬다(배치의 다음 이벤트는 계속 처리).
    */
   @Transactional(propagation = Propagation.REQUIRES_NEW)
   public void dispatch(OutboxEvent event) {
@@ -58,7 +68,7 @@ public class OutboxEventDispatcher {
     // 3. FCM 전송
     try {
       Message message = notification.toFcmMessage();
-      firebaseMessaging.send(message);
+      fcmLimiter.execute(() -> firebaseMessaging.send(message));
 
       // 4. Notification 상태 업데이트
       notification.setStatus(NotificationStatus.SENT);
@@ -68,6 +78,11 @@ public class OutboxEventDispatcher {
       // 5. OutboxEvent 상태 업데이트
       event.markAsSent();
       outboxEventRepository.save(event);
+    } catch (ConcurrencyLimitExceededException e) {
+      Duration backoff = Duration.ofSeconds(1L << Math.min(event.getRetryCount(), 3));
+      log.warn("FCM 동시 실행 제한 초과 - outboxEventId: {}, 재시도까지 {}", event.getId(), backoff);
+      event.deferRetry(backoff);
+      outboxEventRepository.save(event);
     } catch (FirebaseMessagingException e) {
       // Exponential Backoff 재시도 로직
       if (isPermanentFcmError(e)) {
@@ -1,6 +1,7 @@
 package com.beachcheck.reservation.controller;
 
 import com.beachcheck.reservation.dto.ReservationCreateRequest;
+import com.beachcheck.reservation.dto.ReservationHistoryPage;
 import com.beachcheck.reservation.dto.ReservationResponse;
 import com.beachcheck.reservation.service.ReservationService;
 import com.beachcheck.user.domain.User;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -26,6 +28,8 @@ import org.springframework.web.server.ResponseStatusException;
 @Validated
 public class ReservationController {
 
+  public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
   // TODO(OAuth): OAuth 도입 시 인증 Principal 타입(User vs OAuth2User) 통일 및 401 처리 경로(필터/컨트롤러) 중복 정리.
   private final ReservationService reservationService;
 
@@ -51,14 +55,26 @@ public class ReservationController {
     return ResponseEntity.status(HttpStatus.CREATED).body(response);
   }
 
+  /**
+   * Why: 이력이 긴 사용자에게 전체 목록 대신 일정한 크기의 페이지를 반환하기 위해. Policy: 본문은 기존과 같은 배열 계약을 유지하고, 다음 페이지
+   * 커서는 X-Next-Cursor 헤더로 전달한다. Contract(Input): size는 1~100으로 보정되며, cursor는 직전 응답의 X-Next-Cursor
+   * 값이다. Contract(Output): 마지막 페이지에서는 X-Next-Cursor 헤더가 없다.
+   */
   @GetMapping("/reservations")
   public ResponseEntity<List<ReservationResponse>> getMyReservations(
-      @AuthenticationPrincipal User user) {
+      @AuthenticationPrincipal User user,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size) {
     if (user == null) {
       throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authentication required");
     }
 
-    return ResponseEntity.ok(reservationService.getMyReservations(user.getId()));
+    ReservationHistoryPage page = reservationService.getMyReservations(user.getId(), cursor, size);
+    ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+    if (page.hasNext()) {
+      builder.header(NEXT_CURSOR_HEADER, page.nextCursor());
+    }
+    return builder.body(page.items());
   }
 
   @DeleteMapping("/{beachId}/reservations/{reservationId}")
@@ -0,0 +1,64 @@
+package com.beachcheck.reservation.controller;
+
+import com.beachcheck.reservation.dto.ReservationExportFormat;
+import com.beachcheck.reservation.service.ReservationExportService;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.UUID;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/admin/beaches")
+public class ReservationExportController {
+
+  private static final String DEFAULT_ZONE = "Asia/Seoul";
+
+  private final ReservationExportService reservationExportService;
+
+  public ReservationExportController(ReservationExportService reservationExportService) {
+    this.reservationExportService = reservationExportService;
+  }
+
+  /**
+   * Why: 성수기 하루 시작 시 운영자가 해변별 예약 명단을 메모리 부담 없이 내려받게 하기 위해. Policy: /api/admin/** 는 ADMIN만
+   * 접근하며, 본문은 StreamingResponseBody로 JDBC 커서에서 바로 흘려보낸다. Contract(Input): date는 ISO 날짜(yyyy-MM-dd),
+   * zone 기본값은 Asia/Seoul, format은 CSV/NDJSON. Contract(Output): gzip=true면 .gz 첨부 파일로 내려준다.
+   */
+  @GetMapping("/{beachId}/reservations/export")
+  public ResponseEntity<StreamingResponseBody> exportReservations(
+      @PathVariable UUID beachId,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+      @RequestParam(defaultValue = DEFAULT_ZONE) ZoneId zone,
+      @RequestParam(defaultValue = "CSV") ReservationExportFormat format,
+      @RequestParam(defaultValue = "false") boolean gzip) {
+    // 스트리밍이 시작되면 상태 코드를 바꿀 수 없으므로 404는 미리 판별한다.
+    reservationExportService.assertBeachExists(beachId);
+
+    String filename =
+        "reservations-" + beachId + "-" + date + "." + format.getExtension() + (gzip ? ".gz" : "");
+    MediaType contentType =
+        gzip
+            ? MediaType.parseMediaType("application/gzip")
+            : MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8");
+
+    StreamingResponseBody body =
+        out -> reservationExportService.export(beachId, date, zone, format, gzip, out);
+
+    return ResponseEntity.ok()
+        .contentType(contentType)
+        .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(filename).build().toString())
+        .body(body);
+  }
+}
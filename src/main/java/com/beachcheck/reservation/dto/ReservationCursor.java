@@ -0,0 +1,43 @@
+package com.beachcheck.reservation.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Why: 예약 이력 페이지 경계를 offset이 아닌 마지막 행의 (reservedAt, id)로 표현해 페이지 비용을 일정하게 유지하기 위해. Policy: 외부에는
+ * Base64URL로 인코딩한 불투명 문자열로만 노출한다. Contract(Input): decode는 encode가 만든 문자열만 허용한다. Contract(Output):
+ * 형식이 맞지 않으면 IllegalArgumentException이 발생한다.
+ */
+public record ReservationCursor(Instant reservedAt, UUID id) {
+
+  private static final String SEPARATOR = "|";
+
+  public static ReservationCursor of(ReservationHistoryRow row) {
+    return new ReservationCursor(row.reservedAt(), row.id());
+  }
+
+  public String encode() {
+    String raw = reservedAt + SEPARATOR + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static ReservationCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = raw.indexOf(SEPARATOR);
+      if (separator < 0) {
+        throw new IllegalArgumentException("Malformed cursor");
+      }
+      return new ReservationCursor(
+          Instant.parse(raw.substring(0, separator)),
+          UUID.fromString(raw.substring(separator + 1)));
+    } catch (DateTimeParseException ex) {
+      throw new IllegalArgumentException("Malformed cursor", ex);
+    }
+  }
+}
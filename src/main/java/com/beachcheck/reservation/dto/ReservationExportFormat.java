@@ -0,0 +1,26 @@
+package com.beachcheck.reservation.dto;
+
+/**
+ * Why: 예약 명단 출력 형식별 Content-Type과 파일 확장자를 한 곳에서 관리하기 위해. Policy: CSV는 헤더 1줄 + 행, NDJSON은 행마다
+ * JSON 객체 1줄이다.
+ */
+public enum ReservationExportFormat {
+  CSV("text/csv", "csv"),
+  NDJSON("application/x-ndjson", "ndjson");
+
+  private final String contentType;
+  private final String extension;
+
+  ReservationExportFormat(String contentType, String extension) {
+    this.contentType = contentType;
+    this.extension = extension;
+  }
+
+  public String getContentType() {
+    return contentType;
+  }
+
+  public String getExtension() {
+    return extension;
+  }
+}
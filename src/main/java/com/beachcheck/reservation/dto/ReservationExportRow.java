@@ -0,0 +1,17 @@
+package com.beachcheck.reservation.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Why: 운영자용 예약 명단 한 줄을 엔티티 없이 JDBC 행에서 바로 만들기 위해. Policy: 커서에서 읽은 행은 즉시 출력되고 보관되지 않는다.
+ * Contract(Output): eventId만 null일 수 있다.
+ */
+public record ReservationExportRow(
+    UUID reservationId,
+    UUID userId,
+    String userName,
+    Instant reservedAt,
+    String status,
+    String eventId,
+    Instant createdAt) {}
@@ -0,0 +1,14 @@
+package com.beachcheck.reservation.dto;
+
+import java.util.List;
+
+/**
+ * Why: 한 페이지 분량의 예약과 다음 페이지 커서를 함께 전달하기 위해. Policy: 다음 페이지가 없으면 nextCursor는 null이다.
+ * Contract(Output): items는 reservedAt DESC, reservationId DESC 순서다.
+ */
+public record ReservationHistoryPage(List<ReservationResponse> items, String nextCursor) {
+
+  public boolean hasNext() {
+    return nextCursor != null;
+  }
+}
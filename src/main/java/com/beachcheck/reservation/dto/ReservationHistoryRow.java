@@ -0,0 +1,17 @@
+package com.beachcheck.reservation.dto;
+
+import com.beachcheck.reservation.domain.ReservationStatus;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Why: 예약 이력 조회에서 엔티티/연관 객체를 로딩하지 않고 필요한 컬럼만 읽기 위해. Policy: JPQL 생성자 표현식으로만 생성되며 beachId는
+ * beach_id 컬럼 값을 그대로 담는다. Contract(Output): 필드는 reservations 테이블 컬럼과 1:1로 대응한다.
+ */
+public record ReservationHistoryRow(
+    UUID id,
+    ReservationStatus status,
+    Instant reservedAt,
+    UUID beachId,
+    String eventId,
+    Instant createdAt) {}
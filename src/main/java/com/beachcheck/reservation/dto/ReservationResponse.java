@@ -29,4 +29,18 @@ public record ReservationResponse(
         reservation.getEventId(),
         reservation.getCreatedAt());
   }
+
+  /**
+   * Why: 이력 조회 프로젝션도 같은 응답 계약으로 변환하기 위해. Policy: 필드 매핑은 from(Reservation)과 동일하다. Contract(Input):
+   * row가 null이면 예외가 발생한다. Contract(Output): beachId는 row.beachId()와 같다.
+   */
+  public static ReservationResponse from(ReservationHistoryRow row) {
+    return new ReservationResponse(
+        row.id(),
+        row.status().name(),
+        row.reservedAt(),
+        row.beachId(),
+        row.eventId(),
+        row.createdAt());
+  }
 }
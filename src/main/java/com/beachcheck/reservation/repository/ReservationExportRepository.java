@@ -0,0 +1,63 @@
+package com.beachcheck.reservation.repository;
+
+import com.beachcheck.reservation.dto.ReservationExportRow;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Why: 하루 수십만 건의 예약 명단을 힙에 적재하지 않고 내보내기 위해 JPA 목록 조회 대신 JDBC 커서로 읽는다.
+ *
+ * <p>Policy: PostgreSQL은 autocommit이 꺼진 트랜잭션 안에서 fetchSize가 설정돼야 서버 측 커서로 나눠 읽는다. 호출자는 반드시
+ * 트랜잭션(readOnly 가능) 안에서 호출한다.
+ *
+ * <p>Contract(Output): 행을 reserved_at, id 순으로 하나씩 consumer에 전달하며 목록을 만들지 않는다.
+ */
+@Repository
+public class ReservationExportRepository {
+
+  private static final String EXPORT_SQL =
+      """
+      SELECT r.id, r.user_id, u.name AS user_name, r.reserved_at, r.status, r.event_id, r.created_at
+      FROM reservations r
+      JOIN users u ON u.id = r.user_id
+      WHERE r.beach_id = ?
+        AND r.reserved_at >= ?
+        AND r.reserved_at < ?
+      ORDER BY r.reserved_at, r.id
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public ReservationExportRepository(
+      DataSource dataSource, @Value("${app.reservation.export.fetch-size:1000}") int fetchSize) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.jdbcTemplate.setFetchSize(fetchSize);
+  }
+
+  public void streamByBeachAndPeriod(
+      UUID beachId, Instant from, Instant to, Consumer<ReservationExportRow> consumer) {
+    jdbcTemplate.query(
+        EXPORT_SQL,
+        rs -> {
+          consumer.accept(
+              new ReservationExportRow(
+                  rs.getObject("id", UUID.class),
+                  rs.getObject("user_id", UUID.class),
+                  rs.getString("user_name"),
+                  rs.getObject("reserved_at", OffsetDateTime.class).toInstant(),
+                  rs.getString("status"),
+                  rs.getString("event_id"),
+                  rs.getObject("created_at", OffsetDateTime.class).toInstant()));
+        },
+        beachId,
+        from.atOffset(ZoneOffset.UTC),
+        to.atOffset(ZoneOffset.UTC));
+  }
+}
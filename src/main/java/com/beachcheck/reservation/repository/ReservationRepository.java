@@ -1,20 +1,87 @@
 package com.beachcheck.reservation.repository;
 
 import com.beachcheck.reservation.domain.Reservation;
+import com.beachcheck.reservation.dto.ReservationHistoryRow;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface ReservationRepository extends JpaRepository<Reservation, UUID> {
-  List<Reservation> findByUserId(UUID userId);
-
   Optional<Reservation> findByIdAndUserIdAndBeachId(UUID id, UUID userId, UUID beachId);
 
   /**
-   * Why: 중복 체크의 호출 지점을 단일 메서드로 고정해 규칙 변이를 방지하기 위해. Policy: 존재 여부는 파생 쿼리 메서드 네이밍 규약을 따른다.
-   * Contract(Input): userId, beachId, reservedAt을 전달한다. Contract(Output): true면 해당 조합의 예약이 존재한다.
+   * Why: 내 예약 목록 첫 페이지를 엔티티 로딩 없이 필요한 컬럼만 읽기 위해.
+   *
+   * <p>Policy: r.beach.id는 조인 없이 beach_id 컬럼으로 해석된다. idx_reservations_user_reserved_at_id(V14)를 따라
+   * 정렬한다.
+   *
+   * <p>Contract(Output): reservedAt DESC, id DESC 순으로 최대 limit건.
+   */
+  @Query(
+      """
+      SELECT new com.beachcheck.reservation.dto.ReservationHistoryRow(
+          r.id, r.status, r.reservedAt, r.beach.id, r.eventId, r.createdAt)
+      FROM Reservation r
+      WHERE r.user.id = :userId
+      ORDER BY r.reservedAt DESC, r.id DESC
+      """)
+  List<ReservationHistoryRow> findHistoryFirstPage(@Param("userId") UUID userId, Limit limit);
+
+  /**
+   * Why: offset 대신 마지막 행의 (reservedAt, id) 이후만 읽어 깊은 페이지도 일정한 비용으로 조회하기 위해.
+   *
+   * <p>Policy: 행 값 비교 (reservedAt, id) < (:reservedAt, :id)로 인덱스 범위 스캔을 유도한다.
+   *
+   * <p>Contract(Input): reservedAt/id는 직전 페이지 마지막 행의 값이다.
+   *
+   * <p>Contract(Output): 커서 이후 행을 reservedAt DESC, id DESC 순으로 최대 limit건.
+   */
+  @Query(
+      """
+      SELECT new com.beachcheck.reservation.dto.ReservationHistoryRow(
+          r.id, r.status, r.reservedAt, r.beach.id, r.eventId, r.createdAt)
+      FROM Reservation r
+      WHERE r.user.id = :userId
+        AND (r.reservedAt, r.id) < (:reservedAt, :id)
+      ORDER BY r.reservedAt DESC, r.id DESC
+      """)
+  List<ReservationHistoryRow> findHistoryAfter(
+      @Param("userId") UUID userId,
+      @Param("reservedAt") Instant reservedAt,
+      @Param("id") UUID id,
+      Limit limit);
+
+  /**
+   * Why: 해변/사용자 조회, 중복 체크, INSERT로 나뉘던 왕복을 한 번으로 줄이고 exists-then-insert 경합을 없애기 위해.
+   *
+   * <p>Policy: 중복은 uk_reservation_user_beach_time 충돌로 판별해 DO NOTHING 처리하고, 해변/사용자 미존재는 FK 제약
+   * 위반(DataIntegrityViolationException)으로 드러난다. id는 DB 기본값(uuid_generate_v4)으로 생성한다.
+   *
+   * <p>Contract(Input): userId, beachId, reservedAt, status는 NULL 불가. eventId는 NULL 가능.
+   *
+   * <p>Contract(Output): 삽입되면 생성된 id, 동일 조합이 이미 있으면 empty.
    */
-  boolean existsByUserIdAndBeachIdAndReservedAt(UUID userId, UUID beachId, Instant reservedAt);
+  @Transactional
+  @Query(
+      value =
+          """
+          INSERT INTO reservations (user_id, beach_id, reserved_at, event_id, status, created_at)
+          VALUES (:userId, :beachId, :reservedAt, :eventId, :status, :createdAt)
+          ON CONFLICT (user_id, beach_id, reserved_at) DO NOTHING
+          RETURNING id
+          """,
+      nativeQuery = true)
+  Optional<UUID> insertIfAbsent(
+      @Param("userId") UUID userId,
+      @Param("beachId") UUID beachId,
+      @Param("reservedAt") Instant reservedAt,
+      @Param("eventId") String eventId,
+      @Param("status") String status,
+      @Param("createdAt") Instant createdAt);
 }
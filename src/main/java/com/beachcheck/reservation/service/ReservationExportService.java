@@ -0,0 +1,171 @@
+package com.beachcheck.reservation.service;
+
+import com.beachcheck.beach.service.BeachRegistry;
+import com.beachcheck.global.exception.ApiException;
+import com.beachcheck.global.exception.ErrorCode;
+import com.beachcheck.reservation.dto.ReservationExportFormat;
+import com.beachcheck.reservation.dto.ReservationExportRow;
+import com.beachcheck.reservation.repository.ReservationExportRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Why: 운영자가 해변/일자별 예약 명단을 행 수와 무관한 메모리로 내려받게 하기 위해.
+ *
+ * <p>Policy: JDBC 커서에서 읽은 행을 즉시 출력 스트림에 쓰고, 목록으로 모으지 않는다. gzip 요청 시 출력 스트림을 GZIP으로 감싼다.
+ *
+ * <p>Contract(Input): date는 zone 기준 하루이며 [자정, 다음 날 자정) 구간의 reserved_at을 대상으로 한다.
+ *
+ * <p>Contract(Output): 해변이 없으면 스트리밍을 시작하기 전에 BEACH_NOT_FOUND로 실패한다.
+ */
+@Service
+public class ReservationExportService {
+
+  private static final String CSV_HEADER =
+      "reservation_id,user_id,user_name,reserved_at,status,event_id,created_at";
+
+  /** 스프레드시트가 수식으로 해석하는 첫 글자. */
+  private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+  private final ReservationExportRepository reservationExportRepository;
+  private final BeachRegistry beachRegistry;
+  private final ObjectMapper objectMapper;
+
+  public ReservationExportService(
+      ReservationExportRepository reservationExportRepository,
+      BeachRegistry beachRegistry,
+      ObjectMapper objectMapper) {
+    this.reservationExportRepository = reservationExportRepository;
+    this.beachRegistry = beachRegistry;
+    this.objectMapper = objectMapper;
+  }
+
+  public void assertBeachExists(UUID beachId) {
+    if (!beachRegistry.exists(beachId)) {
+      throw new ApiException(
+          ErrorCode.BEACH_NOT_FOUND, "Beach not found", Map.of("beachId", beachId.toString()));
+    }
+  }
+
+  /**
+   * Why: 커서 기반 조회는 autocommit이 꺼진 트랜잭션 안에서만 서버 측 커서로 동작하므로 스트리밍 전체를 readOnly 트랜잭션으로 감싼다.
+   * Policy: 출력 스트림 flush/close는 호출자(StreamingResponseBody) 책임이며, gzip일 때만 GZIP 트레일러를 위해 finish한다.
+   */
+  @Transactional(readOnly = true)
+  public void export(
+      UUID beachId,
+      LocalDate date,
+      ZoneId zone,
+      ReservationExportFormat format,
+      boolean gzip,
+      OutputStream out)
+      throws IOException {
+    Instant from = date.atStartOfDay(zone).toInstant();
+    Instant to = date.plusDays(1).atStartOfDay(zone).toInstant();
+
+    GZIPOutputStream gzipOut = gzip ? new GZIPOutputStream(out, 64 * 1024) : null;
+    Writer writer =
+        new BufferedWriter(
+            new OutputStreamWriter(gzip ? gzipOut : out, StandardCharsets.UTF_8), 64 * 1024);
+
+    try {
+      switch (format) {
+        case CSV -> writeCsv(beachId, from, to, writer);
+        case NDJSON -> writeNdjson(beachId, from, to, writer);
+        default -> throw new IllegalStateException("Unsupported export format: " + format);
+      }
+    } catch (UncheckedIOException ex) {
+      // 클라이언트 연결 종료 등 출력 실패는 원래 IOException으로 돌려 커서 조회를 중단한다.
+      throw ex.getCause();
+    }
+
+    writer.flush();
+    if (gzipOut != null) {
+      gzipOut.finish();
+    }
+  }
+
+  private void writeCsv(UUID beachId, Instant from, Instant to, Writer writer)
+      throws IOException {
+    writer.write(CSV_HEADER);
+    writer.write('\n');
+    reservationExportRepository.streamByBeachAndPeriod(
+        beachId,
+        from,
+        to,
+        row -> {
+          try {
+            writer.write(toCsvLine(row));
+            writer.write('\n');
+          } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+          }
+        });
+  }
+
+  private void writeNdjson(UUID beachId, Instant from, Instant to, Writer writer) {
+    ObjectWriter rowWriter = objectMapper.writerFor(ReservationExportRow.class);
+    reservationExportRepository.streamByBeachAndPeriod(
+        beachId,
+        from,
+        to,
+        row -> {
+          try {
+            writer.write(rowWriter.writeValueAsString(row));
+            writer.write('\n');
+          } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+          }
+        });
+  }
+
+  static String toCsvLine(ReservationExportRow row) {
+    return String.join(
+        ",",
+        row.reservationId().toString(),
+        row.userId().toString(),
+        escapeCsv(row.userName()),
+        row.reservedAt().toString(),
+        row.status(),
+        escapeCsv(row.eventId()),
+        row.createdAt().toString());
+  }
+
+  /**
+   * Why: 사용자 이름/이벤트 ID에 쉼표·따옴표·줄바꿈이 있어도 CSV 열이 깨지지 않고, 스프레드시트에서 열었을 때 수식으로 실행되지 않게 하기
+   * 위해(CSV injection). Policy: =, +, -, @, 탭, CR로 시작하는 값은 앞에 작은따옴표를 붙여 텍스트로 만든 뒤, RFC 4180에 따라 필요한
+   * 경우에만 큰따옴표로 감싸고 내부 큰따옴표는 두 번 쓴다. Contract(Output): null은 빈 문자열이다.
+   */
+  static String escapeCsv(String value) {
+    if (value == null) {
+      return "";
+    }
+    if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+      value = "'" + value;
+    }
+    boolean needsQuote =
+        value.indexOf(',') >= 0
+            || value.indexOf('"') >= 0
+            || value.indexOf('\n') >= 0
+            || value.indexOf('\r') >= 0;
+    if (!needsQuote) {
+      return value;
+    }
+    return "\"" + value.replace("\"", "\"\"") + "\"";
+  }
+}
@@ -1,16 +1,16 @@
 package com.beachcheck.reservation.service;
 
-import com.beachcheck.beach.domain.Beach;
-import com.beachcheck.beach.repository.BeachRepository;
+import com.beachcheck.global.db.DBConstraints;
 import com.beachcheck.global.exception.ApiException;
 import com.beachcheck.global.exception.ErrorCode;
 import com.beachcheck.reservation.domain.Reservation;
 import com.beachcheck.reservation.domain.ReservationStatus;
 import com.beachcheck.reservation.dto.ReservationCreateRequest;
+import com.beachcheck.reservation.dto.ReservationCursor;
+import com.beachcheck.reservation.dto.ReservationHistoryPage;
+import com.beachcheck.reservation.dto.ReservationHistoryRow;
 import com.beachcheck.reservation.dto.ReservationResponse;
 import com.beachcheck.reservation.repository.ReservationRepository;
-import com.beachcheck.user.domain.User;
-import com.beachcheck.user.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.Clock;
 import java.time.Instant;
@@ -18,6 +18,9 @@ import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,24 +28,19 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class ReservationService {
 
+  static final int MAX_HISTORY_PAGE_SIZE = 100;
+
   private final ReservationRepository reservationRepository;
-  private final BeachRepository beachRepository;
-  private final UserRepository userRepository;
   private final Clock clock;
 
-  public ReservationService(
-      ReservationRepository reservationRepository,
-      BeachRepository beachRepository,
-      UserRepository userRepository,
-      Clock clock) {
+  public ReservationService(ReservationRepository reservationRepository, Clock clock) {
     this.reservationRepository = reservationRepository;
-    this.beachRepository = beachRepository;
-    this.userRepository = userRepository;
     this.clock = clock;
   }
 
   /**
    * Why: 예약 생성 규칙을 단일 진입점에서 강제해 일관된 결과를 보장하기 위해. Policy: 예약 시간은 현재 UTC 이후이며 동일 시각 중복 예약은 허용하지 않는다.
+   * 해변/사용자 존재 여부와 중복 여부는 사전 조회 없이 단일 INSERT ... ON CONFLICT의 결과와 제약 위반으로 판별한다.
    * Contract(Input): userId 또는 beachId가 null이면 예외가 발생한다. Contract(Output): 성공 시 status는 CONFIRMED다.
    */
   public ReservationResponse createReservation(
@@ -56,37 +54,37 @@ public class ReservationService {
           Map.of("reservedAtUtc", request.reservedAtUtc()));
     }
 
-    Beach beach =
-        beachRepository
-            .findById(beachId)
-            .orElseThrow(
-                () ->
-                    new ApiException(
-                        ErrorCode.BEACH_NOT_FOUND,
-                        "Beach not found",
-                        Map.of("beachId", beachId.toString())));
+    String eventId = normalizeEventId(request.eventId());
+    Instant createdAt = Instant.now(clock);
 
-    if (reservationRepository.existsByUserIdAndBeachIdAndReservedAt(userId, beachId, reservedAt)) {
-      throw new ApiException(
-          ErrorCode.RESERVATION_DUPLICATE,
-          "Reservation already exists for this time",
-          Map.of("reservedAtUtc", request.reservedAtUtc()));
+    UUID reservationId;
+    try {
+      reservationId =
+          reservationRepository
+              .insertIfAbsent(
+                  userId,
+                  beachId,
+                  reservedAt,
+                  eventId,
+                  ReservationStatus.CONFIRMED.name(),
+                  createdAt)
+              .orElseThrow(
+                  () ->
+                      new ApiException(
+                          ErrorCode.RESERVATION_DUPLICATE,
+                          "Reservation already exists for this time",
+                          Map.of("reservedAtUtc", request.reservedAtUtc())));
+    } catch (DataIntegrityViolationException ex) {
+      throw translateForeignKeyViolation(ex, beachId);
     }
 
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new EntityNotFoundException("User not found"));
-
-    Reservation reservation = new Reservation();
-    reservation.setUser(user);
-    reservation.setBeach(beach);
-    reservation.setReservedAt(reservedAt);
-    reservation.setEventId(normalizeEventId(request.eventId()));
-    reservation.setStatus(ReservationStatus.CONFIRMED);
-
-    Reservation saved = reservationRepository.save(reservation);
-    return ReservationResponse.from(saved);
+    return new ReservationResponse(
+        reservationId,
+        ReservationStatus.CONFIRMED.name(),
+        reservedAt,
+        beachId,
+        eventId,
+        createdAt);
   }
 
   /**
@@ -111,11 +109,68 @@ public class ReservationService {
     reservationRepository.delete(reservation);
   }
 
+  /**
+   * Why: 이력이 긴 사용자도 한 번에 전체를 읽지 않고 일정한 비용의 페이지로 조회하기 위해. Policy: (reservedAt, id) 커서 기반 keyset
+   * 페이지네이션이며, 다음 페이지 존재 여부는 size+1건 조회로 판별한다. Contract(Input): cursor는 null 또는 직전 응답의 nextCursor다.
+   * size는 1~MAX_HISTORY_PAGE_SIZE로 보정한다.
+   * Contract(Output): 형식이 잘못된 cursor는 INVALID_REQUEST로 실패한다.
+   */
   @Transactional(readOnly = true)
-  public List<ReservationResponse> getMyReservations(UUID userId) {
-    return reservationRepository.findByUserId(userId).stream()
-        .map(ReservationResponse::from)
-        .toList();
+  public ReservationHistoryPage getMyReservations(UUID userId, String cursor, int requestedSize) {
+    int size = Math.clamp(requestedSize, 1, MAX_HISTORY_PAGE_SIZE);
+    Limit limit = Limit.of(size + 1);
+    List<ReservationHistoryRow> rows;
+    if (cursor == null || cursor.isBlank()) {
+      rows = reservationRepository.findHistoryFirstPage(userId, limit);
+    } else {
+      ReservationCursor after = decodeCursor(cursor);
+      rows = reservationRepository.findHistoryAfter(userId, after.reservedAt(), after.id(), limit);
+    }
+
+    boolean hasNext = rows.size() > size;
+    List<ReservationHistoryRow> pageRows = hasNext ? rows.subList(0, size) : rows;
+    String nextCursor = hasNext ? ReservationCursor.of(pageRows.get(size - 1)).encode() : null;
+
+    return new ReservationHistoryPage(
+        pageRows.stream().map(ReservationResponse::from).toList(), nextCursor);
+  }
+
+  private ReservationCursor decodeCursor(String cursor) {
+    try {
+      return ReservationCursor.decode(cursor);
+    } catch (IllegalArgumentException ex) {
+      throw new ApiException(
+          ErrorCode.INVALID_REQUEST, "Invalid cursor", Map.of("cursor", cursor));
+    }
+  }
+
+  /**
+   * Why: 사전 조회를 제거한 대신 FK 제약 위반을 기존 오류 계약(BEACH_NOT_FOUND, User not found)으로 되돌리기 위해. Policy:
+   * 제약 이름으로 판별하고, 알 수 없는 위반은 원래 예외를 그대로 전파해 GlobalExceptionHandler가 처리하게 한다. Contract(Output): 던질
+   * 예외를 반환한다.
+   */
+  private RuntimeException translateForeignKeyViolation(
+      DataIntegrityViolationException ex, UUID beachId) {
+    String constraintName = resolveConstraintName(ex);
+    if (DBConstraints.FK_RESERVATION_BEACH.equals(constraintName)) {
+      return new ApiException(
+          ErrorCode.BEACH_NOT_FOUND, "Beach not found", Map.of("beachId", beachId.toString()));
+    }
+    if (DBConstraints.FK_RESERVATION_USER.equals(constraintName)) {
+      return new EntityNotFoundException("User not found");
+    }
+    return ex;
+  }
+
+  private String resolveConstraintName(DataIntegrityViolationException ex) {
+    Throwable cause = ex.getCause();
+    while (cause != null) {
+      if (cause instanceof ConstraintViolationException constraintViolationException) {
+        return constraintViolationException.getConstraintName();
+      }
+      cause = cause.getCause();
+    }
+    return null;
   }
 
   /**
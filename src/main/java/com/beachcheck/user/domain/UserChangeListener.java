@@ -0,0 +1,28 @@
+package com.beachcheck.user.domain;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Why: 사용자 변경 경로(회원 인증, 로그인, 알림 설정 등)마다 캐시 무효화 코드를 두지 않고 엔티티 수준에서 한 번에 감지하기 위해.
+ *
+ * <p>Policy: Hibernate SpringBeanContainer가 생성하는 JPA 엔티티 리스너다. UPDATE/DELETE flush 시점에
+ * UserChangedEvent를 발행한다.
+ */
+public class UserChangeListener {
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  public UserChangeListener(ApplicationEventPublisher eventPublisher) {
+    this.eventPublisher = eventPublisher;
+  }
+
+  @PostUpdate
+  @PostRemove
+  public void onChange(User user) {
+    if (user.getId() != null) {
+      eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
+    }
+  }
+}
@@ -0,0 +1,10 @@
+package com.beachcheck.user.domain;
+
+import java.util.UUID;
+
+/**
+ * Why: 사용자 상태(enabled, role, 비밀번호, 알림 설정 등) 변경을 인증 캐시처럼 사용자 정보를 복제해 두는 쪽에 알리기 위해.
+ *
+ * <p>Contract(Output): userId는 변경/삭제된 사용자 ID다.
+ */
+public record UserChangedEvent(UUID userId) {}
@@ -2,6 +2,7 @@ package com.beachcheck.user.service;
 
 import com.beachcheck.beach.domain.Beach;
 import com.beachcheck.beach.repository.BeachRepository;
+import com.beachcheck.beach.service.BeachRegistry;
 import com.beachcheck.user.domain.User;
 import com.beachcheck.user.domain.UserFavorite;
 import com.beachcheck.user.repository.UserFavoriteRepository;
@@ -17,11 +18,15 @@ public class UserFavoriteService {
 
   private final UserFavoriteRepository favoriteRepository;
   private final BeachRepository beachRepository;
+  private final BeachRegistry beachRegistry;
 
   public UserFavoriteService(
-      UserFavoriteRepository favoriteRepository, BeachRepository beachRepository) {
+      UserFavoriteRepository favoriteRepository,
+      BeachRepository beachRepository,
+      BeachRegistry beachRegistry) {
     this.favoriteRepository = favoriteRepository;
     this.beachRepository = beachRepository;
+    this.beachRegistry = beachRegistry;
   }
 
   /**
@@ -41,10 +46,11 @@ public class UserFavoriteService {
       throw new IllegalStateException("이미 찜한 해수욕장입니다.");
     }
 
-    Beach beach =
-        beachRepository
-            .findById(beachId)
-            .orElseThrow(() -> new IllegalArgumentException("해수욕장을 찾을 수 없습니다."));
+    // 존재 확인은 BeachRegistry 스냅샷으로 하고, 연관 설정에는 SELECT 없는 참조만 쓴다.
+    if (!beachRegistry.exists(beachId)) {
+      throw new IllegalArgumentException("해수욕장을 찾을 수 없습니다.");
+    }
+    Beach beach = beachRepository.getReferenceById(beachId);
 
     UserFavorite favorite = new UserFavorite(user, beach);
 
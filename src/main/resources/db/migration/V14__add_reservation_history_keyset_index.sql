@@ -0,0 +1,13 @@
+-- Why: 내 예약 목록을 (reserved_at, id) 커서로 페이지 조회할 때 페이지 비용을 이력 길이와 무관하게 유지한다.
+-- Policy: 정렬 방향(reserved_at DESC, id DESC)과 같은 순서로 인덱스를 만들고,
+--         응답 컬럼을 INCLUDE해 테이블 접근 없이 index-only scan으로 처리한다.
+--         user_id 단일 인덱스는 새 인덱스의 선두 컬럼과 겹치므로 제거한다.
+-- Contract(Input): reservations 테이블(V8)이 존재해야 한다.
+-- Contract(Output): WHERE user_id = ? AND (reserved_at, id) < (?, ?) ORDER BY reserved_at DESC, id DESC
+--                   LIMIT n 형태의 조회가 인덱스 범위 스캔으로 수행된다.
+
+CREATE INDEX IF NOT EXISTS idx_reservations_user_reserved_at_id
+    ON reservations (user_id, reserved_at DESC, id DESC)
+    INCLUDE (beach_id, status, event_id, created_at);
+
+DROP INDEX IF EXISTS idx_reservations_user_id;
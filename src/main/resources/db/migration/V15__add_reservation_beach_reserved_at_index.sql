@@ -0,0 +1,10 @@
+-- Why: 운영자용 예약 명단 내보내기(해변 + 하루 구간)를 정렬 없이 인덱스 순서대로 커서 스트리밍하기 위해.
+-- Policy: beach_id 단일 인덱스는 새 인덱스의 선두 컬럼과 겹치므로 제거한다.
+-- Contract(Input): reservations 테이블(V8)이 존재해야 한다.
+-- Contract(Output): WHERE beach_id = ? AND reserved_at >= ? AND reserved_at < ? ORDER BY reserved_at, id
+--                   조회가 인덱스 범위 스캔으로 수행된다.
+
+CREATE INDEX IF NOT EXISTS idx_reservations_beach_reserved_at_id
+    ON reservations (beach_id, reserved_at, id);
+
+DROP INDEX IF EXISTS idx_reservations_beach_id;
@@ -0,0 +1,19 @@
+-- Why: refresh 요청마다 수백 바이트 JWT 원문으로 조회/인덱싱하던 것을 고정 길이 SHA-256 해시로 바꾸고,
+--      원문 토큰이 DB에 남지 않도록 하기 위해 (email_verification_tokens와 동일한 방식).
+-- Policy: 기존 행은 원문을 해시로 치환하므로 이미 발급된 refresh token도 계속 사용할 수 있다.
+--         token UNIQUE 제약이 인덱스를 제공하므로 중복 인덱스 idx_refresh_tokens_token은 제거한다.
+--         로그인 시 무효화 대상(revoked=false)만 찾도록 사용자별 부분 인덱스를 추가한다.
+-- Contract(Input): refresh_tokens 테이블(V2)이 존재해야 한다. sha256()은 PostgreSQL 11+ 내장 함수다.
+-- Contract(Output): token은 64자 hex 문자열이다.
+
+UPDATE refresh_tokens
+SET token = encode(sha256(convert_to(token, 'UTF8')), 'hex')
+WHERE length(token) <> 64;
+
+ALTER TABLE refresh_tokens ALTER COLUMN token TYPE VARCHAR(64);
+
+DROP INDEX IF EXISTS idx_refresh_tokens_token;
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user_active
+    ON refresh_tokens (user_id, expires_at)
+    WHERE revoked = false;
@@ -0,0 +1,32 @@
+-- Why: 인증 메일을 메모리 큐(@Async emailTaskExecutor) 대신 가입 트랜잭션과 함께 커밋되는 테이블에 보관해,
+--      가입 폭주 시 큐 초과로 버려지거나 재시작 시 유실되지 않도록 하기 위해.
+-- Policy: status는 PENDING/SENT/FAILED_RETRIABLE/FAILED_PERMANENT만 허용한다.
+--         워커는 선점 시 next_attempt_at을 lease 만료 시각으로 미뤄 다른 워커가 같은 메일을 잡지 않게 한다.
+--         워커가 발송 도중 죽으면 lease 만료 후 다시 발송된다(at-least-once).
+-- Contract(Input): recipient, subject, body, status, attempts, next_attempt_at, created_at은 NULL 불가.
+-- Contract(Output): status IN (PENDING, FAILED_RETRIABLE) AND next_attempt_at <= now 인 행을
+--                   next_attempt_at, id 순서로 부분 인덱스 범위 스캔한다.
+
+CREATE TABLE email_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    recipient VARCHAR(320) NOT NULL,
+    subject VARCHAR(255) NOT NULL,
+    body TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    sent_at TIMESTAMP WITH TIME ZONE,
+    CONSTRAINT chk_email_outbox_status
+        CHECK (status IN ('PENDING', 'SENT', 'FAILED_RETRIABLE', 'FAILED_PERMANENT'))
+);
+
+CREATE INDEX idx_email_outbox_due
+    ON email_outbox (next_attempt_at, id)
+    WHERE status IN ('PENDING', 'FAILED_RETRIABLE');
+
+COMMENT ON TABLE email_outbox IS '발송 대기 이메일 (가입/재전송 트랜잭션과 함께 커밋, at-least-once 발송)';
+COMMENT ON COLUMN email_outbox.attempts IS '발송 시도 횟수 (지수 백오프 계산용)';
+COMMENT ON COLUMN email_outbox.next_attempt_at IS '다음 발송 가능 시각 (선점 시 lease 만료 시각으로 갱신)';
+COMMENT ON COLUMN email_outbox.last_error IS '마지막 발송 실패 사유';
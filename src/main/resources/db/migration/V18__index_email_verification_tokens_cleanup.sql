@@ -0,0 +1,14 @@
+-- Why: 재발송 쿨다운 확인(findTopByUserIdOrderByCreatedAtDesc)이 user_id 인덱스로 사용자 토큰을 모두 읽고 정렬하던 것을
+--      최신 1건 인덱스 스캔으로 바꾸고, 정리 작업이 (created_at, id) 키셋 순서로 삭제 대상을 찾을 수 있게 하기 위해.
+-- Policy: (user_id, created_at DESC)가 user_id 단독 인덱스를 포함하므로 idx_email_verification_tokens_user는 제거한다.
+--         token UNIQUE 제약이 인덱스를 제공하므로 중복 인덱스 idx_email_verification_tokens_token도 제거한다.
+-- Contract(Input): email_verification_tokens 테이블(V9)이 존재해야 한다.
+
+CREATE INDEX IF NOT EXISTS idx_email_verification_tokens_user_created
+    ON email_verification_tokens (user_id, created_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_email_verification_tokens_created_id
+    ON email_verification_tokens (created_at, id);
+
+DROP INDEX IF EXISTS idx_email_verification_tokens_user;
+DROP INDEX IF EXISTS idx_email_verification_tokens_token;
@@ -0,0 +1,18 @@
+-- Why: 해변 검색의 부분 일치('%q%')는 B-tree로 처리할 수 없어 카탈로그 전체를 스캔하고, 태그 필터는 애플리케이션에서 뒤늦게 적용했기 때문에.
+-- Policy: name/code에 pg_trgm GIN 인덱스를 두어 ILIKE '%q%'를 인덱스로 찾고, 태그 단독 검색은 LOWER(tag) 인덱스로 찾는다.
+--         pg_trgm은 대소문자를 구분하지 않는 트라이그램을 만들므로 GIN 인덱스가 ILIKE 필터를 지원한다. similarity() 정렬은
+--         인덱스를 쓰지 않고 ILIKE로 걸러진 행에서만 계산한다(유사도 순 인덱스 검색은 GiST의 <-> 연산자가 필요하다).
+--         2글자 이하 검색어나 LC_CTYPE이 C인 DB의 한글처럼 트라이그램이 나오지 않는 경우에도 결과는 같고, 인덱스 선택도만 떨어진다.
+-- Contract(Input): beaches 테이블(V1)과 tag 컬럼(V3/V4)이 존재해야 한다. pg_trgm은 PostgreSQL contrib 확장이다.
+-- Contract(Output): BeachRepository.searchByText / searchByTag 조회가 인덱스(BitmapOr)로 수행된다.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_beaches_name_trgm
+    ON beaches USING GIN (name gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_beaches_code_trgm
+    ON beaches USING GIN (code gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_beaches_tag_lower
+    ON beaches (LOWER(tag));
@@ -0,0 +1,22 @@
+-- Why: 인증 메일 본문(원문 토큰이 담긴 링크)이 email_outbox에 평문으로 남고, 발송이 끝난 행도 지워지지 않아
+--      DB 유출 시 아직 유효한 인증 링크가 그대로 노출되던 것을 막기 위해.
+-- Policy: 인증 메일은 body 대신 token_reference만 저장하고 링크는 발송 시점에 서버 비밀키로 다시 만든다.
+--         SENT/FAILED_PERMANENT가 되면 body와 token_reference를 지우고, 보존 기간이 지나면 행을 삭제한다.
+--         이미 PENDING/FAILED_RETRIABLE로 남아 있는 기존 행은 body 그대로 발송되고, 발송 후 같은 규칙으로 지워진다.
+-- Contract(Input): email_outbox 테이블(V17)이 존재해야 한다.
+-- Contract(Output): 정리 작업은 종료 상태 행을 created_at 부분 인덱스로 찾는다.
+
+ALTER TABLE email_outbox ALTER COLUMN body DROP NOT NULL;
+
+ALTER TABLE email_outbox ADD COLUMN token_reference VARCHAR(64);
+
+UPDATE email_outbox
+SET body = NULL
+WHERE status IN ('SENT', 'FAILED_PERMANENT');
+
+CREATE INDEX idx_email_outbox_finished
+    ON email_outbox (created_at)
+    WHERE status IN ('SENT', 'FAILED_PERMANENT');
+
+COMMENT ON COLUMN email_outbox.body IS '발송 본문 (인증 메일은 NULL, 종료 상태가 되면 삭제)';
+COMMENT ON COLUMN email_outbox.token_reference IS '인증 링크 참조값 (원문 토큰 아님, 종료 상태가 되면 삭제)';
@@ -0,0 +1,103 @@
+package com.beachcheck.auth.integration;
+
+import static com.beachcheck.support.fixture.UniqueTestFixtures.uniqueEmail;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+import com.beachcheck.auth.domain.EmailOutboxMessage;
+import com.beachcheck.auth.domain.EmailOutboxMessage.Status;
+import com.beachcheck.auth.service.EmailMessage;
+import com.beachcheck.auth.service.EmailOutboxRelay;
+import com.beachcheck.auth.service.EmailOutboxService;
+import com.beachcheck.auth.service.EmailSender;
+import com.beachcheck.support.base.IntegrationTest;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mail.MailSendException;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(
+    properties = {"app.mail.outbox.max-attempts=2", "app.mail.outbox.initial-backoff=0s"})
+@DisplayName("TC4: 이메일 아웃박스 발송/재시도 통합 테스트")
+class EmailOutboxRelayIntegrationTest extends IntegrationTest {
+
+  private static final String TOKEN_REFERENCE = "retry-reference";
+
+  @Autowired private EmailOutboxService emailOutboxService;
+  @Autowired private EmailOutboxRelay emailOutboxRelay;
+
+  @MockBean private EmailSender emailSender;
+
+  @Test
+  @DisplayName("TC4-01: 발송이 일시 실패하면 다음 실행에서 재시도해 성공한다")
+  void relayDue_transientFailure_retriesOnNextRun() {
+    // given
+    String recipient = uniqueEmail("outbox-retry");
+    emailOutboxService.enqueueVerification(recipient, TOKEN_REFERENCE);
+    given(emailSender.sendAll(anyList()))
+        .willAnswer(invocation -> failAll(invocation.getArgument(0)));
+
+    // when: 첫 실행은 실패
+    emailOutboxRelay.relayDue();
+
+    // then
+    EmailOutboxMessage failed = findByRecipient(recipient);
+    assertThat(failed.getStatus()).isEqualTo(Status.FAILED_RETRIABLE);
+    assertThat(failed.getAttempts()).isEqualTo(1);
+    assertThat(failed.getLastError()).contains("SMTP");
+
+    // when: 다음 실행은 성공
+    given(emailSender.sendAll(anyList())).willReturn(Map.of());
+    emailOutboxRelay.relayDue();
+
+    // then
+    EmailOutboxMessage sent = findByRecipient(recipient);
+    assertThat(sent.getStatus()).isEqualTo(Status.SENT);
+    assertThat(sent.getAttempts()).isEqualTo(2);
+    assertThat(sent.getSentAt()).isNotNull();
+    assertThat(sent.getTokenReference()).isNull();
+  }
+
+  @Test
+  @DisplayName("TC4-02: 최대 시도 횟수를 소진하면 FAILED_PERMANENT로 종료된다")
+  void relayDue_retryExhausted_marksPermanentFailure() {
+    // given
+    String recipient = uniqueEmail("outbox-exhausted");
+    emailOutboxService.enqueueVerification(recipient, TOKEN_REFERENCE);
+    given(emailSender.sendAll(anyList()))
+        .willAnswer(invocation -> failAll(invocation.getArgument(0)));
+
+    // when
+    emailOutboxRelay.relayDue();
+    emailOutboxRelay.relayDue();
+    emailOutboxRelay.relayDue();
+
+    // then
+    EmailOutboxMessage message = findByRecipient(recipient);
+    assertThat(message.getStatus()).isEqualTo(Status.FAILED_PERMANENT);
+    assertThat(message.getAttempts()).isEqualTo(2);
+  }
+
+  private Map<EmailMessage, Exception> failAll(List<EmailMessage> messages) {
+    Map<EmailMessage, Exception> failures = new IdentityHashMap<>();
+    messages.forEach(message -> failures.put(message, new MailSendException("일시적 SMTP 전송 실패")));
+    return failures;
+  }
+
+  private EmailOutboxMessage findByRecipient(String recipient) {
+    entityManager.flush();
+    entityManager.clear();
+    return entityManager
+        .createQuery(
+            "select m from EmailOutboxMessage m where m.recipient = :recipient",
+            EmailOutboxMessage.class)
+        .setParameter("recipient", recipient)
+        .getSingleResult();
+  }
+}
@@ -3,10 +3,10 @@ package com.beachcheck.auth.integration;
 import static com.beachcheck.support.fixture.EmailVerificationTestFixtures.emailUser;
 import static com.beachcheck.support.fixture.UniqueTestFixtures.uniqueEmail;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.BDDMockito.then;
 
+import com.beachcheck.auth.domain.EmailOutboxMessage;
+import com.beachcheck.auth.domain.EmailOutboxMessage.Status;
 import com.beachcheck.auth.repository.EmailVerificationTokenRepository;
-import com.beachcheck.auth.service.AsyncEmailService;
 import com.beachcheck.auth.service.EmailVerificationService;
 import com.beachcheck.support.base.IntegrationTest;
 import com.beachcheck.user.domain.User;
@@ -18,25 +18,22 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionTemplate;
 
 @Transactional(propagation = Propagation.NOT_SUPPORTED)
-class EmailAfterCommitIntegrationTest extends IntegrationTest {
+class EmailOutboxTransactionIntegrationTest extends IntegrationTest {
 
   @Autowired private EmailVerificationService emailVerificationService;
   @Autowired private UserRepository userRepository;
   @Autowired private EmailVerificationTokenRepository tokenRepository;
   @Autowired private PlatformTransactionManager transactionManager;
 
-  @MockBean private AsyncEmailService asyncEmailService;
-
   private final List<UUID> createdUserIds = new ArrayList<>();
+  private final List<String> createdEmails = new ArrayList<>();
   private TransactionTemplate transactionTemplate;
 
   @BeforeEach
@@ -48,6 +45,12 @@ class EmailAfterCommitIntegrationTest extends IntegrationTest {
   void cleanUp() {
     transactionTemplate.executeWithoutResult(
         unused -> {
+          if (!createdEmails.isEmpty()) {
+            entityManager
+                .createQuery("delete from EmailOutboxMessage m where m.recipient in :emails")
+                .setParameter("emails", createdEmails)
+                .executeUpdate();
+          }
           if (!createdUserIds.isEmpty()) {
             entityManager
                 .createQuery("delete from EmailVerificationToken t where t.user.id in :userIds")
@@ -57,11 +60,12 @@ class EmailAfterCommitIntegrationTest extends IntegrationTest {
           }
         });
     createdUserIds.clear();
+    createdEmails.clear();
   }
 
   @Test
-  @DisplayName("커밋 후 이메일 비동기 전송이 호출된다")
-  void sendVerification_afterCommit_triggersListener() {
+  @DisplayName("인증 메일은 토큰과 같은 트랜잭션으로 아웃박스에 커밋된다")
+  void sendVerification_commit_persistsOutboxMessage() {
     // given
     User user = saveUser();
 
@@ -70,18 +74,20 @@ class EmailAfterCommitIntegrationTest extends IntegrationTest {
         unused -> {
           User managedUser = userRepository.findById(user.getId()).orElseThrow();
           emailVerificationService.sendVerification(managedUser);
-
-          // 트랜잭션 내부에서는 AFTER_COMMIT 리스너가 아직 동작하지 않아야 한다.
-          then(asyncEmailService).shouldHaveNoInteractions();
         });
 
     // then
-    assertAfterCommitEmailSent(user);
+    List<EmailOutboxMessage> messages = findOutbox(user.getEmail());
+    assertThat(messages).hasSize(1);
+    assertThat(messages.get(0).getStatus()).isEqualTo(Status.PENDING);
+    assertThat(messages.get(0).getBody()).isNull();
+    assertThat(messages.get(0).getTokenReference()).isNotBlank();
+    assertThat(tokenRepository.findTopByUserIdOrderByCreatedAtDesc(user.getId())).isPresent();
   }
 
   @Test
-  @DisplayName("롤백 시 이메일 비동기 전송이 호출되지 않는다")
-  void sendVerification_rollback_doesNotTriggerListener() {
+  @DisplayName("롤백 시 토큰과 아웃박스 메시지 모두 남지 않는다")
+  void sendVerification_rollback_leavesNoOutboxMessage() {
     // given
     User user = saveUser();
 
@@ -94,27 +100,27 @@ class EmailAfterCommitIntegrationTest extends IntegrationTest {
         });
 
     // then
-    then(asyncEmailService).shouldHaveNoInteractions();
+    assertThat(findOutbox(user.getEmail())).isEmpty();
     assertThat(tokenRepository.findTopByUserIdOrderByCreatedAtDesc(user.getId())).isEmpty();
   }
 
   private User saveUser() {
-    User user = emailUser(uniqueEmail("after-commit"), false);
+    User user = emailUser(uniqueEmail("outbox-tx"), false);
 
     User saved = userRepository.save(user);
     createdUserIds.add(saved.getId());
+    createdEmails.add(saved.getEmail());
     return saved;
   }
 
-  private void assertAfterCommitEmailSent(User user) {
-    ArgumentCaptor<String> emailCaptor = ArgumentCaptor.forClass(String.class);
-    ArgumentCaptor<String> linkCaptor = ArgumentCaptor.forClass(String.class);
-    then(asyncEmailService)
-        .should()
-        .sendVerificationEmailAsync(emailCaptor.capture(), linkCaptor.capture());
-
-    assertThat(emailCaptor.getValue()).isEqualTo(user.getEmail());
-    assertThat(linkCaptor.getValue()).contains("?token=");
-    assertThat(tokenRepository.findTopByUserIdOrderByCreatedAtDesc(user.getId())).isPresent();
+  private List<EmailOutboxMessage> findOutbox(String recipient) {
+    return transactionTemplate.execute(
+        unused ->
+            entityManager
+                .createQuery(
+                    "select m from EmailOutboxMessage m where m.recipient = :recipient",
+                    EmailOutboxMessage.class)
+                .setParameter("recipient", recipient)
+                .getResultList());
   }
 }
@@ -0,0 +1,55 @@
+package com.beachcheck.auth.scheduler;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import com.beachcheck.auth.repository.EmailOutboxRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("발송 완료 이메일 아웃박스 정리 스케줄러 단위 테스트")
+class EmailOutboxPurgeSchedulerTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-08T00:00:00Z");
+  private static final Duration RETENTION = Duration.ofDays(7);
+  private static final Instant CUTOFF = Instant.parse("2026-01-01T00:00:00Z");
+  private static final int BATCH_SIZE = 100;
+
+  @Mock private EmailOutboxRepository outboxRepository;
+
+  private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+  @Test
+  @DisplayName("보존 기간 이전 행을 배치가 가득 차지 않을 때까지 나눠서 삭제한다")
+  void purge_repeatsUntilPartialBatch() {
+    given(outboxRepository.deleteFinishedBatch(CUTOFF, BATCH_SIZE))
+        .willReturn(BATCH_SIZE, BATCH_SIZE, 7);
+
+    new EmailOutboxPurgeScheduler(outboxRepository, clock, RETENTION, BATCH_SIZE, 10)
+        .purgeFinishedMessages();
+
+    then(outboxRepository).should(times(3)).deleteFinishedBatch(CUTOFF, BATCH_SIZE);
+  }
+
+  @Test
+  @DisplayName("한 번의 실행에서 maxBatches를 넘지 않는다")
+  void purge_stopsAtMaxBatches() {
+    given(outboxRepository.deleteFinishedBatch(eq(CUTOFF), anyInt())).willReturn(BATCH_SIZE);
+
+    new EmailOutboxPurgeScheduler(outboxRepository, clock, RETENTION, BATCH_SIZE, 3)
+        .purgeFinishedMessages();
+
+    then(outboxRepository).should(times(3)).deleteFinishedBatch(CUTOFF, BATCH_SIZE);
+  }
+}
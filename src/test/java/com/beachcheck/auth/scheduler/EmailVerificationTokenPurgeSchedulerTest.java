@@ -0,0 +1,108 @@
+package com.beachcheck.auth.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.beachcheck.auth.repository.EmailVerificationTokenRepository;
+import com.beachcheck.auth.repository.EmailVerificationTokenRepository.PurgeKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("이메일 인증 토큰 정리 스케줄러 단위 테스트")
+class EmailVerificationTokenPurgeSchedulerTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-02T00:00:00Z");
+  private static final Instant CREATED_BEFORE = Instant.parse("2026-01-01T00:00:00Z");
+  private static final Instant EPOCH = Instant.EPOCH;
+  private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+  @Mock private EmailVerificationTokenRepository tokenRepository;
+
+  private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+  @Test
+  @DisplayName("마지막 키 이후부터 다음 배치를 찾고, 배치가 가득 차지 않으면 멈춘다")
+  void purge_advancesKeysetCursor() {
+    PurgeKey first = key(Instant.parse("2025-12-01T00:00:00Z"));
+    PurgeKey second = key(Instant.parse("2025-12-02T00:00:00Z"));
+    PurgeKey third = key(Instant.parse("2025-12-03T00:00:00Z"));
+    given(
+            tokenRepository.findPurgeKeys(
+                eq(CREATED_BEFORE), eq(NOW), eq(EPOCH), eq(MIN_UUID), any(Pageable.class)))
+        .willReturn(List.of(first, second));
+    given(
+            tokenRepository.findPurgeKeys(
+                eq(CREATED_BEFORE),
+                eq(NOW),
+                eq(second.getCreatedAt()),
+                eq(second.getId()),
+                any(Pageable.class)))
+        .willReturn(List.of(third));
+    given(tokenRepository.deleteByIdIn(anyList())).willReturn(2, 1);
+
+    scheduler(2, 10).purgeStaleTokens();
+
+    then(tokenRepository).should().deleteByIdIn(List.of(first.getId(), second.getId()));
+    then(tokenRepository).should().deleteByIdIn(List.of(third.getId()));
+  }
+
+  @Test
+  @DisplayName("정리 대상이 없으면 삭제하지 않는다")
+  void purge_nothingToDelete() {
+    given(tokenRepository.findPurgeKeys(any(), any(), any(), any(), any(Pageable.class)))
+        .willReturn(List.of());
+
+    scheduler(2, 10).purgeStaleTokens();
+
+    then(tokenRepository).should(never()).deleteByIdIn(anyList());
+  }
+
+  @Test
+  @DisplayName("한 번의 실행에서 maxBatches를 넘지 않는다")
+  void purge_stopsAtMaxBatches() {
+    given(tokenRepository.findPurgeKeys(any(), any(), any(), any(), any(Pageable.class)))
+        .willAnswer(
+            invocation -> List.of(key(invocation.getArgument(2, Instant.class).plusSeconds(1))));
+    given(tokenRepository.deleteByIdIn(anyList())).willReturn(1);
+
+    scheduler(1, 3).purgeStaleTokens();
+
+    then(tokenRepository).should(times(3)).deleteByIdIn(anyList());
+  }
+
+  private EmailVerificationTokenPurgeScheduler scheduler(int batchSize, int maxBatches) {
+    return new EmailVerificationTokenPurgeScheduler(
+        tokenRepository, clock, batchSize, maxBatches, Duration.ZERO, Duration.ofDays(1));
+  }
+
+  private static PurgeKey key(Instant createdAt) {
+    UUID id = UUID.randomUUID();
+    return new PurgeKey() {
+      @Override
+      public UUID getId() {
+        return id;
+      }
+
+      @Override
+      public Instant getCreatedAt() {
+        return createdAt;
+      }
+    };
+  }
+}
@@ -1,5 +1,6 @@
 package com.beachcheck.auth.service;
 
+import static com.beachcheck.global.util.HashUtils.sha256Hex;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
@@ -152,7 +153,7 @@ class AuthServiceTest {
 
       // Then: 실패 시 토큰/저장 부작용 없음
       then(jwtUtils).shouldHaveNoInteractions();
-      then(refreshTokenRepository).should(never()).revokeAllByUser(any());
+      then(refreshTokenRepository).should(never()).revokeActiveByUser(any(), any());
       then(refreshTokenRepository).should(never()).save(any());
       then(userRepository).should(never()).save(any());
     }
@@ -183,7 +184,7 @@ class AuthServiceTest {
 
       // Then: 실패 시 토큰/저장 부작용 없음
       then(jwtUtils).shouldHaveNoInteractions();
-      then(refreshTokenRepository).should(never()).revokeAllByUser(any());
+      then(refreshTokenRepository).should(never()).revokeActiveByUser(any(), any());
       then(refreshTokenRepository).should(never()).save(any());
       then(userRepository).should(never()).save(any());
     }
@@ -210,12 +211,12 @@ class AuthServiceTest {
       AuthResponseDto response = authService.logIn(request);
 
       // Then: 토큰 발급 및 마지막 로그인 시각 갱신
-      then(refreshTokenRepository).should().revokeAllByUser(user);
+      then(refreshTokenRepository).should().revokeActiveByUser(user, FIXED_NOW);
 
       then(refreshTokenRepository).should().save(refreshTokenCaptor.capture());
       RefreshToken savedToken = refreshTokenCaptor.getValue();
       assertThat(savedToken.getUser()).isEqualTo(user);
-      assertThat(savedToken.getToken()).isEqualTo(REFRESH_TOKEN);
+      assertThat(savedToken.getToken()).isEqualTo(sha256Hex(REFRESH_TOKEN));
       assertThat(savedToken.getExpiresAt()).isAfter(FIXED_NOW);
       assertThat(savedToken.getExpiresAt())
           .isAfter(FIXED_NOW.plusSeconds(ACCESS_EXPIRES_IN_SECONDS));
@@ -239,7 +240,7 @@ class AuthServiceTest {
     @DisplayName("토큰 없음 예외 (400 유지)")
     void refresh_tokenNotFound_throws() {
       // Given: 존재하지 않는 리프레시 토큰
-      given(refreshTokenRepository.findByToken("missing")).willReturn(Optional.empty());
+      given(refreshTokenRepository.findByToken(sha256Hex("missing"))).willReturn(Optional.empty());
 
       // When: 토큰 갱신 호출
       assertThatThrownBy(() -> authService.refresh("missing"))
@@ -259,7 +260,8 @@ class AuthServiceTest {
       token.setToken("revoked");
       token.setRevoked(true);
       token.setExpiresAt(VALID_AT);
-      given(refreshTokenRepository.findByToken("revoked")).willReturn(Optional.of(token));
+      given(refreshTokenRepository.findByToken(sha256Hex("revoked")))
+          .willReturn(Optional.of(token));
 
       // When: 토큰 갱신 호출
       assertThatThrownBy(() -> authService.refresh("revoked"))
@@ -279,7 +281,8 @@ class AuthServiceTest {
       token.setToken("expired");
       token.setRevoked(false);
       token.setExpiresAt(EXPIRED_AT);
-      given(refreshTokenRepository.findByToken("expired")).willReturn(Optional.of(token));
+      given(refreshTokenRepository.findByToken(sha256Hex("expired")))
+          .willReturn(Optional.of(token));
 
       // When: 토큰 갱신 호출
       assertThatThrownBy(() -> authService.refresh("expired"))
@@ -299,7 +302,7 @@ class AuthServiceTest {
       RefreshToken token =
           refreshTokenBuilder().token("ok").user(user).revoked(false).expiresAt(VALID_AT).build();
 
-      given(refreshTokenRepository.findByToken("ok")).willReturn(Optional.of(token));
+      given(refreshTokenRepository.findByToken(sha256Hex("ok"))).willReturn(Optional.of(token));
       given(jwtUtils.generateAccessToken(user)).willReturn("new-access");
       given(jwtUtils.getAccessTokenExpiration()).willReturn(ACCESS_EXPIRES_IN_SECONDS);
 
@@ -321,7 +324,7 @@ class AuthServiceTest {
     @DisplayName("토큰 없음 예외")
     void logOut_tokenNotFound_throws() {
       // Given: 존재하지 않는 리프레시 토큰
-      given(refreshTokenRepository.findByToken("missing")).willReturn(Optional.empty());
+      given(refreshTokenRepository.findByToken(sha256Hex("missing"))).willReturn(Optional.empty());
 
       // When: 로그아웃 호출
       assertThatThrownBy(() -> authService.logOut("missing"))
@@ -333,7 +336,7 @@ class AuthServiceTest {
     void logOut_success_revokesToken() {
       // Given: 정상 리프레시 토큰
       RefreshToken token = refreshTokenBuilder().token("ok").revoked(false).build();
-      given(refreshTokenRepository.findByToken("ok")).willReturn(Optional.of(token));
+      given(refreshTokenRepository.findByToken(sha256Hex("ok"))).willReturn(Optional.of(token));
 
       // When: 로그아웃 호출
       authService.logOut("ok");
@@ -13,18 +13,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class EmailEventListenerTest {
 
   private static final String USER_EMAIL = "user@test.com";
-  private static final String VERIFICATION_LINK = "https://example.com/verify?token=abc";
+  private static final String TOKEN_REFERENCE = "reference-1";
 
-  @Mock private AsyncEmailService asyncEmailService;
+  @Mock private EmailOutboxService emailOutboxService;
 
   @Test
-  @DisplayName("이벤트 payload를 비동기 서비스로 전달")
-  void handleEmailVerificationEvent_forwardsEventPayload() {
-    EmailEventListener listener = new EmailEventListener(asyncEmailService);
-    EmailVerificationEvent event = new EmailVerificationEvent(USER_EMAIL, VERIFICATION_LINK);
+  @DisplayName("이벤트 payload를 아웃박스에 기록")
+  void handleEmailVerificationEvent_enqueuesToOutbox() {
+    EmailEventListener listener = new EmailEventListener(emailOutboxService);
+    EmailVerificationEvent event = new EmailVerificationEvent(USER_EMAIL, TOKEN_REFERENCE);
 
     listener.handleEmailVerificationEvent(event);
 
-    then(asyncEmailService).should().sendVerificationEmailAsync(USER_EMAIL, VERIFICATION_LINK);
+    then(emailOutboxService).should().enqueueVerification(USER_EMAIL, TOKEN_REFERENCE);
   }
 }
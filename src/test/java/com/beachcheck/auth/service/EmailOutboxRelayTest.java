@@ -0,0 +1,100 @@
+package com.beachcheck.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import com.beachcheck.auth.domain.EmailOutboxMessage;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("이메일 아웃박스 릴레이 단위 테스트")
+class EmailOutboxRelayTest {
+
+  @Mock private EmailOutboxService outboxService;
+  @Mock private EmailSender emailSender;
+
+  private EmailOutboxProperties properties;
+  private EmailOutboxRelay relay;
+
+  @BeforeEach
+  void setUp() {
+    properties = new EmailOutboxProperties();
+    properties.setBatchSize(2);
+    properties.setMaxBatchesPerRun(5);
+    relay = new EmailOutboxRelay(outboxService, emailSender, properties);
+  }
+
+  @Test
+  @DisplayName("배치를 한 번에 발송하고 성공/실패를 구분해 기록한다")
+  void relayDue_recordsPerMessageResults() {
+    EmailOutboxMessage ok = message(1L, "a@test.com");
+    EmailOutboxMessage bad = message(2L, "b@test.com");
+    EmailMessage okMail = stubMail(ok);
+    EmailMessage badMail = stubMail(bad);
+    given(outboxService.claimDue()).willReturn(List.of(ok, bad), List.of());
+    Map<EmailMessage, Exception> failures = new IdentityHashMap<>();
+    failures.put(badMail, new MailSendException("rejected"));
+    given(emailSender.sendAll(List.of(okMail, badMail))).willReturn(failures);
+
+    int sent = relay.relayDue();
+
+    assertThat(sent).isEqualTo(1);
+    then(outboxService)
+        .should()
+        .recordResults(List.of(1L), Map.of(2L, "MailSendException: rejected"));
+  }
+
+  @Test
+  @DisplayName("배치가 가득 차지 않으면 이번 실행을 마친다")
+  void relayDue_stopsOnPartialBatch() {
+    EmailOutboxMessage only = message(1L, "a@test.com");
+    stubMail(only);
+    given(outboxService.claimDue()).willReturn(List.of(only));
+    given(emailSender.sendAll(anyList())).willReturn(Map.of());
+
+    relay.relayDue();
+
+    then(outboxService).should(times(1)).claimDue();
+  }
+
+  @Test
+  @DisplayName("전송기 예외는 배치 전체 실패로 기록하고 다음 배치로 넘어가지 않는다")
+  void relayDue_senderThrows_marksBatchFailed() {
+    EmailOutboxMessage first = message(1L, "a@test.com");
+    stubMail(first);
+    given(outboxService.claimDue()).willReturn(List.of(first));
+    given(emailSender.sendAll(anyList())).willThrow(new IllegalStateException("down"));
+
+    relay.relayDue();
+
+    then(outboxService)
+        .should()
+        .recordResults(eq(List.of()), eq(Map.of(1L, "IllegalStateException: down")));
+  }
+
+  private EmailMessage stubMail(EmailOutboxMessage message) {
+    EmailMessage mail = new EmailMessage(null, message.getRecipient(), "subject", "body");
+    given(outboxService.toEmailMessage(message)).willReturn(mail);
+    return mail;
+  }
+
+  private static EmailOutboxMessage message(Long id, String to) {
+    EmailOutboxMessage message = EmailOutboxMessage.pending(to, "subject", "body");
+    ReflectionTestUtils.setField(message, "id", id);
+    return message;
+  }
+}
@@ -0,0 +1,139 @@
+package com.beachcheck.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.beachcheck.auth.domain.EmailOutboxMessage;
+import com.beachcheck.auth.domain.EmailOutboxMessage.Status;
+import com.beachcheck.auth.repository.EmailOutboxRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("이메일 아웃박스 서비스 단위 테스트")
+class EmailOutboxServiceTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+  private static final String FROM_EMAIL = "no-reply@test.com";
+  private static final String USER_EMAIL = "user@test.com";
+  private static final String TOKEN_REFERENCE = "reference-1";
+
+  @Mock private EmailOutboxRepository outboxRepository;
+  @Captor private ArgumentCaptor<EmailOutboxMessage> messageCaptor;
+
+  private final VerificationLinkFactory linkFactory =
+      new VerificationLinkFactory("https://example.com/verify", "link-secret");
+  private EmailOutboxProperties properties;
+  private EmailOutboxService service;
+
+  @BeforeEach
+  void setUp() {
+    properties = new EmailOutboxProperties();
+    properties.setMaxAttempts(3);
+    properties.setInitialBackoff(Duration.ofSeconds(30));
+    properties.setMaxBackoff(Duration.ofMinutes(1));
+    service =
+        new EmailOutboxService(
+            outboxRepository,
+            properties,
+            linkFactory,
+            Clock.fixed(NOW, ZoneOffset.UTC),
+            FROM_EMAIL,
+            30L);
+  }
+
+  @Test
+  @DisplayName("인증 메일은 본문 없이 링크 참조값만 PENDING으로 저장")
+  void enqueueVerification_savesReferenceWithoutBody() {
+    service.enqueueVerification(USER_EMAIL, TOKEN_REFERENCE);
+
+    then(outboxRepository).should().save(messageCaptor.capture());
+    EmailOutboxMessage saved = messageCaptor.getValue();
+    assertThat(saved.getStatus()).isEqualTo(Status.PENDING);
+    assertThat(saved.getRecipient()).isEqualTo(USER_EMAIL);
+    assertThat(saved.getSubject()).isEqualTo("이메일 인증");
+    assertThat(saved.getBody()).isNull();
+    assertThat(saved.getTokenReference()).isEqualTo(TOKEN_REFERENCE);
+  }
+
+  @Test
+  @DisplayName("발송 시점에 참조값으로 인증 링크가 담긴 본문을 만든다")
+  void toEmailMessage_rendersVerificationLink() {
+    EmailOutboxMessage message =
+        EmailOutboxMessage.verification(USER_EMAIL, "이메일 인증", TOKEN_REFERENCE);
+
+    EmailMessage mail = service.toEmailMessage(message);
+
+    assertThat(mail.from()).isEqualTo(FROM_EMAIL);
+    assertThat(mail.to()).isEqualTo(USER_EMAIL);
+    assertThat(mail.body()).contains(linkFactory.link(TOKEN_REFERENCE)).contains("30분");
+  }
+
+  @Test
+  @DisplayName("선점한 메시지는 lease 만료 시각까지 다음 시도를 미룬다")
+  void claimDue_leasesClaimedMessages() {
+    EmailOutboxMessage message = message(1L);
+    given(outboxRepository.findDue(any(Instant.class), any(Pageable.class)))
+        .willReturn(List.of(message));
+
+    List<EmailOutboxMessage> claimed = service.claimDue();
+
+    assertThat(claimed).containsExactly(message);
+    assertThat(message.getNextAttemptAt()).isEqualTo(NOW.plus(properties.getLease()));
+  }
+
+  @Test
+  @DisplayName("성공은 SENT, 실패는 백오프 후 재시도, 최대 시도 도달 시 FAILED_PERMANENT")
+  void recordResults_appliesRetryPolicy() {
+    EmailOutboxMessage sent = message(1L);
+    EmailOutboxMessage retriable = message(2L);
+    EmailOutboxMessage exhausted = message(3L);
+    ReflectionTestUtils.setField(exhausted, "attempts", 2);
+    given(outboxRepository.findAllById(List.of(1L))).willReturn(List.of(sent));
+    given(outboxRepository.findAllById(Set.of(2L, 3L))).willReturn(List.of(retriable, exhausted));
+
+    service.recordResults(List.of(1L), Map.of(2L, "timeout", 3L, "timeout"));
+
+    assertThat(sent.getStatus()).isEqualTo(Status.SENT);
+    assertThat(sent.getSentAt()).isEqualTo(NOW);
+    assertThat(sent.getBody()).isNull();
+    assertThat(retriable.getStatus()).isEqualTo(Status.FAILED_RETRIABLE);
+    assertThat(retriable.getNextAttemptAt()).isEqualTo(NOW.plusSeconds(30));
+    assertThat(retriable.getLastError()).isEqualTo("timeout");
+    assertThat(exhausted.getStatus()).isEqualTo(Status.FAILED_PERMANENT);
+    assertThat(exhausted.getAttempts()).isEqualTo(3);
+    assertThat(exhausted.getBody()).isNull();
+    assertThat(retriable.getBody()).isEqualTo("body");
+  }
+
+  @Test
+  @DisplayName("재시도 간격은 2배씩 늘고 maxBackoff를 넘지 않는다")
+  void backoff_doublesUntilCap() {
+    assertThat(service.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+    assertThat(service.backoff(2)).isEqualTo(Duration.ofMinutes(1));
+    assertThat(service.backoff(5)).isEqualTo(Duration.ofMinutes(1));
+  }
+
+  private static EmailOutboxMessage message(Long id) {
+    EmailOutboxMessage message = EmailOutboxMessage.pending(USER_EMAIL, "subject", "body");
+    ReflectionTestUtils.setField(message, "id", id);
+    return message;
+  }
+}
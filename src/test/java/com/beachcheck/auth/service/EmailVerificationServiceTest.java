@@ -37,7 +37,7 @@ import org.springframework.context.ApplicationEventPublisher;
 class EmailVerificationServiceTest {
 
   private static final String BASE_URL = "https://example.com/verify";
-  private static final String VERIFICATION_LINK_PREFIX = BASE_URL + "?token=";
+  private static final String LINK_SECRET = "link-secret";
   private static final String USER_EMAIL = "user@test.com";
   private static final String MISSING_EMAIL = "missing@test.com";
   private static final String RAW_TOKEN = "raw-token";
@@ -52,7 +52,6 @@ class EmailVerificationServiceTest {
   private static final long EXP_MIN_LOWER_BOUND = EXP_MINUTES - EXP_TOLERANCE_MINUTES;
   private static final long EXP_MIN_UPPER_BOUND = EXP_MINUTES;
 
-  @Mock private AsyncEmailService asyncEmailService;
   @Mock private EmailVerificationTokenRepository tokenRepository;
   @Mock private UserRepository userRepository;
   @Mock private ApplicationEventPublisher eventPublisher;
@@ -60,17 +59,18 @@ class EmailVerificationServiceTest {
   @Captor private ArgumentCaptor<EmailVerificationEvent> eventCaptor;
   @Captor private ArgumentCaptor<String> hashedTokenCaptor;
 
+  private final VerificationLinkFactory linkFactory =
+      new VerificationLinkFactory(BASE_URL, LINK_SECRET);
   private EmailVerificationService service;
 
   @BeforeEach
   void setUp() {
     service =
         new EmailVerificationService(
-            asyncEmailService,
             tokenRepository,
             userRepository,
             eventPublisher,
-            BASE_URL,
+            linkFactory,
             EXP_MINUTES,
             COOLDOWN_MINUTES);
   }
@@ -92,10 +92,11 @@ class EmailVerificationServiceTest {
       EmailVerificationToken savedToken = tokenCaptor.getValue();
       EmailVerificationEvent event = eventCaptor.getValue();
       assertThat(event.email()).isEqualTo(USER_EMAIL);
-      assertThat(event.verificationLink()).startsWith(VERIFICATION_LINK_PREFIX);
+      assertThat(event.tokenReference()).isNotBlank();
 
-      String rawToken = extractRawToken(event.verificationLink());
-      assertThat(rawToken).isNotBlank();
+      // 이벤트에는 원문 토큰이 아닌 참조값만 실리고, 저장된 해시는 참조값으로 만든 링크 토큰과 일치한다.
+      String rawToken = linkFactory.rawToken(event.tokenReference());
+      assertThat(rawToken).isNotEqualTo(event.tokenReference());
       assertThat(savedToken.getUser()).isEqualTo(user);
       assertThat(savedToken.getToken()).isEqualTo(sha256Hex(rawToken));
 
@@ -232,8 +233,7 @@ class EmailVerificationServiceTest {
 
       EmailVerificationToken savedToken = tokenCaptor.getValue();
       EmailVerificationEvent event = eventCaptor.getValue();
-      assertThat(event.verificationLink()).startsWith(VERIFICATION_LINK_PREFIX);
-      String rawToken = extractRawToken(event.verificationLink());
+      String rawToken = linkFactory.rawToken(event.tokenReference());
 
       assertThat(event.email()).isEqualTo(USER_EMAIL);
       assertThat(savedToken.getToken()).isEqualTo(sha256Hex(rawToken));
@@ -246,9 +246,4 @@ class EmailVerificationServiceTest {
     then(userRepository).should(never()).save(any());
     then(tokenRepository).should(never()).save(any(EmailVerificationToken.class));
   }
-
-  private String extractRawToken(String verificationLink) {
-    // 호출 전에 startsWith(prefix)로 링크 형식을 검증한 뒤 사용한다.
-    return verificationLink.substring(VERIFICATION_LINK_PREFIX.length());
-  }
 }
@@ -2,8 +2,19 @@ package com.beachcheck.auth.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
+import jakarta.mail.Address;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.MimeMessage;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,58 +22,145 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("SMTP 이메일 전송기 단위 테스트")
 class SmtpEmailSenderTest {
 
-  @Mock private JavaMailSender mailSender;
-  @Captor private ArgumentCaptor<SimpleMailMessage> messageCaptor;
+  private final JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+
+  @Mock private SmtpTransportPool transportPool;
+  @Captor private ArgumentCaptor<List<MimeMessage>> batchCaptor;
+
+  private SmtpEmailSender sender;
+
+  @BeforeEach
+  void setUp() {
+    sender = new SmtpEmailSender(mailSender, transportPool, "no-reply@test.com");
+  }
 
   @Test
   @DisplayName("default-from 미설정이면 생성자 예외")
   void constructor_blankDefaultFrom_throws() {
-    assertThatThrownBy(() -> new SmtpEmailSender(mailSender, " "))
+    assertThatThrownBy(() -> new SmtpEmailSender(mailSender, transportPool, " "))
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessageContaining("app.mail.default-from");
   }
 
   @Test
   @DisplayName("from이 null이면 default-from 사용")
-  void send_nullFrom_usesDefaultFrom() {
-    SmtpEmailSender sender = new SmtpEmailSender(mailSender, "no-reply@test.com");
+  void send_nullFrom_usesDefaultFrom() throws Exception {
+    givenNoFailures();
 
     sender.send(null, "to@test.com", "subject", "body");
 
-    then(mailSender).should().send(messageCaptor.capture());
-    SimpleMailMessage message = messageCaptor.getValue();
-    assertThat(message.getFrom()).isEqualTo("no-reply@test.com");
-    assertThat(message.getTo()).containsExactly("to@test.com");
+    MimeMessage message = sentMessages().get(0);
+    assertThat(addresses(message.getFrom())).containsExactly("no-reply@test.com");
+    assertThat(addresses(message.getRecipients(Message.RecipientType.TO)))
+        .containsExactly("to@test.com");
     assertThat(message.getSubject()).isEqualTo("subject");
-    assertThat(message.getText()).isEqualTo("body");
+    assertThat(message.getContent()).isEqualTo("body");
   }
 
   @Test
   @DisplayName("from이 공백이면 default-from 사용")
-  void send_blankFrom_usesDefaultFrom() {
-    SmtpEmailSender sender = new SmtpEmailSender(mailSender, "no-reply@test.com");
+  void send_blankFrom_usesDefaultFrom() throws Exception {
+    givenNoFailures();
 
     sender.send("   ", "to@test.com", "subject", "body");
 
-    then(mailSender).should().send(messageCaptor.capture());
-    assertThat(messageCaptor.getValue().getFrom()).isEqualTo("no-reply@test.com");
+    assertThat(addresses(sentMessages().get(0).getFrom())).containsExactly("no-reply@test.com");
   }
 
   @Test
   @DisplayName("from이 있으면 입력값 그대로 사용")
-  void send_withFrom_usesProvidedFrom() {
-    SmtpEmailSender sender = new SmtpEmailSender(mailSender, "no-reply@test.com");
+  void send_withFrom_usesProvidedFrom() throws Exception {
+    givenNoFailures();
 
     sender.send("sender@test.com", "to@test.com", "subject", "body");
 
-    then(mailSender).should().send(messageCaptor.capture());
-    assertThat(messageCaptor.getValue().getFrom()).isEqualTo("sender@test.com");
+    assertThat(addresses(sentMessages().get(0).getFrom())).containsExactly("sender@test.com");
+  }
+
+  @Test
+  @DisplayName("단건 발송이 실패하면 MailSendException을 던진다")
+  void send_failure_throwsMailSendException() {
+    given(transportPool.sendAll(anyList()))
+        .willAnswer(
+            invocation -> {
+              List<MimeMessage> batch = invocation.getArgument(0);
+              return Map.of(batch.get(0), new MessagingException("connection refused"));
+            });
+
+    assertThatThrownBy(() -> sender.send(null, "to@test.com", "subject", "body"))
+        .isInstanceOf(MailSendException.class)
+        .hasRootCauseMessage("connection refused");
+  }
+
+  @Test
+  @DisplayName("배치는 연결 풀에 한 번에 넘겨 SMTP 연결을 재사용한다")
+  void sendAll_sendsBatchInSingleCall() throws Exception {
+    givenNoFailures();
+    List<EmailMessage> messages =
+        List.of(
+            new EmailMessage(null, "a@test.com", "subject", "body-a"),
+            new EmailMessage(null, "b@test.com", "subject", "body-b"));
+
+    Map<EmailMessage, Exception> failures = sender.sendAll(messages);
+
+    List<MimeMessage> batch = sentMessages();
+    assertThat(batch).hasSize(2);
+    assertThat(addresses(batch.get(1).getRecipients(Message.RecipientType.TO)))
+        .containsExactly("b@test.com");
+    assertThat(failures).isEmpty();
+  }
+
+  @Test
+  @DisplayName("일부 실패는 해당 메시지만 실패로 돌려준다")
+  void sendAll_partialFailure_mapsFailedMessages() {
+    EmailMessage ok = new EmailMessage(null, "a@test.com", "subject", "body-a");
+    EmailMessage bad = new EmailMessage(null, "b@test.com", "subject", "body-b");
+    SendFailedException cause = new SendFailedException("rejected");
+    given(transportPool.sendAll(anyList()))
+        .willAnswer(
+            invocation -> {
+              List<MimeMessage> batch = invocation.getArgument(0);
+              Map<MimeMessage, Exception> failed = new IdentityHashMap<>();
+              failed.put(batch.get(1), cause);
+              return failed;
+            });
+
+    Map<EmailMessage, Exception> failures = sender.sendAll(List.of(ok, bad));
+
+    assertThat(failures).containsOnlyKeys(bad);
+    assertThat(failures.get(bad)).isSameAs(cause);
+  }
+
+  @Test
+  @DisplayName("주소 형식 오류는 풀에 넘기지 않고 해당 메시지만 실패로 돌려준다")
+  void sendAll_invalidAddress_failsOnlyThatMessage() {
+    givenNoFailures();
+    EmailMessage ok = new EmailMessage(null, "a@test.com", "subject", "body-a");
+    EmailMessage bad = new EmailMessage(null, "not an address<", "subject", "body-b");
+
+    Map<EmailMessage, Exception> failures = sender.sendAll(List.of(ok, bad));
+
+    assertThat(failures).containsOnlyKeys(bad);
+    assertThat(sentMessages()).hasSize(1);
+  }
+
+  private void givenNoFailures() {
+    given(transportPool.sendAll(anyList())).willReturn(Map.of());
+  }
+
+  private List<MimeMessage> sentMessages() {
+    then(transportPool).should().sendAll(batchCaptor.capture());
+    return batchCaptor.getValue();
+  }
+
+  private static List<String> addresses(Address[] addresses) {
+    return List.of(addresses).stream().map(Address::toString).toList();
   }
 }
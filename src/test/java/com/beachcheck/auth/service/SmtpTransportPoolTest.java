@@ -0,0 +1,139 @@
+package com.beachcheck.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+@DisplayName("SMTP 연결 풀 테스트 (GreenMail)")
+class SmtpTransportPoolTest {
+
+  @RegisterExtension
+  static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final Session session = Session.getInstance(new Properties());
+  private SmtpTransportPool pool;
+
+  @AfterEach
+  void tearDown() {
+    if (pool != null) {
+      pool.destroy();
+    }
+  }
+
+  @Test
+  @DisplayName("배치 전체를 하나의 연결로 보낸다")
+  void sendAll_singleConnectionForBatch() throws Exception {
+    pool = pool(greenMail.getSmtp().getPort(), new SmtpPoolProperties());
+
+    Map<MimeMessage, Exception> failures = pool.sendAll(messages(10));
+
+    assertThat(failures).isEmpty();
+    assertThat(greenMail.getReceivedMessages()).hasSize(10);
+    assertThat(counter("mail.smtp.connections.opened")).isEqualTo(1.0);
+    assertThat(meterRegistry.get("mail.smtp.messages").tag("result", "sent").counter().count())
+        .isEqualTo(10.0);
+  }
+
+  @Test
+  @DisplayName("반납한 연결은 다음 배치에서 재사용한다")
+  void sendAll_reusesIdleConnection() throws Exception {
+    pool = pool(greenMail.getSmtp().getPort(), new SmtpPoolProperties());
+
+    pool.sendAll(messages(2));
+    pool.sendAll(messages(2));
+
+    assertThat(greenMail.getReceivedMessages()).hasSize(4);
+    assertThat(counter("mail.smtp.connections.opened")).isEqualTo(1.0);
+    assertThat(meterRegistry.get("mail.smtp.pool.idle").gauge().value()).isEqualTo(1.0);
+    assertThat(meterRegistry.get("mail.smtp.pool.active").gauge().value()).isZero();
+  }
+
+  @Test
+  @DisplayName("연결당 메시지 한도에 도달하면 새 연결로 교체한다")
+  void sendAll_rotatesConnectionAtMessageLimit() throws Exception {
+    SmtpPoolProperties properties = new SmtpPoolProperties();
+    properties.setMaxMessagesPerConnection(3);
+    pool = pool(greenMail.getSmtp().getPort(), properties);
+
+    Map<MimeMessage, Exception> failures = pool.sendAll(messages(7));
+
+    assertThat(failures).isEmpty();
+    assertThat(greenMail.getReceivedMessages()).hasSize(7);
+    assertThat(counter("mail.smtp.connections.opened")).isEqualTo(3.0);
+  }
+
+  @Test
+  @DisplayName("서버가 재시작되어 끊긴 연결은 버리고 새 연결로 재시도한다")
+  void sendAll_reconnectsAfterServerRestart() throws Exception {
+    pool = pool(greenMail.getSmtp().getPort(), new SmtpPoolProperties());
+    pool.sendAll(messages(1));
+
+    greenMail.reset();
+    Map<MimeMessage, Exception> failures = pool.sendAll(messages(1));
+
+    assertThat(failures).isEmpty();
+    assertThat(greenMail.getReceivedMessages()).hasSize(1);
+    assertThat(counter("mail.smtp.connections.opened")).isEqualTo(2.0);
+  }
+
+  @Test
+  @DisplayName("연결할 수 없으면 배치 전체를 실패로 돌려준다")
+  void sendAll_connectionRefused_failsWholeBatch() throws Exception {
+    pool = pool(unusedPort(), new SmtpPoolProperties());
+    List<MimeMessage> messages = messages(3);
+
+    Map<MimeMessage, Exception> failures = pool.sendAll(messages);
+
+    assertThat(failures).hasSize(3);
+    assertThat(failures.get(messages.get(0))).isInstanceOf(MessagingException.class);
+    assertThat(meterRegistry.get("mail.smtp.messages").tag("result", "failed").counter().count())
+        .isEqualTo(3.0);
+    assertThat(meterRegistry.get("mail.smtp.pool.active").gauge().value()).isZero();
+  }
+
+  private SmtpTransportPool pool(int port, SmtpPoolProperties properties) {
+    return new SmtpTransportPool(
+        session, "smtp", "localhost", port, null, null, properties, meterRegistry);
+  }
+
+  private List<MimeMessage> messages(int count) throws MessagingException {
+    List<MimeMessage> messages = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      MimeMessage message = new MimeMessage(session);
+      message.setFrom(new InternetAddress("no-reply@test.com"));
+      message.setRecipient(Message.RecipientType.TO, new InternetAddress("user" + i + "@test.com"));
+      message.setSubject("subject-" + i);
+      message.setText("body-" + i);
+      messages.add(message);
+    }
+    return messages;
+  }
+
+  private double counter(String name) {
+    return meterRegistry.get(name).counter().count();
+  }
+
+  private static int unusedPort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+}
@@ -9,6 +9,8 @@ import static com.beachcheck.support.fixture.UserTestFixtures.createUser;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -21,13 +23,17 @@ import com.beachcheck.user.domain.User;
 import com.beachcheck.user.repository.UserFavoriteRepository;
 import com.beachcheck.user.repository.UserRepository;
 import com.fasterxml.jackson.databind.JsonNode;
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
 @DisplayName("BeachController 통합 테스트")
 class BeachControllerIntegrationTest extends ApiTest {
@@ -162,6 +168,148 @@ class BeachControllerIntegrationTest extends ApiTest {
     assertThat(problem.path("detail").asText()).isNotBlank();
   }
 
+  @Test
+  @DisplayName("TC7: anonymous 기본 목록은 ETag를 주고, 같은 If-None-Match면 304를 반환한다")
+  void searchBeaches_defaultList_anonymous_supportsConditionalGet() throws Exception {
+    MvcResult first =
+        mockMvc
+            .perform(get(ApiRoutes.BEACHES))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn();
+    String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc
+        .perform(get(ApiRoutes.BEACHES).header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified());
+  }
+
+  @Test
+  @DisplayName("TC8: gzip을 허용하면 미리 압축한 본문을 Content-Encoding과 함께 반환한다")
+  void searchBeaches_defaultList_anonymous_gzip() throws Exception {
+    MvcResult plain = mockMvc.perform(get(ApiRoutes.BEACHES)).andReturn();
+
+    MvcResult gzipped =
+        mockMvc
+            .perform(get(ApiRoutes.BEACHES).header(HttpHeaders.ACCEPT_ENCODING, "gzip, br"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andReturn();
+
+    try (GZIPInputStream in =
+        new GZIPInputStream(
+            new ByteArrayInputStream(gzipped.getResponse().getContentAsByteArray()))) {
+      assertThat(in.readAllBytes()).isEqualTo(plain.getResponse().getContentAsByteArray());
+    }
+  }
+
+  @Test
+  @DisplayName("TC9: 인증 사용자 목록 ETag는 찜 여부를 포함한 본문에서 만들어 찜이 바뀌면 304가 아니라 200을 반환한다")
+  void searchBeaches_authenticated_etagFollowsFavorites() throws Exception {
+    String etag = etagOf(get(ApiRoutes.BEACHES).header("Authorization", authHeader(user)));
+
+    mockMvc
+        .perform(
+            get(ApiRoutes.BEACHES)
+                .header("Authorization", authHeader(user))
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified());
+
+    mockMvc
+        .perform(
+            put(ApiRoutes.FAVORITE_TOGGLE, otherBeach.getId())
+                .header("Authorization", authHeader(user)))
+        .andExpect(status().isOk());
+
+    mockMvc
+        .perform(
+            get(ApiRoutes.BEACHES)
+                .header("Authorization", authHeader(user))
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[?(@.id=='" + otherBeach.getId() + "')].isFavorite", hasItem(true)));
+  }
+
+  @Test
+  @DisplayName("TC10: 최근 관측값과 시설 목록도 같은 If-None-Match면 304를 반환한다")
+  void conditionsAndFacilities_supportConditionalGet() throws Exception {
+    for (String route :
+        new String[] {ApiRoutes.BEACH_CONDITIONS_RECENT, ApiRoutes.BEACH_FACILITIES}) {
+      String etag = etagOf(get(route, favoriteBeach.getId()));
+
+      mockMvc
+          .perform(get(route, favoriteBeach.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+          .andExpect(status().isNotModified());
+    }
+  }
+
+  @Test
+  @DisplayName("TC11: 서버 gzip 대상 응답은 약한 ETag, 미리 압축한 비로그인 목록만 강한 ETag를 쓴다")
+  void etags_weakUnlessPrecompressed() throws Exception {
+    assertThat(etagOf(get(ApiRoutes.BEACHES).header("Authorization", authHeader(user))))
+        .startsWith("W/");
+    assertThat(etagOf(get(ApiRoutes.BEACH_FACILITIES, favoriteBeach.getId()))).startsWith("W/");
+    assertThat(etagOf(get(ApiRoutes.BEACHES).header(HttpHeaders.ACCEPT_ENCODING, "gzip")))
+        .startsWith("\"")
+        .endsWith("-gzip\"");
+  }
+
+  @Test
+  @DisplayName("TC12: 검색은 완전 일치 → 접두 일치 → 부분 일치 순으로 정렬한다")
+  void searchBeaches_searchBranch_ranksByRelevance() throws Exception {
+    String code = favoriteBeach.getCode();
+    Beach prefix = saveBeach(code + "X", "A Prefix Beach", 129.17, 35.16, "rank", "normal");
+    Beach contains = saveBeach(uniqueBeachCode(), "AA " + code, 129.18, 35.17, "rank", "normal");
+
+    mockMvc
+        .perform(get(ApiRoutes.BEACHES).param("q", code))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(3))
+        .andExpect(jsonPath("$[0].id").value(favoriteBeach.getId().toString()))
+        .andExpect(jsonPath("$[1].id").value(prefix.getId().toString()))
+        .andExpect(jsonPath("$[2].id").value(contains.getId().toString()));
+  }
+
+  @Test
+  @DisplayName("TC13: gzip;q=0처럼 gzip을 거부하면 압축하지 않은 본문을 반환한다")
+  void searchBeaches_defaultList_anonymous_gzipRejectedByQValue() throws Exception {
+    for (String acceptEncoding :
+        new String[] {"gzip;q=0", "br, gzip; q=0.0", "*;q=0", "identity"}) {
+      mockMvc
+          .perform(get(ApiRoutes.BEACHES).header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+          .andExpect(status().isOk())
+          .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+    mockMvc
+        .perform(get(ApiRoutes.BEACHES).header(HttpHeaders.ACCEPT_ENCODING, "br;q=1, *;q=0.5"))
+        .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+  }
+
+  @Test
+  @DisplayName("TC14: 검색 ETag는 응답 본문에서 만들어 DB에서 직접 바뀐 상태도 304가 아니라 200으로 반영한다")
+  void searchBeaches_etagFollowsOutOfBandChanges() throws Exception {
+    String etag = etagOf(get(ApiRoutes.BEACHES).param("tag", searchTag));
+
+    favoriteBeach.setStatus("normal");
+    beachRepository.save(favoriteBeach);
+
+    mockMvc
+        .perform(
+            get(ApiRoutes.BEACHES).param("tag", searchTag).header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].status").value("normal"));
+  }
+
+  private String etagOf(MockHttpServletRequestBuilder request) throws Exception {
+    return mockMvc
+        .perform(request)
+        .andExpect(status().isOk())
+        .andExpect(header().exists(HttpHeaders.ETAG))
+        .andReturn()
+        .getResponse()
+        .getHeader(HttpHeaders.ETAG);
+  }
+
   private Beach saveBeach(
       String code, String name, double lon, double lat, String tag, String status) {
     Beach beach = createBeachWithLocation(code, name, lon, lat);
@@ -9,8 +9,11 @@ import static org.mockito.Mockito.never;
 
 import com.beachcheck.beach.domain.Beach;
 import com.beachcheck.beach.domain.BeachCondition;
+import com.beachcheck.beach.domain.BeachConditionsRefreshedEvent;
+import com.beachcheck.beach.dto.BeachConditionDto;
 import com.beachcheck.beach.repository.BeachConditionRepository;
 import com.beachcheck.beach.repository.BeachRepository;
+import com.beachcheck.beach.service.BeachRegistry;
 import com.beachcheck.external.congestion.CongestionClient;
 import com.beachcheck.external.congestion.CongestionCurrentResponse;
 import java.time.Clock;
@@ -26,6 +29,7 @@ import org.locationtech.jts.geom.Point;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("BeachConditionScheduler 분기 테스트")
@@ -36,7 +40,9 @@ class BeachConditionSchedulerTest {
 
   @Mock private BeachRepository beachRepository;
   @Mock private BeachConditionRepository beachConditionRepository;
+  @Mock private BeachRegistry beachRegistry;
   @Mock private CongestionClient congestionClient;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
   @Nested
   @DisplayName("refreshConditions 메서드")
@@ -104,6 +110,8 @@ class BeachConditionSchedulerTest {
       given(beachRepository.findAll()).willReturn(List.of(beach));
       given(congestionClient.fetchCurrent("HAE")).willReturn(responseWithAiLevel("low"));
 
+      givenSaveReturnsBeach();
+
       // When
       scheduler.refreshConditions();
 
@@ -129,6 +137,8 @@ class BeachConditionSchedulerTest {
       given(beachRepository.findAll()).willReturn(List.of(beach));
       given(congestionClient.fetchCurrent("HAE")).willReturn(responseWithAiLevel("medium"));
 
+      givenSaveReturnsBeach();
+
       // When
       scheduler.refreshConditions();
 
@@ -147,6 +157,8 @@ class BeachConditionSchedulerTest {
       given(beachRepository.findAll()).willReturn(List.of(beach));
       given(congestionClient.fetchCurrent("HAE")).willReturn(responseWithAiLevel("high"));
 
+      givenSaveReturnsBeach();
+
       // When
       scheduler.refreshConditions();
 
@@ -166,6 +178,8 @@ class BeachConditionSchedulerTest {
       given(congestionClient.fetchCurrent("HAE"))
           .willReturn(responseWithInput(FIXED_TIMESTAMP, 21.3, 0.5, 3.2, "low", "high"));
 
+      givenSaveReturnsBeach();
+
       // When
       scheduler.refreshConditions();
 
@@ -188,6 +202,8 @@ class BeachConditionSchedulerTest {
       given(congestionClient.fetchCurrent("HAE"))
           .willReturn(responseWithInput(FIXED_TIMESTAMP, 21.3, 0.5, 3.2, "high", "medium"));
 
+      givenSaveReturnsBeach();
+
       // When
       scheduler.refreshConditions();
 
@@ -288,6 +304,8 @@ class BeachConditionSchedulerTest {
       given(congestionClient.fetchCurrent("SONG")).willReturn(null);
       given(congestionClient.fetchCurrent("GWANG")).willReturn(responseWithAiLevel("high"));
 
+      givenSaveReturnsBeach();
+
       // When
       scheduler.refreshConditions();
 
@@ -372,6 +390,8 @@ class BeachConditionSchedulerTest {
       given(congestionClient.fetchCurrent("HAE"))
           .willReturn(responseWithInput(FIXED_TIMESTAMP, 21.3, 0.5, 3.2, "high", "low"));
 
+      givenSaveReturnsBeach();
+
       // When
       scheduler.refreshConditions();
 
@@ -390,6 +410,8 @@ class BeachConditionSchedulerTest {
       given(congestionClient.fetchCurrent("HAE"))
           .willReturn(responseWithInput(FIXED_TIMESTAMP, 21.3, 0.5, 3.2, "low", "high"));
 
+      givenSaveReturnsBeach();
+
       // When
       scheduler.refreshConditions();
 
@@ -397,11 +419,95 @@ class BeachConditionSchedulerTest {
       assertThat(beach.getStatus()).isEqualTo("busy");
       then(beachRepository).should().save(beach);
     }
+
+    @Test
+    @DisplayName("TC-SCH-18: 저장한 관측값과 바뀐 상태를 캐시 갱신 이벤트로 발행한다")
+    void tcSch18_publishRefreshedEventWithObservationsAndStatusUpdates() {
+      // Given
+      Beach changed = beach("HAE", "OPEN", 129.16, 35.15);
+      Beach unchanged = beach("GWANG", "FREE", 129.18, 35.17);
+      BeachConditionScheduler scheduler = schedulerWithMode("ai");
+      given(beachRepository.findAll()).willReturn(List.of(changed, unchanged));
+      given(congestionClient.fetchCurrent("HAE")).willReturn(responseWithAiLevel("high"));
+      given(congestionClient.fetchCurrent("GWANG")).willReturn(responseWithAiLevel("low"));
+      Instant savedAt = FIXED_TIMESTAMP.plusSeconds(5);
+      given(beachRepository.save(changed))
+          .willAnswer(
+              invocation -> {
+                Beach saved = invocation.getArgument(0);
+                saved.setUpdatedAt(savedAt);
+                return saved;
+              });
+
+      // When
+      scheduler.refreshConditions();
+
+      // Then
+      ArgumentCaptor<BeachConditionsRefreshedEvent> captor =
+          ArgumentCaptor.forClass(BeachConditionsRefreshedEvent.class);
+      then(eventPublisher).should().publishEvent(captor.capture());
+      BeachConditionsRefreshedEvent event = captor.getValue();
+      assertThat(event.observations())
+          .extracting(BeachConditionDto::beachId)
+          .containsExactly(changed.getId(), unchanged.getId());
+      assertThat(event.statusUpdates())
+          .containsExactly(
+              new BeachConditionsRefreshedEvent.StatusUpdate(changed.getId(), "busy", savedAt));
+    }
+
+    @Test
+    @DisplayName("TC-SCH-19: 저장한 관측값이 없으면 이벤트를 발행하지 않는다")
+    void tcSch19_doNotPublishEventWhenNothingSaved() {
+      // Given
+      Beach beach = beach("HAE", "OPEN", 129.16, 35.15);
+      BeachConditionScheduler scheduler = schedulerWithMode("ai");
+      given(beachRepository.findAll()).willReturn(List.of(beach));
+      given(congestionClient.fetchCurrent("HAE")).willReturn(null);
+
+      // When
+      scheduler.refreshConditions();
+
+      // Then
+      then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("TC-SCH-20: 상태가 바뀐 해변은 save() 결과로 BeachRegistry를 다시 만든다")
+    void tcSch20_rebuildRegistryWithSavedBeaches() {
+      // Given
+      Beach changed = beach("HAE", "OPEN", 129.16, 35.15);
+      Beach unchanged = beach("GWANG", "FREE", 129.18, 35.17);
+      Beach saved = beach("HAE", "busy", 129.16, 35.15);
+      saved.setId(changed.getId());
+      saved.setUpdatedAt(FIXED_TIMESTAMP.plusSeconds(5));
+      BeachConditionScheduler scheduler = schedulerWithMode("ai");
+      given(beachRepository.findAll()).willReturn(List.of(changed, unchanged));
+      given(congestionClient.fetchCurrent("HAE")).willReturn(responseWithAiLevel("high"));
+      given(congestionClient.fetchCurrent("GWANG")).willReturn(responseWithAiLevel("low"));
+      given(beachRepository.save(changed)).willReturn(saved);
+
+      // When
+      scheduler.refreshConditions();
+
+      // Then
+      then(beachRegistry).should().rebuild(List.of(saved, unchanged));
+    }
   }
 
   private BeachConditionScheduler schedulerWithMode(String mode) {
     return new BeachConditionScheduler(
-        beachRepository, beachConditionRepository, congestionClient, FIXED_CLOCK, mode);
+        beachRepository,
+        beachConditionRepository,
+        beachRegistry,
+        congestionClient,
+        eventPublisher,
+        FIXED_CLOCK,
+        mode);
+  }
+
+  private void givenSaveReturnsBeach() {
+    given(beachRepository.save(any(Beach.class)))
+        .willAnswer(invocation -> invocation.getArgument(0));
   }
 
   private Beach beach(String code, String status, double longitude, double latitude) {
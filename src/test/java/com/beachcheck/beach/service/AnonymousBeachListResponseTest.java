@@ -0,0 +1,97 @@
+package com.beachcheck.beach.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.beachcheck.beach.dto.BeachDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.ByteArrayInputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("비로그인 해변 목록 사전 직렬화 단위 테스트")
+class AnonymousBeachListResponseTest {
+
+  private final ObjectMapper objectMapper =
+      new ObjectMapper()
+          .findAndRegisterModules()
+          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+  @Mock private BeachService beachService;
+
+  @Test
+  @DisplayName("원본 목록이 같으면 직렬화 결과를 재사용한다")
+  void sameSource_reusesBody() throws Exception {
+    List<BeachDto> beaches = List.of(beach("free"));
+    given(beachService.findAll(null)).willReturn(beaches);
+    AnonymousBeachListResponse response =
+        new AnonymousBeachListResponse(beachService, objectMapper);
+
+    AnonymousBeachListResponse.Body first = response.current();
+    AnonymousBeachListResponse.Body second = response.current();
+
+    assertThat(second).isSameAs(first);
+    assertThat(first.json()).isEqualTo(objectMapper.writeValueAsBytes(beaches));
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(first.gzip()))) {
+      assertThat(in.readAllBytes()).isEqualTo(first.json());
+    }
+  }
+
+  @Test
+  @DisplayName("상태가 바뀌어 원본 목록이 바뀌면 다시 직렬화한다")
+  void changedSource_rebuildsBody() {
+    BeachDto beach = beach("free");
+    given(beachService.findAll(null))
+        .willReturn(List.of(beach), List.of(beach.withStatus("busy", Instant.now())));
+    AnonymousBeachListResponse response =
+        new AnonymousBeachListResponse(beachService, objectMapper);
+
+    AnonymousBeachListResponse.Body before = response.current();
+    AnonymousBeachListResponse.Body after = response.current();
+
+    assertThat(after).isNotSameAs(before);
+    assertThat(after.json()).isNotEqualTo(before.json());
+  }
+
+  @Test
+  @DisplayName("ETag 버전과 Last-Modified는 내보내는 본문에서 만든다")
+  void version_followsServedBody() {
+    BeachDto beach = beach("free");
+    Instant patchedAt = Instant.parse("2026-03-06T00:30:00Z");
+    given(beachService.findAll(null))
+        .willReturn(List.of(beach), List.of(beach), List.of(beach.withStatus("busy", patchedAt)));
+    AnonymousBeachListResponse response =
+        new AnonymousBeachListResponse(beachService, objectMapper);
+    AnonymousBeachListResponse.Body before = response.current();
+    AnonymousBeachListResponse.Body sameContent = response.current();
+
+    AnonymousBeachListResponse.Body after = response.current();
+
+    assertThat(sameContent.version()).isEqualTo(before.version());
+    assertThat(after.version()).isNotEqualTo(before.version());
+    assertThat(before.lastModified()).isEqualTo(beach.updatedAt());
+    assertThat(after.lastModified()).isEqualTo(patchedAt);
+  }
+
+  private static BeachDto beach(String status) {
+    return new BeachDto(
+        UUID.randomUUID(),
+        "HAE",
+        "해운대",
+        status,
+        35.15,
+        129.16,
+        Instant.parse("2026-03-06T00:00:00Z"),
+        "surf",
+        false);
+  }
+}
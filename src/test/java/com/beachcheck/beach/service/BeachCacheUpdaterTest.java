@@ -0,0 +1,111 @@
+package com.beachcheck.beach.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.beachcheck.beach.domain.BeachConditionsRefreshedEvent;
+import com.beachcheck.beach.dto.BeachConditionDto;
+import com.beachcheck.beach.dto.BeachDto;
+import com.beachcheck.global.cache.TwoLevelCache;
+import com.beachcheck.global.cache.TwoLevelCacheManager;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("스케줄러 갱신 이벤트의 캐시 반영 테스트")
+class BeachCacheUpdaterTest {
+
+  private static final Instant NOW = Instant.parse("2026-03-06T00:00:00Z");
+
+  private final TwoLevelCache conditionSnapshots =
+      cache(BeachConditionService.CONDITION_SNAPSHOTS, BeachConditionDto.class);
+  private final TwoLevelCache beachSummaries =
+      cache(BeachCacheUpdater.BEACH_SUMMARIES, BeachDto.class);
+  private final BeachCacheUpdater updater =
+      new BeachCacheUpdater(
+          new TwoLevelCacheManager(List.of(conditionSnapshots, beachSummaries), "local"),
+          Clock.fixed(NOW, ZoneOffset.UTC));
+
+  @Test
+  @DisplayName("새 관측값을 맨 앞에 넣고 조회 기간을 벗어난 값은 뺀다")
+  void conditionSnapshots_prependAndDropExpired() {
+    UUID beachId = UUID.randomUUID();
+    BeachConditionDto recent = condition(beachId, NOW.minus(Duration.ofHours(1)));
+    BeachConditionDto expired = condition(beachId, NOW.minus(Duration.ofHours(25)));
+    conditionSnapshots.put(beachId, List.of(recent, expired));
+    BeachConditionDto added = condition(beachId, NOW);
+
+    updater.onConditionsRefreshed(new BeachConditionsRefreshedEvent(List.of(added), List.of()));
+
+    assertThat(conditionSnapshots.get(beachId).get()).isEqualTo(List.of(added, recent));
+  }
+
+  @Test
+  @DisplayName("캐시에 없는 해변은 채우지 않는다")
+  void conditionSnapshots_skipMissingEntries() {
+    UUID beachId = UUID.randomUUID();
+
+    updater.onConditionsRefreshed(
+        new BeachConditionsRefreshedEvent(List.of(condition(beachId, NOW)), List.of()));
+
+    assertThat(conditionSnapshots.get(beachId)).isNull();
+  }
+
+  @Test
+  @DisplayName("모든 사용자 목록에서 바뀐 해변의 상태만 바꾸고 찜 여부는 유지한다")
+  void beachSummaries_patchStatusInEveryList() {
+    BeachDto changed = beach(UUID.randomUUID(), "free", false);
+    BeachDto unchanged = beach(UUID.randomUUID(), "normal", false);
+    beachSummaries.put("user:anonymous", List.of(changed, unchanged));
+    beachSummaries.put("user:1", List.of(withFavorite(changed), unchanged));
+    Instant updatedAt = NOW.plusSeconds(60);
+    BeachConditionsRefreshedEvent.StatusUpdate update =
+        new BeachConditionsRefreshedEvent.StatusUpdate(changed.id(), "busy", updatedAt);
+
+    updater.onConditionsRefreshed(new BeachConditionsRefreshedEvent(List.of(), List.of(update)));
+
+    assertThat(summaries("user:anonymous"))
+        .extracting(BeachDto::status)
+        .containsExactly("busy", "normal");
+    assertThat(summaries("user:1"))
+        .extracting(BeachDto::status, BeachDto::isFavorite, BeachDto::updatedAt)
+        .first()
+        .isEqualTo(tuple("busy", true, updatedAt));
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<BeachDto> summaries(String key) {
+    return (List<BeachDto>) beachSummaries.get(key).get();
+  }
+
+  private static TwoLevelCache cache(String name, Class<?> elementType) {
+    return new TwoLevelCache(
+        name,
+        Caffeine.newBuilder(),
+        null,
+        null,
+        TypeFactory.defaultInstance().constructCollectionType(List.class, elementType),
+        Duration.ofMinutes(10),
+        true);
+  }
+
+  private static BeachConditionDto condition(UUID beachId, Instant observedAt) {
+    return new BeachConditionDto(
+        UUID.randomUUID(), beachId, observedAt, 21.0, null, "temp:21.0C", 35.15, 129.16);
+  }
+
+  private static BeachDto beach(UUID id, String status, boolean favorite) {
+    return new BeachDto(id, "HAE", "해운대", status, 35.15, 129.16, NOW, "surf", favorite);
+  }
+
+  private static BeachDto withFavorite(BeachDto beach) {
+    return beach(beach.id(), beach.status(), true);
+  }
+}
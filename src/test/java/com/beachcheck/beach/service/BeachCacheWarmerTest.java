@@ -0,0 +1,100 @@
+package com.beachcheck.beach.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+
+import com.beachcheck.beach.dto.BeachDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("기동 시 캐시 예열 단위 테스트")
+class BeachCacheWarmerTest {
+
+  @Mock private BeachService beachService;
+  @Mock private BeachFacilityService beachFacilityService;
+  @Mock private BeachConditionService beachConditionService;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  @DisplayName("해변 목록을 채운 뒤 해변별 시설과 최근 관측값을 조회하고 진행률을 기록한다")
+  void warmUp_loadsEveryCache() {
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    given(beachService.findAll(null)).willReturn(List.of(beach(first), beach(second)));
+    given(beachConditionService.findRecentConditions(second))
+        .willThrow(new IllegalStateException("db down"));
+
+    warmer(Duration.ofSeconds(5)).warmUp();
+
+    then(beachFacilityService).should().findByBeachId(first);
+    then(beachFacilityService).should().findByBeachId(second);
+    then(beachConditionService).should().findRecentConditions(first);
+    assertThat(gauge("cache.warmup.tasks")).isEqualTo(5.0);
+    assertThat(gauge("cache.warmup.tasks.completed")).isEqualTo(4.0);
+    assertThat(gauge("cache.warmup.tasks.failed")).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("timeout이 지나면 남은 작업을 취소하고 반환한다")
+  void warmUp_boundedByTimeout() {
+    UUID beachId = UUID.randomUUID();
+    CountDownLatch release = new CountDownLatch(1);
+    given(beachService.findAll(null)).willReturn(List.of(beach(beachId)));
+    willAnswer(
+            invocation -> {
+              release.await(5, TimeUnit.SECONDS);
+              return List.of();
+            })
+        .given(beachFacilityService)
+        .findByBeachId(beachId);
+
+    long started = System.nanoTime();
+    warmer(Duration.ofMillis(100)).warmUp();
+    release.countDown();
+
+    assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(2));
+    assertThat(gauge("cache.warmup.tasks.completed")).isLessThan(gauge("cache.warmup.tasks"));
+  }
+
+  @Test
+  @DisplayName("해변 목록 조회가 실패하면 나머지 예열을 건너뛴다")
+  void warmUp_skipsWhenSnapshotFails() {
+    given(beachService.findAll(null)).willThrow(new IllegalStateException("db down"));
+
+    warmer(Duration.ofSeconds(5)).warmUp();
+
+    then(beachFacilityService).shouldHaveNoInteractions();
+    then(beachConditionService).shouldHaveNoInteractions();
+    assertThat(gauge("cache.warmup.tasks.failed")).isEqualTo(1.0);
+  }
+
+  private BeachCacheWarmer warmer(Duration timeout) {
+    CacheWarmupProperties properties = new CacheWarmupProperties();
+    properties.setTimeout(timeout);
+    properties.setParallelism(2);
+    return new BeachCacheWarmer(
+        beachService, beachFacilityService, beachConditionService, properties, meterRegistry);
+  }
+
+  private double gauge(String name) {
+    return meterRegistry.get(name).gauge().value();
+  }
+
+  private static BeachDto beach(UUID id) {
+    return new BeachDto(id, "HAE", "해운대", "free", 35.15, 129.16, Instant.now(), "surf", false);
+  }
+}
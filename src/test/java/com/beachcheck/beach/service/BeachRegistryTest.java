@@ -0,0 +1,118 @@
+package com.beachcheck.beach.service;
+
+import static com.beachcheck.support.fixture.BeachTestFixtures.createBeachWithLocation;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.beachcheck.beach.domain.Beach;
+import com.beachcheck.beach.repository.BeachRepository;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("해변 레지스트리(near-cache) 단위 테스트")
+class BeachRegistryTest {
+
+  @Mock private BeachRepository beachRepository;
+
+  @InjectMocks private BeachRegistry registry;
+
+  @Test
+  @DisplayName("첫 조회 때 한 번만 읽고 id/code로 찾는다")
+  void lazyLoad_thenLookupByIdAndCode() {
+    Beach beach = beach("HAE", 129.16, 35.15);
+    given(beachRepository.findAll()).willReturn(List.of(beach));
+
+    assertThat(registry.findById(beach.getId()))
+        .hasValueSatisfying(
+            entry -> {
+              assertThat(entry.code()).isEqualTo("HAE");
+              assertThat(entry.latitude()).isEqualTo(35.15);
+              assertThat(entry.longitude()).isEqualTo(129.16);
+            });
+    assertThat(registry.findByCode("HAE")).map(BeachRegistry.Entry::id).hasValue(beach.getId());
+    assertThat(registry.exists(beach.getId())).isTrue();
+
+    then(beachRepository).should(times(1)).findAll();
+    then(beachRepository).should(never()).existsById(any());
+  }
+
+  @Test
+  @DisplayName("rebuild는 스냅샷을 통째로 교체한다")
+  void rebuild_replacesSnapshot() {
+    Beach removed = beach("HAE", 129.16, 35.15);
+    Beach added = beach("GWANG", 129.11, 35.15);
+    registry.rebuild(List.of(removed));
+
+    registry.rebuild(List.of(added));
+
+    assertThat(registry.findByCode("HAE")).isEmpty();
+    assertThat(registry.all()).extracting(BeachRegistry.Entry::code).containsExactly("GWANG");
+    then(beachRepository).should(never()).findAll();
+  }
+
+  @Test
+  @DisplayName("reload 중에 온 rebuild는 reload가 끝난 뒤 교체해 먼저 읽은 목록에 덮어쓰이지 않는다")
+  void rebuild_waitsForInFlightReload() throws Exception {
+    Beach before = beach("HAE", 129.16, 35.15);
+    Beach after = beach("GWANG", 129.11, 35.15);
+    CountDownLatch reading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    given(beachRepository.findAll())
+        .willAnswer(
+            invocation -> {
+              reading.countDown();
+              release.await();
+              return List.of(before);
+            });
+
+    Thread reload = new Thread(registry::reload);
+    reload.start();
+    assertThat(reading.await(1, TimeUnit.SECONDS)).isTrue();
+    Thread rebuild = new Thread(() -> registry.rebuild(List.of(after)));
+    rebuild.start();
+    while (rebuild.getState() != Thread.State.BLOCKED) {
+      Thread.sleep(5);
+    }
+    release.countDown();
+    reload.join();
+    rebuild.join();
+
+    assertThat(registry.all()).extracting(BeachRegistry.Entry::code).containsExactly("GWANG");
+  }
+
+  @Test
+  @DisplayName("스냅샷에 없으면 DB로 확인하고, 새 해변이면 다시 읽는다")
+  void exists_missFallsBackToDatabase() {
+    Beach known = beach("HAE", 129.16, 35.15);
+    Beach created = beach("SONG", 129.20, 35.17);
+    UUID unknown = UUID.randomUUID();
+    registry.rebuild(List.of(known));
+    given(beachRepository.existsById(unknown)).willReturn(false);
+    given(beachRepository.existsById(created.getId())).willReturn(true);
+    given(beachRepository.findAll()).willReturn(List.of(known, created));
+
+    assertThat(registry.exists(unknown)).isFalse();
+    assertThat(registry.exists(created.getId())).isTrue();
+
+    assertThat(registry.findByCode("SONG")).isPresent();
+  }
+
+  private static Beach beach(String code, double longitude, double latitude) {
+    Beach beach = createBeachWithLocation(code, "Beach-" + code, longitude, latitude);
+    beach.setId(UUID.randomUUID());
+    return beach;
+  }
+}
@@ -6,6 +6,7 @@ import static com.beachcheck.support.fixture.UserTestFixtures.createUser;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
@@ -110,7 +111,8 @@ class BeachServiceTest {
       then(beachRepository).should().findAll();
       then(beachRepository)
           .should(never())
-          .findByNameContainingIgnoreCaseOrCodeContainingIgnoreCase(anyString(), anyString());
+          .searchByText(anyString(), anyString(), anyString(), any(), anyInt());
+      then(beachRepository).should(never()).searchByTag(anyString(), anyInt());
     }
 
     @Test
@@ -132,7 +134,8 @@ class BeachServiceTest {
       then(beachRepository).should().findAll();
       then(beachRepository)
           .should(never())
-          .findByNameContainingIgnoreCaseOrCodeContainingIgnoreCase(anyString(), anyString());
+          .searchByText(anyString(), anyString(), anyString(), any(), anyInt());
+      then(beachRepository).should(never()).searchByTag(anyString(), anyInt());
     }
 
     @Test
@@ -141,7 +144,7 @@ class BeachServiceTest {
       // Given
       UUID beachId = UUID.randomUUID();
       Beach beach = beach(beachId, "HAE", "해운대", "surf", "OPEN", 129.16, 35.15);
-      given(beachRepository.findByNameContainingIgnoreCaseOrCodeContainingIgnoreCase("hae", "hae"))
+      given(beachRepository.searchByText("hae", "%hae%", "hae%", null, BeachService.SEARCH_LIMIT))
           .willReturn(List.of(beach));
 
       // When
@@ -150,47 +153,52 @@ class BeachServiceTest {
       // Then
       assertThat(results).hasSize(1);
       assertThat(results.get(0).id()).isEqualTo(beachId);
-      then(beachRepository)
-          .should()
-          .findByNameContainingIgnoreCaseOrCodeContainingIgnoreCase("hae", "hae");
       then(beachRepository).should(never()).findAll();
     }
 
     @Test
-    @DisplayName("TC-SVC-06: repository 검색 후 태그 후처리 필터를 적용한다")
-    void tcSvc06_applyTagPostFilterAfterRepositorySearch() {
+    @DisplayName("TC-SVC-06: 검색어와 태그를 한 쿼리에 넘기고 관련도 순서를 유지한다")
+    void tcSvc06_passQAndTagToSingleQueryAndKeepRanking() {
       // Given
       Beach surf1 = beach(UUID.randomUUID(), "HAE", "해운대", "surf", "OPEN", 129.16, 35.15);
       Beach surf2 = beach(UUID.randomUUID(), "SONG", "송정", "SURF", "OPEN", 129.20, 35.18);
-      Beach family = beach(UUID.randomUUID(), "GWAN", "광안리", "family", "OPEN", 129.12, 35.15);
-      Beach nullTag = beach(UUID.randomUUID(), "DADA", "다대포", null, "OPEN", 128.96, 35.05);
-      given(beachRepository.findByNameContainingIgnoreCaseOrCodeContainingIgnoreCase("hae", "hae"))
-          .willReturn(List.of(surf1, surf2, family, nullTag));
+      given(beachRepository.searchByText("hae", "%hae%", "hae%", "SURF", BeachService.SEARCH_LIMIT))
+          .willReturn(List.of(surf2, surf1));
 
       // When
       List<BeachDto> results = beachService.search("hae", "  SURF  ", null);
 
       // Then
-      assertThat(results).hasSize(2);
       assertThat(results)
           .extracting(BeachDto::id, BeachDto::tag)
-          .containsExactlyInAnyOrder(tuple(surf1.getId(), "surf"), tuple(surf2.getId(), "SURF"));
+          .containsExactly(tuple(surf2.getId(), "SURF"), tuple(surf1.getId(), "surf"));
+      then(beachRepository).should(never()).findAll();
+    }
+
+    @Test
+    @DisplayName("TC-SVC-06-1: LIKE 특수문자는 이스케이프해 문자 그대로 찾는다")
+    void tcSvc06_1_escapeLikeWildcards() {
+      // When
+      beachService.search("50%_off!", null, null);
+
+      // Then
       then(beachRepository)
           .should()
-          .findByNameContainingIgnoreCaseOrCodeContainingIgnoreCase("hae", "hae");
+          .searchByText(
+              "50%_off!", "%50!%!_off!!%", "50!%!_off!!%", null, BeachService.SEARCH_LIMIT);
     }
 
     @Test
-    @DisplayName("TC-SVC-07: 전체 목록 경로에서 태그 필터와 찜 여부 매핑을 적용한다")
-    void tcSvc07_applyTagFilterAndFavoriteMappingOnFindAllPath() {
+    @DisplayName("TC-SVC-07: 태그만 있으면 태그 쿼리를 사용하고 찜 여부를 매핑한다")
+    void tcSvc07_useTagQueryAndMapFavorites() {
       // Given
       User user = createUser();
       UUID campFavoriteId = UUID.randomUUID();
       Beach campFavorite = beach(campFavoriteId, "HAE", "해운대", "camp", "OPEN", 129.16, 35.15);
       Beach campNonFavorite =
           beach(UUID.randomUUID(), "GWAN", "광안리", "CAMP", "OPEN", 129.12, 35.15);
-      Beach surf = beach(UUID.randomUUID(), "SONG", "송정", "surf", "OPEN", 129.20, 35.18);
-      given(beachRepository.findAll()).willReturn(List.of(campFavorite, campNonFavorite, surf));
+      given(beachRepository.searchByTag("camp", BeachService.SEARCH_LIMIT))
+          .willReturn(List.of(campFavorite, campNonFavorite));
       given(favoriteService.getFavoriteBeachIds(user)).willReturn(favoriteIds(campFavoriteId));
 
       // When
@@ -202,10 +210,10 @@ class BeachServiceTest {
           .extracting(BeachDto::id, BeachDto::tag, BeachDto::isFavorite)
           .containsExactlyInAnyOrder(
               tuple(campFavoriteId, "camp", true), tuple(campNonFavorite.getId(), "CAMP", false));
-      then(beachRepository).should().findAll();
+      then(beachRepository).should(never()).findAll();
       then(beachRepository)
           .should(never())
-          .findByNameContainingIgnoreCaseOrCodeContainingIgnoreCase(anyString(), anyString());
+          .searchByText(anyString(), anyString(), anyString(), any(), anyInt());
     }
   }
 
@@ -7,6 +7,9 @@ import static org.springframework.test.web.client.match.MockRestRequestMatchers.
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
+import com.beachcheck.global.concurrency.ConcurrencyLimitProperties;
+import com.beachcheck.global.concurrency.ConcurrencyLimiters;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.MediaType;
@@ -24,7 +27,8 @@ class CongestionClientTest {
   void fetchCurrent_returnsResponseBody() {
     RestClient.Builder builder = RestClient.builder();
     MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
-    CongestionClient client = new CongestionClient(BASE_URL, builder, new NoOpRequestInterceptor());
+    CongestionClient client =
+        new CongestionClient(BASE_URL, builder, new NoOpRequestInterceptor(), limiters());
 
     server
         .expect(requestTo(BASE_URL + "/congestion/current?beach_id=" + BEACH_CODE))
@@ -77,7 +81,8 @@ class CongestionClientTest {
   void fetchCurrent_returnsNullWhenInternalServerErrorOccurs() {
     RestClient.Builder builder = RestClient.builder();
     MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
-    CongestionClient client = new CongestionClient(BASE_URL, builder, new NoOpRequestInterceptor());
+    CongestionClient client =
+        new CongestionClient(BASE_URL, builder, new NoOpRequestInterceptor(), limiters());
 
     server
         .expect(requestTo(BASE_URL + "/congestion/current?beach_id=" + BEACH_CODE))
@@ -89,4 +94,8 @@ class CongestionClientTest {
     assertThat(response).isNull();
     server.verify();
   }
+
+  private static ConcurrencyLimiters limiters() {
+    return new ConcurrencyLimiters(new ConcurrencyLimitProperties(), new SimpleMeterRegistry());
+  }
 }
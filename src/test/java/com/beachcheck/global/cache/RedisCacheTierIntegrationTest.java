@@ -0,0 +1,126 @@
+package com.beachcheck.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.beachcheck.beach.dto.BeachDto;
+import com.fasterxml.jackson.databind.JavaType;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/** 두 노드가 같은 Redis를 공유하는 상황을 매니저 두 개로 재현한다. */
+@Testcontainers
+@DisplayName("Redis 2차 캐시 + pub/sub 무효화 통합 테스트")
+class RedisCacheTierIntegrationTest {
+
+  private static final String CACHE = "beachSummaries";
+  private static final Duration TTL = Duration.ofMinutes(10);
+
+  @Container
+  static final GenericContainer<?> redis =
+      new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+  private final CacheValueSerializer serializer = new CacheValueSerializer();
+  private final JavaType type =
+      serializer.getTypeFactory().constructCollectionType(List.class, BeachDto.class);
+  private final TwoLevelCacheProperties properties = new TwoLevelCacheProperties();
+
+  private LettuceConnectionFactory connectionFactory;
+  private RedisMessageListenerContainer listenerContainer;
+  private TwoLevelCache nodeA;
+  private TwoLevelCache nodeB;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+    connectionFactory.afterPropertiesSet();
+    connectionFactory.start();
+
+    nodeA = new TwoLevelCache(CACHE, Caffeine.newBuilder(), null, remote(), type, TTL, true);
+    RedisCacheTier remoteB = remote();
+    nodeB = new TwoLevelCache(CACHE, Caffeine.newBuilder(), null, remoteB, type, TTL, true);
+    listenerContainer = new RedisMessageListenerContainer();
+    listenerContainer.setConnectionFactory(connectionFactory);
+    TwoLevelCacheManager managerB = new TwoLevelCacheManager(List.of(nodeB), remoteB.getNodeId());
+    listenerContainer.addMessageListener(managerB, new ChannelTopic(properties.getChannel()));
+    listenerContainer.afterPropertiesSet();
+    listenerContainer.start();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    nodeA.clear();
+    listenerContainer.destroy();
+    connectionFactory.destroy();
+  }
+
+  @Test
+  @DisplayName("한 노드가 저장한 값을 다른 노드가 DB 로드 없이 Redis에서 읽는다")
+  void sharedSecondLevel() {
+    List<BeachDto> value = List.of(beach());
+    nodeA.put("user:anonymous", value);
+
+    List<BeachDto> loaded =
+        nodeB.get(
+            "user:anonymous",
+            () -> {
+              throw new AssertionError("loader must not run");
+            });
+
+    assertThat(loaded).isEqualTo(value);
+  }
+
+  @Test
+  @DisplayName("한 노드의 evict가 pub/sub으로 다른 노드의 로컬 값을 지운다")
+  void evictPropagatesToOtherNode() throws Exception {
+    nodeA.put("user:1", List.of(beach()));
+    assertThat(nodeB.get("user:1")).isNotNull();
+
+    nodeA.evict("user:1");
+
+    long deadline = System.nanoTime() + 5_000_000_000L;
+    while (nodeB.getNativeCache().getIfPresent("user:1") != null
+        && System.nanoTime() < deadline) {
+      Thread.sleep(20);
+    }
+    assertThat(nodeB.getNativeCache().getIfPresent("user:1")).isNull();
+    assertThat(nodeB.get("user:1")).isNull();
+  }
+
+  private RedisCacheTier remote() {
+    RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+    template.setConnectionFactory(connectionFactory);
+    template.setKeySerializer(RedisSerializer.string());
+    template.setValueSerializer(RedisSerializer.byteArray());
+    template.afterPropertiesSet();
+    return new RedisCacheTier(template, serializer, properties);
+  }
+
+  private static BeachDto beach() {
+    return new BeachDto(
+        UUID.randomUUID(),
+        "GYEONGPO",
+        "경포해변",
+        "OPEN",
+        37.8,
+        128.9,
+        Instant.now().truncatedTo(ChronoUnit.MILLIS),
+        "family",
+        false);
+  }
+}
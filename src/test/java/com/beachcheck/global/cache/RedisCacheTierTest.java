@@ -0,0 +1,121 @@
+package com.beachcheck.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willCallRealMethod;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Redis 2차 캐시 장애 구간 무효화 단위 테스트")
+class RedisCacheTierTest {
+
+  private static final String CACHE = "beachSummaries";
+  private static final Duration RETRY_INTERVAL = Duration.ofMillis(50);
+  private static final Duration TTL = Duration.ofMinutes(10);
+
+  @Mock private RedisTemplate<String, byte[]> redisTemplate;
+  @Mock private ValueOperations<String, byte[]> valueOperations;
+
+  private static final JavaType TYPE = TypeFactory.defaultInstance().constructType(String.class);
+
+  private final CacheValueSerializer serializer = new CacheValueSerializer();
+  private TwoLevelCacheProperties properties;
+  private RedisCacheTier tier;
+
+  @BeforeEach
+  void setUp() {
+    properties = new TwoLevelCacheProperties();
+    properties.setRetryInterval(RETRY_INTERVAL);
+    tier = new RedisCacheTier(redisTemplate, serializer, properties);
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+  }
+
+  @Test
+  @DisplayName("장애 중 건너뛴 evict는 복구 직후 Redis에서 지우고 다른 노드에 전파한다")
+  void evictSkippedWhileSuspended_isReplayedOnRecovery() throws Exception {
+    suspend();
+
+    tier.evict(CACHE, "user:anonymous");
+    then(redisTemplate).should(never()).delete(anyString());
+
+    recover();
+
+    then(redisTemplate).should().delete(redisKey("user:anonymous"));
+    then(redisTemplate).should().convertAndSend(any(String.class), any(byte[].class));
+  }
+
+  @Test
+  @DisplayName("놓친 evict가 maxPendingEvicts를 넘으면 복구 때 캐시 전체를 지운다")
+  void tooManyMissedEvicts_clearsWholeCacheOnRecovery() throws Exception {
+    properties.setMaxPendingEvicts(1);
+    given(redisTemplate.scan(any(ScanOptions.class))).willReturn(mock(Cursor.class));
+    suspend();
+
+    tier.evict(CACHE, "user:a");
+    tier.evict(CACHE, "user:b");
+
+    recover();
+
+    then(redisTemplate).should().scan(any(ScanOptions.class));
+    then(redisTemplate).should(never()).delete(redisKey("user:a"));
+  }
+
+  @Test
+  @DisplayName("updateAll은 Redis 값을 키별로 패치하고 다른 노드에는 로컬 값만 버리라고 발행한다")
+  void updateAll_patchesEachKeyAndPublishesClear() throws Exception {
+    Cursor<String> cursor = mock(Cursor.class);
+    given(cursor.hasNext()).willReturn(true, true, false);
+    given(cursor.next()).willReturn(redisKey("user:1"), redisKey("user:2"));
+    willCallRealMethod().given(cursor).forEachRemaining(any());
+    given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+    given(valueOperations.get(redisKey("user:1"))).willReturn(serializer.serialize("old"));
+    given(valueOperations.get(redisKey("user:2"))).willReturn(serializer.serialize("same"));
+
+    tier.updateAll(CACHE, TYPE, TTL, current -> "old".equals(current) ? "new" : current);
+
+    then(valueOperations)
+        .should()
+        .setIfPresent(redisKey("user:1"), serializer.serialize("new"), TTL);
+    then(valueOperations).should(never()).setIfPresent(eq(redisKey("user:2")), any(), any());
+    then(redisTemplate).should(never()).delete(anyString());
+    then(redisTemplate).should().convertAndSend(any(String.class), any(byte[].class));
+  }
+
+  private void suspend() {
+    given(valueOperations.get(anyString()))
+        .willThrow(new RedisConnectionFailureException("down"));
+    assertThat(tier.get(CACHE, "probe", TYPE)).isNull();
+    assertThat(tier.isAvailable()).isFalse();
+  }
+
+  private void recover() throws InterruptedException {
+    Thread.sleep(RETRY_INTERVAL.toMillis() + 20);
+    willReturn(null).given(valueOperations).get(anyString());
+    assertThat(tier.get(CACHE, "probe", TYPE)).isNull();
+  }
+
+  private String redisKey(String key) {
+    return properties.getKeyPrefix() + CACHE + "::" + key;
+  }
+}
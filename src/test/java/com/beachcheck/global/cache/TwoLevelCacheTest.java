@@ -0,0 +1,332 @@
+package com.beachcheck.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("2단계 캐시(Caffeine + Redis) 단위 테스트")
+class TwoLevelCacheTest {
+
+  private static final String CACHE = "beachSummaries";
+  private static final JavaType TYPE =
+      TypeFactory.defaultInstance().constructCollectionType(List.class, String.class);
+  private static final Duration TTL = Duration.ofMinutes(10);
+
+  @Mock private RedisCacheTier remote;
+
+  private TwoLevelCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new TwoLevelCache(CACHE, Caffeine.newBuilder(), null, remote, TYPE, TTL, true);
+  }
+
+  @Test
+  @DisplayName("로컬 미스면 Redis 값을 읽고 로컬에 채운다")
+  void lookup_remoteHit_populatesLocal() {
+    given(remote.get(CACHE, "user:anonymous", TYPE)).willReturn(List.of("a"));
+
+    assertThat(cache.get("user:anonymous").get()).isEqualTo(List.of("a"));
+    assertThat(cache.get("user:anonymous").get()).isEqualTo(List.of("a"));
+
+    then(remote).should().get(CACHE, "user:anonymous", TYPE);
+  }
+
+  @Test
+  @DisplayName("양쪽 모두 미스면 로더 결과를 로컬과 Redis에 저장한다")
+  void getWithLoader_missEverywhere_loadsOnceAndWritesThrough() {
+    AtomicInteger loads = new AtomicInteger();
+
+    List<String> first = cache.get("k", () -> List.of("v" + loads.incrementAndGet()));
+    List<String> second = cache.get("k", () -> List.of("v" + loads.incrementAndGet()));
+
+    assertThat(first).isEqualTo(List.of("v1"));
+    assertThat(second).isEqualTo(first);
+    assertThat(loads.get()).isEqualTo(1);
+    then(remote).should().put(CACHE, "k", List.of("v1"), TTL);
+  }
+
+  @Test
+  @DisplayName("로드 중에 evict가 오면 로더 결과를 로컬과 Redis에 저장하지 않는다")
+  void getWithLoader_evictedDuringLoad_doesNotStoreResult() {
+    List<String> loaded =
+        cache.get(
+            "user:1",
+            () -> {
+              cache.evict("user:1");
+              return List.of("before-evict");
+            });
+
+    assertThat(loaded).isEqualTo(List.of("before-evict"));
+    assertThat(cache.getNativeCache().getIfPresent("user:1")).isNull();
+    then(remote).should().evict(CACHE, "user:1");
+    then(remote).should(never()).put(anyString(), anyString(), any(), any());
+  }
+
+  @Test
+  @DisplayName("키는 문자열로 정규화되어 UUID 키와 무효화 메시지 키가 일치한다")
+  void keys_areNormalizedToString() {
+    UUID beachId = UUID.randomUUID();
+    cache.put(beachId, List.of("x"));
+
+    new TwoLevelCacheManager(List.of(cache), "node-a")
+        .apply(CacheInvalidationMessage.evict("node-b", CACHE, beachId.toString()));
+
+    assertThat(cache.getNativeCache().getIfPresent(beachId.toString())).isNull();
+  }
+
+  @Test
+  @DisplayName("evict는 로컬과 Redis에서 모두 지운다")
+  void evict_removesBothTiers() {
+    cache.put("user:1", List.of("x"));
+
+    cache.evict("user:1");
+
+    assertThat(cache.getNativeCache().getIfPresent("user:1")).isNull();
+    then(remote).should().evict(CACHE, "user:1");
+  }
+
+  @Test
+  @DisplayName("자신이 발행한 무효화 메시지는 무시한다")
+  void manager_ignoresOwnMessages() {
+    cache.put("user:1", List.of("x"));
+    TwoLevelCacheManager manager = new TwoLevelCacheManager(List.of(cache), "node-a");
+
+    manager.apply(CacheInvalidationMessage.evict("node-a", CACHE, "user:1"));
+    assertThat(cache.getNativeCache().getIfPresent("user:1")).isNotNull();
+
+    manager.apply(CacheInvalidationMessage.clear("node-b", CACHE));
+    assertThat(cache.getNativeCache().estimatedSize()).isZero();
+    then(remote).should(never()).clear(anyString());
+  }
+
+  @Test
+  @DisplayName("updateAllPresent는 로컬 항목을 패치하고 Redis 값도 키별로 패치한다")
+  void updateAllPresent_patchesLocalAndRemote() {
+    cache.put("user:1", List.of("a"));
+
+    cache.updateAllPresent(current -> List.of("b"));
+
+    assertThat(cache.get("user:1").get()).isEqualTo(List.of("b"));
+    then(remote).should().updateAll(eq(CACHE), eq(TYPE), eq(TTL), any());
+    then(remote).should(never()).clear(anyString());
+  }
+
+  @Test
+  @DisplayName("updateIfPresent는 로컬에 없는 키를 채우지 않고 Redis의 패치 전 값을 지운다")
+  void updateIfPresent_absentLocally_evictsRemote() {
+    cache.updateIfPresent("beach:1", current -> List.of("patched"));
+
+    assertThat(cache.getNativeCache().getIfPresent("beach:1")).isNull();
+    then(remote).should().evict(CACHE, "beach:1");
+    then(remote).should(never()).put(anyString(), anyString(), any(), any());
+  }
+
+  @Test
+  @DisplayName("Redis 계층이 없으면 로컬 전용으로 동작한다")
+  void localOnly_withoutRemote() {
+    TwoLevelCache localOnly =
+        new TwoLevelCache(CACHE, Caffeine.newBuilder(), null, null, TYPE, TTL, true);
+
+    localOnly.put("k", List.of("v"));
+
+    assertThat(localOnly.get("k").get()).isEqualTo(List.of("v"));
+    then(remote).should(never()).put(anyString(), anyString(), any(), any());
+    then(remote).should(never()).get(anyString(), eq("k"), any());
+  }
+
+  @Test
+  @DisplayName("refreshAfterWrite가 지나면 기존 값을 반환하고 백그라운드에서 다시 계산해 Redis에도 쓴다")
+  void refreshAfterWrite_servesStaleAndReloads() {
+    AtomicLong nanos = new AtomicLong();
+    AtomicInteger reloads = new AtomicInteger();
+    Caffeine<Object, Object> spec =
+        Caffeine.newBuilder()
+            .refreshAfterWrite(Duration.ofMinutes(5))
+            .ticker(nanos::get)
+            .executor(Runnable::run);
+    TwoLevelCache refreshing =
+        new TwoLevelCache(CACHE, spec, reloader(reloads), remote, TYPE, TTL, true);
+    refreshing.put("k", List.of("v1"));
+
+    nanos.addAndGet(Duration.ofMinutes(6).toNanos());
+
+    assertThat(refreshing.get("k").get()).isEqualTo(List.of("v1"));
+    assertThat(refreshing.get("k").get()).isEqualTo(List.of("v2"));
+    assertThat(reloads).hasValue(1);
+    then(remote).should().put(CACHE, "k", List.of("v2"), TTL);
+  }
+
+  @Test
+  @DisplayName("재계산 중 patch가 들어오면 재계산 결과를 로컬과 Redis 어디에도 쓰지 않는다")
+  void refreshAfterWrite_patchedDuringReload_discardsResult() {
+    AtomicLong nanos = new AtomicLong();
+    AtomicInteger reloads = new AtomicInteger();
+    List<Runnable> pending = new ArrayList<>();
+    Caffeine<Object, Object> spec =
+        Caffeine.newBuilder()
+            .refreshAfterWrite(Duration.ofMinutes(5))
+            .ticker(nanos::get)
+            .executor(pending::add);
+    TwoLevelCache refreshing =
+        new TwoLevelCache(CACHE, spec, reloader(reloads), remote, TYPE, TTL, true);
+    refreshing.put("k", List.of("v1"));
+    nanos.addAndGet(Duration.ofMinutes(6).toNanos());
+
+    assertThat(refreshing.get("k").get()).isEqualTo(List.of("v1"));
+    refreshing.updateIfPresent("k", current -> List.of("patched"));
+    List.copyOf(pending).forEach(Runnable::run);
+
+    assertThat(reloads).hasValue(1);
+    assertThat(refreshing.get("k").get()).isEqualTo(List.of("patched"));
+    then(remote).should(never()).put(CACHE, "k", List.of("v2"), TTL);
+  }
+
+  @Test
+  @DisplayName("같은 키에 500개 요청이 동시에 미스해도 로더는 한 번만 실행된다")
+  void getWithLoader_concurrentMisses_singleFlight() throws Exception {
+    int callers = 500;
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<List<String>>> results = new ArrayList<>();
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < callers; i++) {
+        results.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  return cache.get(
+                      "k",
+                      () -> {
+                        loads.incrementAndGet();
+                        Thread.sleep(200);
+                        return List.of("v");
+                      });
+                }));
+      }
+      start.countDown();
+      for (Future<List<String>> result : results) {
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(List.of("v"));
+      }
+    }
+
+    assertThat(loads).hasValue(1);
+    then(remote).should().get(CACHE, "k", TYPE);
+  }
+
+  @Test
+  @DisplayName("앞선 로드를 loadTimeout보다 오래 기다리면 만료된 마지막 값을 준다")
+  void getWithLoader_waitTimeout_fallsBackToStale() throws Exception {
+    AtomicLong nanos = new AtomicLong();
+    TwoLevelCache guarded = guardedCache(nanos);
+    guarded.put("k", List.of("old"));
+    nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      Future<List<String>> leader =
+          executor.submit(
+              () ->
+                  guarded.get(
+                      "k",
+                      () -> {
+                        loading.countDown();
+                        release.await();
+                        return List.of("new");
+                      }));
+      loading.await();
+
+      List<String> waiter = guarded.get("k", () -> List.of("unexpected"));
+      release.countDown();
+
+      assertThat(waiter).isEqualTo(List.of("old"));
+      assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(List.of("new"));
+    }
+  }
+
+  @Test
+  @DisplayName("로드가 실패하면 만료된 마지막 값을 주고, 명시적으로 무효화된 값은 주지 않는다")
+  void getWithLoader_failure_fallsBackToStaleUnlessEvicted() {
+    AtomicLong nanos = new AtomicLong();
+    TwoLevelCache guarded = guardedCache(nanos);
+    guarded.put("k", List.of("old"));
+    nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+
+    assertThat(guarded.get("k", TwoLevelCacheTest::failingLoad)).isEqualTo(List.of("old"));
+
+    guarded.evict("k");
+    assertThatThrownBy(() -> guarded.get("k", TwoLevelCacheTest::failingLoad))
+        .isInstanceOf(Cache.ValueRetrievalException.class);
+  }
+
+  @Test
+  @DisplayName("인코딩한 무효화 메시지를 그대로 복원한다")
+  void invalidationMessage_roundTrip() {
+    CacheInvalidationMessage message = CacheInvalidationMessage.evict("n", CACHE, "user:a|b");
+
+    assertThat(CacheInvalidationMessage.decode(message.encode())).isEqualTo(message);
+  }
+
+  /** 로컬 TTL 1분, stale 1시간, 대기 100ms인 로컬 전용 캐시. */
+  private static TwoLevelCache guardedCache(AtomicLong nanos) {
+    return new TwoLevelCache(
+        CACHE,
+        Caffeine.newBuilder().expireAfterWrite(Duration.ofMinutes(1)).ticker(nanos::get),
+        Caffeine.newBuilder().expireAfterWrite(Duration.ofHours(1)).ticker(nanos::get),
+        null,
+        null,
+        TYPE,
+        TTL,
+        Duration.ofMillis(100),
+        true);
+  }
+
+  private static List<String> failingLoad() {
+    throw new IllegalStateException("db down");
+  }
+
+  private static CacheReloader reloader(AtomicInteger reloads) {
+    return new CacheReloader() {
+      @Override
+      public String cacheName() {
+        return CACHE;
+      }
+
+      @Override
+      public Object reload(String key) {
+        reloads.incrementAndGet();
+        return List.of("v2");
+      }
+    };
+  }
+}
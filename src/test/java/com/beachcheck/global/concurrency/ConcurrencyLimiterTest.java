@@ -0,0 +1,99 @@
+package com.beachcheck.global.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("세마포어 기반 동시 호출 제한 단위 테스트")
+class ConcurrencyLimiterTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  @DisplayName("허가 안에서 호출 결과와 예외를 그대로 전달한다")
+  void execute_passesThroughResultAndException() {
+    ConcurrencyLimiter limiter = limiter(1, Duration.ofSeconds(1));
+
+    assertThat(limiter.execute(() -> "ok")).isEqualTo("ok");
+    assertThatThrownBy(
+            () ->
+                limiter.execute(
+                    () -> {
+                      throw new IOException("boom");
+                    }))
+        .isInstanceOf(IOException.class);
+    assertThat(inUse()).isZero();
+  }
+
+  @Test
+  @DisplayName("허가가 모두 사용 중이면 acquireTimeout 후 ConcurrencyLimitExceededException으로 거절한다")
+  void execute_saturated_rejectsAfterTimeout() throws Exception {
+    ConcurrencyLimiter limiter = limiter(1, Duration.ofMillis(50));
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      CompletableFuture<String> holder =
+          CompletableFuture.supplyAsync(
+              () ->
+                  limiter.execute(
+                      () -> {
+                        started.countDown();
+                        awaitQuietly(release);
+                        return "held";
+                      }),
+              executor);
+      assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+      assertThat(inUse()).isEqualTo(1.0);
+
+      assertThatThrownBy(() -> limiter.execute(() -> "blocked"))
+          .isInstanceOf(ConcurrencyLimitExceededException.class)
+          .extracting(e -> ((ConcurrencyLimitExceededException) e).getLimiterName())
+          .isEqualTo("test");
+      assertThat(
+              meterRegistry.get("concurrency.limit.rejected").tag("name", "test").counter().count())
+          .isEqualTo(1.0);
+
+      release.countDown();
+      assertThat(holder.get(2, TimeUnit.SECONDS)).isEqualTo("held");
+    }
+  }
+
+  @Test
+  @DisplayName("같은 이름에는 같은 limiter를 쓰고, 설정이 없으면 defaultLimit을 쓴다")
+  void registry_sharesLimiterPerName() {
+    ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+    properties.getLimits().put(ConcurrencyLimiters.FCM, 4);
+    ConcurrencyLimiters limiters = new ConcurrencyLimiters(properties, meterRegistry);
+
+    assertThat(limiters.get(ConcurrencyLimiters.FCM)).isSameAs(limiters.get("fcm"));
+    assertThat(limiters.get(ConcurrencyLimiters.FCM).getPermits()).isEqualTo(4);
+    assertThat(limiters.get(ConcurrencyLimiters.CONGESTION_API).getPermits())
+        .isEqualTo(properties.getDefaultLimit());
+  }
+
+  private ConcurrencyLimiter limiter(int permits, Duration acquireTimeout) {
+    return new ConcurrencyLimiter("test", permits, acquireTimeout, meterRegistry);
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(2, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private double inUse() {
+    return meterRegistry.get("concurrency.limit.in_use").tag("name", "test").gauge().value();
+  }
+}
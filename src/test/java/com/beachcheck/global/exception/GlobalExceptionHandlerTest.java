@@ -2,6 +2,7 @@ package com.beachcheck.global.exception;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.beachcheck.global.concurrency.ConcurrencyLimitExceededException;
 import com.beachcheck.global.db.DBConstraints;
 import jakarta.persistence.EntityNotFoundException;
 import java.lang.reflect.Method;
@@ -81,6 +82,20 @@ class GlobalExceptionHandlerTest {
       assertThat(problemDetail.getProperties()).containsKey("details");
       assertThat(problemDetail.getProperties().get("details")).isEqualTo(Map.of());
     }
+
+    @Test
+    @DisplayName("TC-EX-14: 동시 실행 제한 초과를 SERVICE_BUSY 계약으로 매핑한다")
+    void tcEx14_mapConcurrencyLimitToServiceBusy() {
+      // Given
+      ConcurrencyLimitExceededException ex = new ConcurrencyLimitExceededException("fcm");
+
+      // When
+      ProblemDetail problemDetail = handler.handleConcurrencyLimitExceeded(ex);
+
+      // Then
+      assertThat(problemDetail.getStatus()).isEqualTo(503);
+      assertThat(problemDetail.getProperties()).containsEntry("code", "SERVICE_BUSY");
+    }
   }
 
   @Nested
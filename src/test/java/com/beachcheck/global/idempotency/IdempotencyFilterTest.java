@@ -0,0 +1,254 @@
+package com.beachcheck.global.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.beachcheck.user.domain.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@DisplayName("Idempotency-Key 필터 단위 테스트")
+class IdempotencyFilterTest {
+
+  private static final String RESERVATION_PATH =
+      "/api/beaches/11111111-1111-1111-1111-111111111111/reservations";
+
+  private IdempotencyProperties properties;
+  private IdempotencyFilter filter;
+  private AtomicInteger chainCalls;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    properties = new IdempotencyProperties();
+    properties.setInFlightWait(Duration.ofSeconds(2));
+    ObjectMapper objectMapper = new ObjectMapper();
+    IdempotencyStore store =
+        new IdempotencyStore(properties, mock(ObjectProvider.class), objectMapper);
+    filter = new IdempotencyFilter(store, properties, objectMapper);
+    chainCalls = new AtomicInteger();
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  @DisplayName("동일 키 재요청은 체인을 다시 타지 않고 저장된 응답을 재생한다")
+  void repeatedKey_replaysStoredResponse() throws Exception {
+    authenticate(UUID.randomUUID());
+
+    MockHttpServletResponse first = perform(request("key-1"), createdChain());
+    MockHttpServletResponse second = perform(request("key-1"), createdChain());
+
+    assertThat(chainCalls.get()).isEqualTo(1);
+    assertThat(first.getStatus()).isEqualTo(201);
+    assertThat(second.getStatus()).isEqualTo(201);
+    assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+    assertThat(second.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    assertThat(second.getHeader("Location")).isEqualTo(first.getHeader("Location"));
+  }
+
+  @Test
+  @DisplayName("같은 키를 다른 본문으로 재사용하면 422 IDEMPOTENCY_KEY_REUSED")
+  void reusedKeyWithDifferentBody_returnsUnprocessable() throws Exception {
+    authenticate(UUID.randomUUID());
+    MockHttpServletRequest original = request("key-body");
+    original.setContent("{\"slot\":\"10:00\"}".getBytes(StandardCharsets.UTF_8));
+    MockHttpServletRequest changed = request("key-body");
+    changed.setContent("{\"slot\":\"11:00\"}".getBytes(StandardCharsets.UTF_8));
+
+    perform(original, createdChain());
+    MockHttpServletResponse response = perform(changed, createdChain());
+
+    assertThat(chainCalls.get()).isEqualTo(1);
+    assertThat(response.getStatus()).isEqualTo(422);
+    assertThat(response.getContentAsString()).contains("IDEMPOTENCY_KEY_REUSED");
+  }
+
+  @Test
+  @DisplayName("예약 취소(DELETE)도 기본 경로에 포함되어 재생된다")
+  void reservationDelete_isCoveredByDefaultPaths() throws Exception {
+    authenticate(UUID.randomUUID());
+    FilterChain noContent =
+        (req, res) -> {
+          chainCalls.incrementAndGet();
+          ((HttpServletResponse) res).setStatus(204);
+        };
+
+    perform(deleteRequest("key-delete"), noContent);
+    MockHttpServletResponse second = perform(deleteRequest("key-delete"), noContent);
+
+    assertThat(chainCalls.get()).isEqualTo(1);
+    assertThat(second.getStatus()).isEqualTo(204);
+    assertThat(second.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+  }
+
+  @Test
+  @DisplayName("같은 키라도 사용자가 다르면 별도 요청으로 처리한다")
+  void sameKeyDifferentUser_executesSeparately() throws Exception {
+    authenticate(UUID.randomUUID());
+    perform(request("shared"), createdChain());
+
+    authenticate(UUID.randomUUID());
+    MockHttpServletResponse response = perform(request("shared"), createdChain());
+
+    assertThat(chainCalls.get()).isEqualTo(2);
+    assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+  }
+
+  @Test
+  @DisplayName("5xx 응답은 저장하지 않아 재시도 시 다시 실행된다")
+  void serverError_isNotStored() throws Exception {
+    authenticate(UUID.randomUUID());
+    FilterChain failing =
+        (req, res) -> {
+          chainCalls.incrementAndGet();
+          ((HttpServletResponse) res).setStatus(503);
+        };
+
+    perform(request("key-5xx"), failing);
+    perform(request("key-5xx"), failing);
+
+    assertThat(chainCalls.get()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("허용 길이를 넘는 키는 400 IDEMPOTENCY_KEY_INVALID")
+  void tooLongKey_returnsBadRequest() throws Exception {
+    authenticate(UUID.randomUUID());
+
+    MockHttpServletResponse response =
+        perform(request("k".repeat(properties.getMaxKeyLength() + 1)), createdChain());
+
+    assertThat(response.getStatus()).isEqualTo(400);
+    assertThat(response.getContentAsString()).contains("IDEMPOTENCY_KEY_INVALID");
+    assertThat(chainCalls.get()).isZero();
+  }
+
+  @Test
+  @DisplayName("헤더가 없거나 GET 요청이면 필터를 건너뛴다")
+  void withoutHeaderOrReadRequest_passesThrough() throws Exception {
+    authenticate(UUID.randomUUID());
+
+    MockHttpServletRequest noHeader = new MockHttpServletRequest("POST", RESERVATION_PATH);
+    MockHttpServletRequest get = request("key-get");
+    get.setMethod("GET");
+
+    perform(noHeader, createdChain());
+    perform(noHeader, createdChain());
+    perform(get, createdChain());
+    perform(get, createdChain());
+
+    assertThat(chainCalls.get()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("동시 중복 요청은 최초 요청 완료를 기다린 뒤 같은 응답을 받는다")
+  void concurrentDuplicate_waitsForInFlightRequest() throws Exception {
+    UUID userId = UUID.randomUUID();
+    CountDownLatch firstEntered = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    FilterChain slowChain =
+        (req, res) -> {
+          firstEntered.countDown();
+          try {
+            release.await(2, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          createdChain().doFilter(req, res);
+        };
+
+    CompletableFuture<MockHttpServletResponse> first =
+        CompletableFuture.supplyAsync(
+            () -> {
+              authenticate(userId);
+              return performUnchecked(request("key-concurrent"), slowChain);
+            });
+    assertThat(firstEntered.await(2, TimeUnit.SECONDS)).isTrue();
+
+    CompletableFuture<MockHttpServletResponse> second =
+        CompletableFuture.supplyAsync(
+            () -> {
+              authenticate(userId);
+              return performUnchecked(request("key-concurrent"), createdChain());
+            });
+    release.countDown();
+
+    MockHttpServletResponse secondResponse = second.get(5, TimeUnit.SECONDS);
+    MockHttpServletResponse firstResponse = first.get(5, TimeUnit.SECONDS);
+
+    assertThat(chainCalls.get()).isEqualTo(1);
+    assertThat(secondResponse.getStatus()).isEqualTo(201);
+    assertThat(secondResponse.getContentAsString()).isEqualTo(firstResponse.getContentAsString());
+  }
+
+  private FilterChain createdChain() {
+    return (req, res) -> {
+      int call = chainCalls.incrementAndGet();
+      HttpServletResponse http = (HttpServletResponse) res;
+      http.setStatus(201);
+      http.setHeader("Location", RESERVATION_PATH + "/" + call);
+      http.setContentType(MediaType.APPLICATION_JSON_VALUE);
+      http.getOutputStream().write(("{\"call\":" + call + "}").getBytes(StandardCharsets.UTF_8));
+    };
+  }
+
+  private MockHttpServletRequest request(String key) {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", RESERVATION_PATH);
+    request.addHeader(IdempotencyFilter.HEADER, key);
+    return request;
+  }
+
+  private MockHttpServletRequest deleteRequest(String key) {
+    MockHttpServletRequest request =
+        new MockHttpServletRequest(
+            "DELETE", RESERVATION_PATH + "/22222222-2222-2222-2222-222222222222");
+    request.addHeader(IdempotencyFilter.HEADER, key);
+    return request;
+  }
+
+  private MockHttpServletResponse perform(MockHttpServletRequest request, FilterChain chain)
+      throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, chain);
+    return response;
+  }
+
+  private MockHttpServletResponse performUnchecked(
+      MockHttpServletRequest request, FilterChain chain) {
+    try {
+      return perform(request, chain);
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private void authenticate(UUID userId) {
+    User user = new User();
+    user.setId(userId);
+    SecurityContextHolder.getContext()
+        .setAuthentication(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+  }
+}
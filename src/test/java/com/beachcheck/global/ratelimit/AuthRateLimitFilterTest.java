@@ -0,0 +1,115 @@
+package com.beachcheck.global.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("인증 엔드포인트 rate limit 필터 단위 테스트")
+class AuthRateLimitFilterTest {
+
+  private AuthRateLimitProperties properties;
+  private SimpleMeterRegistry meterRegistry;
+  private AuthRateLimitFilter filter;
+  private AtomicReference<String> forwardedBody;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    properties = new AuthRateLimitProperties();
+    properties.getIp().setCapacity(2);
+    properties.getIp().setRefillPeriod(Duration.ofMinutes(1));
+    properties.getEmail().setCapacity(1);
+    properties.getEmail().setRefillPeriod(Duration.ofMinutes(1));
+    meterRegistry = new SimpleMeterRegistry();
+    filter =
+        new AuthRateLimitFilter(
+            new AuthRateLimiter(properties, mock(ObjectProvider.class)),
+            properties,
+            new ObjectMapper(),
+            meterRegistry);
+    forwardedBody = new AtomicReference<>();
+  }
+
+  @Test
+  @DisplayName("IP 허용량 초과 시 429 + Retry-After")
+  void ipBucketExhausted_returns429WithRetryAfter() throws Exception {
+    perform(login("10.0.0.1", "a@example.com"));
+    perform(login("10.0.0.1", "b@example.com"));
+
+    MockHttpServletResponse response = perform(login("10.0.0.1", "c@example.com"));
+
+    assertThat(response.getStatus()).isEqualTo(429);
+    assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+    assertThat(response.getContentAsString()).contains("TOO_MANY_REQUESTS");
+    assertThat(rejectedCount("ip")).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("같은 이메일은 IP가 달라도 이메일 버킷으로 제한된다")
+  void sameEmailFromDifferentIps_isLimitedByEmail() throws Exception {
+    perform(login("10.0.0.1", "Victim@Example.com"));
+
+    MockHttpServletResponse response = perform(login("10.0.0.2", "victim@example.com"));
+
+    assertThat(response.getStatus()).isEqualTo(429);
+    assertThat(rejectedCount("email")).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("허용된 요청은 본문을 그대로 다음 필터로 전달한다")
+  void allowedRequest_forwardsOriginalBody() throws Exception {
+    MockHttpServletRequest request = login("10.0.0.1", "a@example.com");
+    String body = request.getContentAsString();
+
+    MockHttpServletResponse response = perform(request);
+
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(forwardedBody.get()).isEqualTo(body);
+  }
+
+  @Test
+  @DisplayName("대상 경로가 아니면 제한하지 않는다")
+  void otherPath_isNotLimited() throws Exception {
+    for (int i = 0; i < 5; i++) {
+      MockHttpServletRequest request = login("10.0.0.1", "a@example.com");
+      request.setRequestURI("/api/auth/refresh");
+      assertThat(perform(request).getStatus()).isEqualTo(200);
+    }
+  }
+
+  private double rejectedCount(String keyType) {
+    return meterRegistry.get("auth.rate_limit.rejected").tag("key_type", keyType).counter().count();
+  }
+
+  private MockHttpServletRequest login(String ip, String email) {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+    request.setRemoteAddr(ip);
+    request.setContentType("application/json");
+    request.setContent(
+        ("{\"email\":\"" + email + "\",\"password\":\"pw\"}").getBytes(StandardCharsets.UTF_8));
+    return request;
+  }
+
+  private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    FilterChain chain =
+        (req, res) ->
+            forwardedBody.set(
+                new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+    filter.doFilter(request, response, chain);
+    return response;
+  }
+}
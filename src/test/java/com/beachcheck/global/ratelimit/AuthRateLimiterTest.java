@@ -0,0 +1,64 @@
+package com.beachcheck.global.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+@DisplayName("인증 토큰 버킷 단위 테스트")
+class AuthRateLimiterTest {
+
+  private final AtomicLong nanos = new AtomicLong();
+  private AuthRateLimitProperties properties;
+  private AuthRateLimiter rateLimiter;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    properties = new AuthRateLimitProperties();
+    properties.getEmail().setCapacity(3);
+    properties.getEmail().setRefillPeriod(Duration.ofSeconds(30));
+    rateLimiter = new AuthRateLimiter(properties, mock(ObjectProvider.class), nanos::get);
+  }
+
+  @Test
+  @DisplayName("capacity만큼 허용한 뒤 거부하고, 토큰 1개가 찰 때까지의 대기 시간을 알려준다")
+  void burstBeyondCapacity_isRejectedWithWait() {
+    for (int i = 0; i < 3; i++) {
+      assertThat(rateLimiter.tryConsume("email:a@b.c", properties.getEmail())).isZero();
+    }
+
+    Duration wait = rateLimiter.tryConsume("email:a@b.c", properties.getEmail());
+
+    // 30초에 3개 충전 -> 토큰 1개당 10초
+    assertThat(wait).isEqualTo(Duration.ofSeconds(10));
+  }
+
+  @Test
+  @DisplayName("시간이 지나면 경과 시간에 비례해 토큰이 다시 찬다")
+  void tokensRefillOverTime() {
+    for (int i = 0; i < 3; i++) {
+      rateLimiter.tryConsume("email:a@b.c", properties.getEmail());
+    }
+
+    nanos.addAndGet(Duration.ofSeconds(10).toNanos());
+
+    assertThat(rateLimiter.tryConsume("email:a@b.c", properties.getEmail())).isZero();
+    assertThat(rateLimiter.tryConsume("email:a@b.c", properties.getEmail())).isPositive();
+  }
+
+  @Test
+  @DisplayName("서로 다른 키는 버킷을 공유하지 않는다")
+  void differentKeys_haveIndependentBuckets() {
+    for (int i = 0; i < 3; i++) {
+      rateLimiter.tryConsume("email:a@b.c", properties.getEmail());
+    }
+
+    assertThat(rateLimiter.tryConsume("email:other@b.c", properties.getEmail())).isZero();
+  }
+}
@@ -0,0 +1,125 @@
+package com.beachcheck.global.scheduling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("작업군별 스케줄러 풀 단위 테스트")
+class MonitoredTaskSchedulerTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private MonitoredTaskScheduler scheduler;
+
+  @AfterEach
+  void tearDown() {
+    if (scheduler != null) {
+      scheduler.shutdown();
+    }
+  }
+
+  @Test
+  @DisplayName("이름 있는 풀 스레드에서 실행하고 지연/실행 시간을 기록한다")
+  void schedule_runsOnNamedPoolAndRecordsTimers() throws Exception {
+    scheduler = new MonitoredTaskScheduler("outbox", 1, false, meterRegistry);
+    scheduler.initialize();
+    AtomicReference<String> threadName = new AtomicReference<>();
+    CountDownLatch done = new CountDownLatch(1);
+
+    scheduler.schedule(
+        () -> {
+          threadName.set(Thread.currentThread().getName());
+          done.countDown();
+        },
+        Instant.now());
+
+    assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(threadName.get()).startsWith("outbox-scheduler-");
+    awaitCount("scheduler.task.execution", 1);
+    assertThat(meterRegistry.get("scheduler.task.delay").tag("scheduler", "outbox").timer().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("다른 풀의 긴 작업이 실행 중이어도 이 풀의 작업은 지연되지 않는다")
+  void pools_areIsolated() throws Exception {
+    MonitoredTaskScheduler conditions =
+        new MonitoredTaskScheduler("conditions", 1, false, meterRegistry);
+    conditions.initialize();
+    scheduler = new MonitoredTaskScheduler("outbox", 1, false, meterRegistry);
+    scheduler.initialize();
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch outboxRan = new CountDownLatch(1);
+
+    try {
+      conditions.execute(() -> awaitQuietly(release));
+      scheduler.execute(outboxRan::countDown);
+
+      assertThat(outboxRan.await(2, TimeUnit.SECONDS)).isTrue();
+    } finally {
+      release.countDown();
+      conditions.shutdown();
+    }
+  }
+
+  @Test
+  @DisplayName("fixedRate 작업이 주기보다 오래 걸려도 같은 작업은 겹쳐 실행되지 않는다")
+  void scheduleAtFixedRate_neverOverlapsSameTask() throws Exception {
+    scheduler = new MonitoredTaskScheduler("outbox", 4, false, meterRegistry);
+    scheduler.initialize();
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    CountDownLatch runs = new CountDownLatch(3);
+
+    scheduler.scheduleAtFixedRate(
+        () -> {
+          maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+          sleepQuietly(Duration.ofMillis(30));
+          running.decrementAndGet();
+          runs.countDown();
+        },
+        Duration.ofMillis(5));
+
+    assertThat(runs.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(maxRunning.get()).isEqualTo(1);
+    // 주기(5ms)보다 긴 실행(30ms) 뒤의 실행은 늦게 시작하고, 그 지연이 기록된다.
+    Timer delay = meterRegistry.get("scheduler.task.delay").tag("scheduler", "outbox").timer();
+    assertThat(delay.max(TimeUnit.MILLISECONDS)).isGreaterThan(0.0);
+  }
+
+  private void awaitCount(String name, long expected) throws InterruptedException {
+    long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+    while (System.nanoTime() < deadline) {
+      if (meterRegistry.get(name).tag("scheduler", "outbox").timer().count() >= expected) {
+        return;
+      }
+      Thread.sleep(5);
+    }
+    throw new AssertionError(name + " did not reach " + expected);
+  }
+
+  private static void sleepQuietly(Duration duration) {
+    try {
+      Thread.sleep(duration.toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(2, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
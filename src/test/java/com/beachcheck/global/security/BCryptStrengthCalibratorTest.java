@@ -0,0 +1,42 @@
+package com.beachcheck.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BCrypt cost 보정 단위 테스트")
+class BCryptStrengthCalibratorTest {
+
+  // cost 10 = 64ms 기준으로 cost가 1 오를 때마다 2배가 되는 가상 측정값
+  private final BCryptStrengthCalibrator calibrator =
+      new BCryptStrengthCalibrator(strength -> Duration.ofMillis(64L << (strength - 10)));
+
+  @Test
+  @DisplayName("목표 지연 이하인 가장 높은 cost를 고른다")
+  void picksHighestStrengthWithinTarget() {
+    assertThat(calibrator.calibrate(calibration(Duration.ofMillis(300), 10, 14))).isEqualTo(12);
+  }
+
+  @Test
+  @DisplayName("최소 cost도 목표를 넘으면 최소 cost를 쓴다")
+  void fallsBackToMinimumStrength() {
+    assertThat(calibrator.calibrate(calibration(Duration.ofMillis(10), 10, 14))).isEqualTo(10);
+  }
+
+  @Test
+  @DisplayName("최대 cost를 넘지 않는다")
+  void capsAtMaximumStrength() {
+    assertThat(calibrator.calibrate(calibration(Duration.ofSeconds(10), 10, 12))).isEqualTo(12);
+  }
+
+  private static PasswordHashingProperties.Calibration calibration(
+      Duration target, int min, int max) {
+    PasswordHashingProperties.Calibration calibration = new PasswordHashingProperties.Calibration();
+    calibration.setTargetLatency(target);
+    calibration.setMinStrength(min);
+    calibration.setMaxStrength(max);
+    return calibration;
+  }
+}
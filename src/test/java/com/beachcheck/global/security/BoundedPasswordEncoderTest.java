@@ -0,0 +1,150 @@
+package com.beachcheck.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.beachcheck.global.exception.ApiException;
+import com.beachcheck.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@DisplayName("비밀번호 해싱 전용 풀 단위 테스트")
+class BoundedPasswordEncoderTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private BoundedPasswordEncoder encoder;
+
+  @AfterEach
+  void tearDown() {
+    if (encoder != null) {
+      encoder.destroy();
+    }
+  }
+
+  @Test
+  @DisplayName("전용 풀에서 해싱하고 결과는 위임 인코더와 호환된다")
+  void encodeAndMatches_delegateOnHashingPool() {
+    encoder =
+        new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), properties(1, 1), meterRegistry);
+
+    String hash = encoder.encode("password123!");
+
+    assertThat(encoder.matches("password123!", hash)).isTrue();
+    assertThat(encoder.matches("wrong", hash)).isFalse();
+    assertThat(new BCryptPasswordEncoder(4).matches("password123!", hash)).isTrue();
+  }
+
+  @Test
+  @DisplayName("풀과 큐가 가득 차면 기다리지 않고 SERVICE_BUSY로 거절한다")
+  void saturatedPool_rejectsImmediately() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    encoder =
+        new BoundedPasswordEncoder(blocking(started, release), properties(1, 1), meterRegistry);
+
+    CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+    assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+    CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+    awaitQueueSize(1);
+
+    assertThatThrownBy(() -> encoder.encode("c"))
+        .isInstanceOf(ApiException.class)
+        .extracting(e -> ((ApiException) e).getErrorCode())
+        .isEqualTo(ErrorCode.SERVICE_BUSY);
+    assertThat(meterRegistry.counter("auth.password_hashing.rejected").count()).isEqualTo(1.0);
+
+    release.countDown();
+    assertThat(running.get(2, TimeUnit.SECONDS)).isEqualTo("hashed");
+    assertThat(queued.get(2, TimeUnit.SECONDS)).isEqualTo("hashed");
+  }
+
+  @Test
+  @DisplayName("maxWait 안에 끝나지 않으면 작업을 취소하고 SERVICE_BUSY로 응답한다")
+  void slowHashing_timesOut() {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    PasswordHashingProperties properties = properties(1, 1);
+    properties.setMaxWait(Duration.ofMillis(50));
+    encoder = new BoundedPasswordEncoder(blocking(started, release), properties, meterRegistry);
+
+    assertThatThrownBy(() -> encoder.encode("a"))
+        .isInstanceOf(ApiException.class)
+        .extracting(e -> ((ApiException) e).getErrorCode())
+        .isEqualTo(ErrorCode.SERVICE_BUSY);
+    release.countDown();
+  }
+
+  @Test
+  @DisplayName("대기열 크기는 executor 메트릭으로 노출된다")
+  void registersExecutorMetrics() {
+    encoder =
+        new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), properties(2, 8), meterRegistry);
+
+    assertThat(
+            meterRegistry
+                .find("executor.queued")
+                .tag("name", BoundedPasswordEncoder.EXECUTOR_NAME)
+                .gauge())
+        .isNotNull();
+    assertThat(
+            meterRegistry
+                .find("executor.pool.max")
+                .tag("name", BoundedPasswordEncoder.EXECUTOR_NAME)
+                .gauge()
+                .value())
+        .isEqualTo(2.0);
+  }
+
+  private void awaitQueueSize(int expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+    while (System.nanoTime() < deadline) {
+      double queued =
+          meterRegistry
+              .get("executor.queued")
+              .tag("name", BoundedPasswordEncoder.EXECUTOR_NAME)
+              .gauge()
+              .value();
+      if (queued >= expected) {
+        return;
+      }
+      Thread.sleep(5);
+    }
+    throw new AssertionError("queue did not reach " + expected);
+  }
+
+  private static PasswordHashingProperties properties(int poolSize, int queueCapacity) {
+    PasswordHashingProperties properties = new PasswordHashingProperties();
+    properties.setPoolSize(poolSize);
+    properties.setQueueCapacity(queueCapacity);
+    properties.setMaxWait(Duration.ofSeconds(2));
+    return properties;
+  }
+
+  private static PasswordEncoder blocking(CountDownLatch started, CountDownLatch release) {
+    return new PasswordEncoder() {
+      @Override
+      public String encode(CharSequence rawPassword) {
+        started.countDown();
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return "hashed";
+      }
+
+      @Override
+      public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return false;
+      }
+    };
+  }
+}
@@ -69,4 +69,60 @@ class JwtUtilsTest {
     assertThat(jwtUtils.validateToken(legacyToken)).isTrue();
     assertThat(jwtUtils.isAccessToken(legacyToken)).isTrue();
   }
+
+  @Test
+  @DisplayName("verify는 한 번의 검증으로 사용자/권한/만료 클레임을 모두 돌려준다")
+  void verify_accessToken_returnsParsedClaims() {
+    String accessToken = jwtUtils.generateAccessToken(user);
+
+    VerifiedToken verified = jwtUtils.verify(accessToken).orElseThrow();
+
+    assertThat(verified.userId()).isEqualTo(user.getId());
+    assertThat(verified.email()).isEqualTo(user.getEmail());
+    assertThat(verified.role()).isEqualTo(user.getRole().name());
+    assertThat(verified.isAccessToken()).isTrue();
+    assertThat(verified.toPrincipal().getAuthorities()).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("같은 토큰의 재검증은 캐시된 결과를 재사용한다")
+  void verify_sameToken_reusesCachedResult() {
+    String accessToken = jwtUtils.generateAccessToken(user);
+
+    VerifiedToken first = jwtUtils.verify(accessToken).orElseThrow();
+    VerifiedToken second = jwtUtils.verify(accessToken).orElseThrow();
+
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  @DisplayName("서명이 변조된 토큰은 검증에 실패한다")
+  void verify_tamperedToken_returnsEmpty() {
+    String accessToken = jwtUtils.generateAccessToken(user);
+    int signatureStart = accessToken.lastIndexOf('.') + 1;
+    char replaced = accessToken.charAt(signatureStart) == 'A' ? 'B' : 'A';
+    String tampered =
+        accessToken.substring(0, signatureStart)
+            + replaced
+            + accessToken.substring(signatureStart + 1);
+
+    assertThat(jwtUtils.verify(tampered)).isEmpty();
+    assertThat(jwtUtils.validateToken(tampered)).isFalse();
+  }
+
+  @Test
+  @DisplayName("만료된 토큰은 검증에 실패한다")
+  void verify_expiredToken_returnsEmpty() {
+    Date past = new Date(System.currentTimeMillis() - 60_000L);
+    String expiredToken =
+        Jwts.builder()
+            .subject(user.getId().toString())
+            .claim("type", "access")
+            .issuedAt(new Date(past.getTime() - 60_000L))
+            .expiration(past)
+            .signWith(Keys.hmacShaKeyFor(TEST_JWT_SIGNING_KEY.getBytes(StandardCharsets.UTF_8)))
+            .compact();
+
+    assertThat(jwtUtils.verify(expiredToken)).isEmpty();
+  }
 }
@@ -0,0 +1,125 @@
+package com.beachcheck.global.security;
+
+import static com.beachcheck.support.fixture.UserTestFixtures.createUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import com.beachcheck.global.cache.TwoLevelCache;
+import com.beachcheck.global.cache.TwoLevelCacheManager;
+import com.beachcheck.user.domain.User;
+import com.beachcheck.user.domain.UserChangedEvent;
+import com.beachcheck.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("인증 principal 캐시 단위 테스트")
+class PrincipalCacheTest {
+
+  @Mock UserRepository userRepository;
+
+  private PrincipalCacheProperties properties;
+  private TwoLevelCache cache;
+  private PrincipalCache principalCache;
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    properties = new PrincipalCacheProperties();
+    cache =
+        new TwoLevelCache(
+            PrincipalCache.CACHE_NAME,
+            Caffeine.newBuilder().recordStats(),
+            null,
+            null,
+            TypeFactory.defaultInstance().constructType(PrincipalSnapshot.class),
+            Duration.ofMinutes(5),
+            true);
+    principalCache =
+        new PrincipalCache(
+            userRepository, properties, new TwoLevelCacheManager(List.of(cache), "local"));
+    user = createUser("principal@example.com", "Principal");
+  }
+
+  @Test
+  @DisplayName("같은 사용자의 반복 조회는 DB를 한 번만 조회한다")
+  void find_repeated_hitsDatabaseOnce() {
+    given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
+
+    assertThat(principalCache.find(user.getId())).map(User::getId).contains(user.getId());
+    assertThat(principalCache.find(user.getId())).map(User::getId).contains(user.getId());
+
+    then(userRepository).should(times(1)).findById(user.getId());
+    assertThat(cache.getNativeCache().stats().hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("캐시는 비밀번호 해시 없는 스냅샷을 두고 조회마다 새 User를 돌려준다")
+  void find_returnsFreshUserWithoutPassword() {
+    given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
+
+    User first = principalCache.find(user.getId()).orElseThrow();
+    User second = principalCache.find(user.getId()).orElseThrow();
+
+    assertThat(first).isNotSameAs(second).isNotSameAs(user);
+    assertThat(first.getPassword()).isNull();
+    assertThat(first.getEmail()).isEqualTo(user.getEmail());
+    assertThat(cache.getNativeCache().getIfPresent(user.getId().toString()))
+        .isEqualTo(PrincipalSnapshot.from(user));
+  }
+
+  @Test
+  @DisplayName("존재하지 않는 사용자는 캐시하지 않는다")
+  void find_missingUser_isNotCached() {
+    UUID missingId = UUID.randomUUID();
+    given(userRepository.findById(missingId)).willReturn(Optional.empty());
+
+    assertThat(principalCache.find(missingId)).isEmpty();
+    assertThat(principalCache.find(missingId)).isEmpty();
+
+    then(userRepository).should(times(2)).findById(missingId);
+  }
+
+  @Test
+  @DisplayName("UserChangedEvent 수신 시 캐시에서 제거되어 다음 조회는 DB 값을 읽는다")
+  void onUserChanged_evictsEntry() {
+    User updated = createUser("principal@example.com", "Principal");
+    updated.setId(user.getId());
+    updated.setRole(User.Role.ADMIN);
+    given(userRepository.findById(user.getId()))
+        .willReturn(Optional.of(user))
+        .willReturn(Optional.of(updated));
+
+    principalCache.find(user.getId());
+    principalCache.onUserChanged(new UserChangedEvent(user.getId()));
+
+    assertThat(principalCache.find(user.getId()))
+        .get()
+        .extracting(User::getRole)
+        .isEqualTo(User.Role.ADMIN);
+  }
+
+  @Test
+  @DisplayName("enabled=false면 매번 DB를 조회한다")
+  void find_disabled_bypassesCache() {
+    properties.setEnabled(false);
+    given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
+
+    principalCache.find(user.getId());
+    principalCache.find(user.getId());
+
+    then(userRepository).should(times(2)).findById(user.getId());
+  }
+}
@@ -0,0 +1,78 @@
+package com.beachcheck.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+@DisplayName("본문 보관 요청 래퍼 단위 테스트")
+class CachedBodyRequestTest {
+
+  @Test
+  @DisplayName("한도 이내 본문은 body()로 돌려주고 다시 읽을 수 있다")
+  void wrap_withinLimit_keepsBodyReadable() throws IOException {
+    CachedBodyRequest request = CachedBodyRequest.wrap(requestWith("{\"a\":1}"), 64);
+
+    assertThat(request.body()).asString(StandardCharsets.UTF_8).isEqualTo("{\"a\":1}");
+    assertThat(request.getInputStream().readAllBytes())
+        .asString(StandardCharsets.UTF_8)
+        .isEqualTo("{\"a\":1}");
+  }
+
+  @Test
+  @DisplayName("한도를 넘는 본문은 body()가 비지만 스트림으로는 전체를 읽는다")
+  void wrap_overLimit_streamsRemainder() throws IOException {
+    CachedBodyRequest request = CachedBodyRequest.wrap(requestWith("0123456789"), 4);
+
+    assertThat(request.body()).isEmpty();
+    assertThat(request.head()).hasSize(5);
+    assertThat(request.getInputStream().readAllBytes())
+        .asString(StandardCharsets.UTF_8)
+        .isEqualTo("0123456789");
+  }
+
+  @Test
+  @DisplayName("ReadListener를 등록하면 즉시 onDataAvailable → onAllDataRead 순으로 호출된다")
+  void setReadListener_notifiesImmediately() throws IOException {
+    CachedBodyRequest request = CachedBodyRequest.wrap(requestWith("payload"), 64);
+    ServletInputStream in = request.getInputStream();
+    List<String> events = new ArrayList<>();
+    ByteArrayOutputStream read = new ByteArrayOutputStream();
+
+    in.setReadListener(
+        new ReadListener() {
+          @Override
+          public void onDataAvailable() throws IOException {
+            events.add("data");
+            read.write(in.readAllBytes());
+          }
+
+          @Override
+          public void onAllDataRead() {
+            events.add("done");
+          }
+
+          @Override
+          public void onError(Throwable t) {
+            events.add("error");
+          }
+        });
+
+    assertThat(events).containsExactly("data", "done");
+    assertThat(read.toString(StandardCharsets.UTF_8)).isEqualTo("payload");
+  }
+
+  private static MockHttpServletRequest requestWith(String body) {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+    request.setContent(body.getBytes(StandardCharsets.UTF_8));
+    return request;
+  }
+}
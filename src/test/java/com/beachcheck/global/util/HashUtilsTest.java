@@ -10,6 +10,8 @@ class HashUtilsTest {
 
   private static final String ABC_SHA256_HEX =
       "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+  private static final String FOX_HMAC_SHA256_HEX =
+      "f7bc83f430538424b13298e6aa6fb143ef4d59a14946175997479dbc2d1a3cd8";
 
   @Test
   @DisplayName("고정 입력 abc의 SHA-256 결과가 표준 벡터와 일치한다")
@@ -36,4 +38,12 @@ class HashUtilsTest {
 
     assertThat(first).isNotEqualTo(second);
   }
+
+  @Test
+  @DisplayName("HMAC-SHA256 결과가 표준 벡터와 일치한다")
+  void hmacSha256Hex_matchesKnownVector() {
+    String mac = HashUtils.hmacSha256Hex("key", "The quick brown fox jumps over the lazy dog");
+
+    assertThat(mac).isEqualTo(FOX_HMAC_SHA256_HEX);
+  }
 }
@@ -12,6 +12,7 @@ import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 
+import com.beachcheck.global.concurrency.ConcurrencyLimiter;
 import com.beachcheck.notification.domain.Notification;
 import com.beachcheck.notification.repository.NotificationRepository;
 import com.beachcheck.outbox.domain.OutboxEvent;
@@ -20,6 +21,8 @@ import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.MessagingErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
@@ -55,7 +58,11 @@ class OutboxEventDispatcherTest {
   @BeforeEach
   void setUp() {
     dispatcher =
-        new OutboxEventDispatcher(outboxEventRepository, notificationRepository, firebaseMessaging);
+        new OutboxEventDispatcher(
+            outboxEventRepository,
+            notificationRepository,
+            firebaseMessaging,
+            new ConcurrencyLimiter("fcm", 1, Duration.ofSeconds(1), new SimpleMeterRegistry()));
   }
 
   @Nested
@@ -223,6 +230,33 @@ class OutboxEventDispatcherTest {
       then(outboxEventRepository).should().save(event);
     }
 
+    @Test
+    @DisplayName("TC9 - FCM 동시 실행 제한 초과 시 예외 없이 재시도 횟수 유지한 채 다음 시도로 미룸")
+    void shouldDeferWithoutConsumingRetry_whenFcmLimiterRejects() throws Exception {
+      // Given
+      UUID notificationId = UUID.randomUUID();
+      Notification notification = createNotification(notificationId, NotificationStatus.PENDING);
+      OutboxEvent event = createPendingEvent(notificationId);
+      ConcurrencyLimiter saturated =
+          new ConcurrencyLimiter("fcm", 0, Duration.ZERO, new SimpleMeterRegistry());
+      OutboxEventDispatcher busyDispatcher =
+          new OutboxEventDispatcher(
+              outboxEventRepository, notificationRepository, firebaseMessaging, saturated);
+      given(notificationRepository.findById(notificationId)).willReturn(Optional.of(notification));
+      Instant before = Instant.now();
+
+      // When
+      busyDispatcher.dispatch(event);
+
+      // Then
+      assertThat(event.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+      assertThat(event.getRetryCount()).isZero();
+      assertThat(event.getNextRetryAt()).isAfter(before);
+      assertThat(notification.getStatus()).isEqualTo(NotificationStatus.PENDING);
+      then(firebaseMessaging).should(never()).send(any(Message.class));
+      then(outboxEventRepository).should().save(event);
+    }
+
     @Test
     @DisplayName("TC8 - INVALID_ARGUMENT 에러 코드는 retryCount 무관 즉시 FAILED_PERMANENT")
     void shouldMarkAsFailedPermanent_whenFcmErrorIsInvalidArgument()
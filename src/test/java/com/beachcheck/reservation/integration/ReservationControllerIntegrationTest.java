@@ -9,11 +9,14 @@ import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.beachcheck.beach.domain.Beach;
 import com.beachcheck.beach.repository.BeachRepository;
+import com.beachcheck.reservation.domain.Reservation;
+import com.beachcheck.reservation.controller.ReservationController;
 import com.beachcheck.reservation.repository.ReservationRepository;
 import com.beachcheck.support.base.ApiTest;
 import com.beachcheck.support.fixture.ApiErrorTestFixtures;
@@ -288,6 +291,64 @@ class ReservationControllerIntegrationTest extends ApiTest {
         .andExpect(jsonPath("$[0].createdAtUtc").isNotEmpty());
   }
 
+  @Test
+  @DisplayName("P0-28: 내 예약 목록 커서 페이지 - 최신순, X-Next-Cursor로 다음 페이지 조회")
+  void getMyReservations_cursorPagination_walksAllPages() throws Exception {
+    for (int hours = 1; hours <= 3; hours++) {
+      ReservationTestFixtures.createReservationAndGetIdSuccess(
+          mockMvc,
+          objectMapper,
+          authHeader(user),
+          beach.getId(),
+          ReservationTestFixtures.futureReservedAtUtc(FIXED_NOW, hours),
+          null);
+    }
+
+    var firstPage =
+        mockMvc
+            .perform(
+                get(ApiRoutes.MY_RESERVATIONS)
+                    .param("size", "2")
+                    .header("Authorization", authHeader(user)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(
+                jsonPath("$[0].reservedAtUtc")
+                    .value(ReservationTestFixtures.futureReservedAtUtc(FIXED_NOW, 3)))
+            .andExpect(header().exists(ReservationController.NEXT_CURSOR_HEADER))
+            .andReturn();
+
+    String nextCursor =
+        firstPage.getResponse().getHeader(ReservationController.NEXT_CURSOR_HEADER);
+
+    mockMvc
+        .perform(
+            get(ApiRoutes.MY_RESERVATIONS)
+                .param("size", "2")
+                .param("cursor", nextCursor)
+                .header("Authorization", authHeader(user)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(1))
+        .andExpect(
+            jsonPath("$[0].reservedAtUtc")
+                .value(ReservationTestFixtures.futureReservedAtUtc(FIXED_NOW, 1)))
+        .andExpect(header().doesNotExist(ReservationController.NEXT_CURSOR_HEADER));
+  }
+
+  @Test
+  @DisplayName("P0-29: 내 예약 목록 - 잘못된 커서 400 INVALID_REQUEST")
+  void getMyReservations_invalidCursor_returnsBadRequest() throws Exception {
+    mockMvc
+        .perform(
+            get(ApiRoutes.MY_RESERVATIONS)
+                .param("cursor", "not-a-cursor")
+                .header("Authorization", authHeader(user)))
+        .andExpect(status().isBadRequest())
+        .andExpect(
+            ApiErrorTestFixtures.problemDetail(
+                objectMapper, 400, "Invalid request", "INVALID_REQUEST"));
+  }
+
   @Test
   @DisplayName("P0-15: eventId 길이 초과 400")
   void createReservation_eventIdTooLong_returnsBadRequest() throws Exception {
@@ -328,7 +389,7 @@ class ReservationControllerIntegrationTest extends ApiTest {
     performCreateReservation(authHeader(user), beach.getId(), requestBody)
         .andExpect(status().isCreated());
 
-    var reservations = reservationRepository.findByUserId(user.getId());
+    var reservations = reservationsOf(user.getId());
     assertThat(reservations).hasSize(1);
     assertThat(reservations.get(0).getBeach().getId()).isEqualTo(beach.getId());
     assertThat(reservations.get(0).getReservedAt()).isEqualTo(Instant.parse(reservedAtUtc));
@@ -457,7 +518,7 @@ class ReservationControllerIntegrationTest extends ApiTest {
         .andExpect(status().isCreated());
 
     String reservationId =
-        reservationRepository.findByUserId(user.getId()).get(0).getId().toString();
+        reservationsOf(user.getId()).get(0).getId().toString();
 
     mockMvc
         .perform(
@@ -503,7 +564,7 @@ class ReservationControllerIntegrationTest extends ApiTest {
     performCreateReservation(authHeader(user), beach.getId(), requestBody)
         .andExpect(status().isCreated());
 
-    var reservations = reservationRepository.findByUserId(user.getId());
+    var reservations = reservationsOf(user.getId());
     assertThat(reservations).hasSize(1);
     assertThat(reservations.get(0).getEventId()).isNull();
   }
@@ -594,11 +655,11 @@ class ReservationControllerIntegrationTest extends ApiTest {
       assertThat(conflictCount.get()).isEqualTo(threadCount - 1);
       assertThat(unexpectedCount.get()).isZero();
 
-      var reservations = reservationRepository.findByUserId(localUser.getId());
+      var reservations = reservationsOf(localUser.getId());
       assertThat(reservations).hasSize(1);
       assertThat(reservations.get(0).getReservedAt()).isEqualTo(Instant.parse(reservedAtUtc));
     } finally {
-      reservationRepository.deleteAll(reservationRepository.findByUserId(localUser.getId()));
+      reservationRepository.deleteAll(reservationsOf(localUser.getId()));
       userRepository.deleteById(localUser.getId());
       userRepository.deleteById(localOtherUser.getId());
       beachRepository.deleteById(localBeach.getId());
@@ -620,4 +681,10 @@ class ReservationControllerIntegrationTest extends ApiTest {
     }
     return mockMvc.perform(requestBuilder);
   }
+
+  private List<Reservation> reservationsOf(UUID userId) {
+    return reservationRepository.findAll().stream()
+        .filter(reservation -> reservation.getUser().getId().equals(userId))
+        .toList();
+  }
 }
@@ -0,0 +1,177 @@
+package com.beachcheck.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+
+import com.beachcheck.beach.service.BeachRegistry;
+import com.beachcheck.global.exception.ApiException;
+import com.beachcheck.global.exception.ErrorCode;
+import com.beachcheck.reservation.dto.ReservationExportFormat;
+import com.beachcheck.reservation.dto.ReservationExportRow;
+import com.beachcheck.reservation.repository.ReservationExportRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationExportServiceTest {
+
+  private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+  private static final LocalDate DATE = LocalDate.parse("2026-07-01");
+
+  @Mock ReservationExportRepository reservationExportRepository;
+  @Mock BeachRegistry beachRegistry;
+
+  ReservationExportService reservationExportService;
+
+  private final UUID beachId = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    ObjectMapper objectMapper =
+        new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    reservationExportService =
+        new ReservationExportService(reservationExportRepository, beachRegistry, objectMapper);
+  }
+
+  @Test
+  @DisplayName("CSV - 헤더 + 행, 쉼표/따옴표가 있는 값은 RFC 4180으로 이스케이프")
+  void export_csv_writesHeaderAndEscapedRows() throws Exception {
+    ReservationExportRow row = row("Kim, \"Surfer\"", null);
+    givenRows(List.of(row));
+
+    String csv = exportToString(ReservationExportFormat.CSV, false);
+
+    assertThat(csv.split("\n"))
+        .containsExactly(
+            "reservation_id,user_id,user_name,reserved_at,status,event_id,created_at",
+            row.reservationId()
+                + ","
+                + row.userId()
+                + ",\"Kim, \"\"Surfer\"\"\","
+                + row.reservedAt()
+                + ",CONFIRMED,,"
+                + row.createdAt());
+  }
+
+  @Test
+  @DisplayName("CSV - 수식으로 시작하는 값은 작은따옴표를 붙여 텍스트로 내보낸다")
+  void escapeCsv_formulaPrefix_isNeutralized() {
+    assertThat(ReservationExportService.escapeCsv("=HYPERLINK(\"x\")"))
+        .isEqualTo("\"'=HYPERLINK(\"\"x\"\")\"");
+    assertThat(ReservationExportService.escapeCsv("+1")).isEqualTo("'+1");
+    assertThat(ReservationExportService.escapeCsv("-2")).isEqualTo("'-2");
+    assertThat(ReservationExportService.escapeCsv("@SUM(A1)")).isEqualTo("'@SUM(A1)");
+    assertThat(ReservationExportService.escapeCsv("\tcmd")).isEqualTo("'\tcmd");
+    assertThat(ReservationExportService.escapeCsv("\rcmd")).isEqualTo("\"'\rcmd\"");
+    assertThat(ReservationExportService.escapeCsv("Kim")).isEqualTo("Kim");
+  }
+
+  @Test
+  @DisplayName("NDJSON - 행마다 JSON 객체 한 줄")
+  void export_ndjson_writesOneObjectPerLine() throws Exception {
+    givenRows(List.of(row("A", "EVENT-1"), row("B", null)));
+
+    String ndjson = exportToString(ReservationExportFormat.NDJSON, false);
+
+    String[] lines = ndjson.split("\n");
+    assertThat(lines).hasSize(2);
+    assertThat(lines[0]).startsWith("{").contains("\"userName\":\"A\"", "\"eventId\":\"EVENT-1\"");
+    assertThat(lines[1]).contains("\"reservedAt\":\"2026-07-01T01:00:00Z\"");
+  }
+
+  @Test
+  @DisplayName("gzip=true - 압축 해제 시 동일한 본문")
+  void export_gzip_producesValidGzipStream() throws Exception {
+    givenRows(List.of(row("A", null)));
+
+    String plain = exportToString(ReservationExportFormat.CSV, false);
+    ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+    reservationExportService.export(
+        beachId, DATE, SEOUL, ReservationExportFormat.CSV, true, gzipped);
+
+    try (GZIPInputStream in =
+        new GZIPInputStream(new ByteArrayInputStream(gzipped.toByteArray()))) {
+      assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(plain);
+    }
+  }
+
+  @Test
+  @DisplayName("조회 구간은 zone 기준 하루 [자정, 다음 날 자정)")
+  void export_queriesLocalDayWindow() throws Exception {
+    givenRows(List.of());
+
+    exportToString(ReservationExportFormat.CSV, false);
+
+    then(reservationExportRepository)
+        .should()
+        .streamByBeachAndPeriod(
+            eq(beachId),
+            eq(Instant.parse("2026-06-30T15:00:00Z")),
+            eq(Instant.parse("2026-07-01T15:00:00Z")),
+            any());
+  }
+
+  @Test
+  @DisplayName("해변 없음 - BEACH_NOT_FOUND")
+  void assertBeachExists_missingBeach_throwsNotFound() {
+    given(beachRegistry.exists(beachId)).willReturn(false);
+
+    ApiException ex =
+        catchThrowableOfType(
+            () -> reservationExportService.assertBeachExists(beachId), ApiException.class);
+
+    assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.BEACH_NOT_FOUND);
+  }
+
+  private String exportToString(ReservationExportFormat format, boolean gzip) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    reservationExportService.export(beachId, DATE, SEOUL, format, gzip, out);
+    return out.toString(StandardCharsets.UTF_8);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void givenRows(List<ReservationExportRow> rows) {
+    willAnswer(
+            invocation -> {
+              Consumer<ReservationExportRow> consumer = invocation.getArgument(3);
+              rows.forEach(consumer);
+              return null;
+            })
+        .given(reservationExportRepository)
+        .streamByBeachAndPeriod(eq(beachId), any(), any(), any(Consumer.class));
+  }
+
+  private ReservationExportRow row(String userName, String eventId) {
+    return new ReservationExportRow(
+        UUID.randomUUID(),
+        UUID.randomUUID(),
+        userName,
+        Instant.parse("2026-07-01T01:00:00Z"),
+        "CONFIRMED",
+        eventId,
+        Instant.parse("2026-06-20T00:00:00Z"));
+  }
+}
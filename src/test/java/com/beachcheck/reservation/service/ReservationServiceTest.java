@@ -3,40 +3,41 @@ package com.beachcheck.reservation.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.Mockito.never;
 
-import com.beachcheck.beach.domain.Beach;
-import com.beachcheck.beach.repository.BeachRepository;
+import com.beachcheck.global.db.DBConstraints;
 import com.beachcheck.global.exception.ApiException;
 import com.beachcheck.global.exception.ErrorCode;
 import com.beachcheck.reservation.domain.Reservation;
 import com.beachcheck.reservation.domain.ReservationStatus;
 import com.beachcheck.reservation.dto.ReservationCreateRequest;
+import com.beachcheck.reservation.dto.ReservationCursor;
+import com.beachcheck.reservation.dto.ReservationHistoryRow;
 import com.beachcheck.reservation.repository.ReservationRepository;
-import com.beachcheck.user.domain.User;
-import com.beachcheck.user.repository.UserRepository;
+import java.sql.SQLException;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
 @ExtendWith(MockitoExtension.class)
 class ReservationServiceTest {
 
   @Mock ReservationRepository reservationRepository;
-  @Mock BeachRepository beachRepository;
-  @Mock UserRepository userRepository;
   Clock clock;
 
   ReservationService reservationService;
@@ -44,8 +45,7 @@ class ReservationServiceTest {
   @BeforeEach
   void setUp() {
     clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
-    reservationService =
-        new ReservationService(reservationRepository, beachRepository, userRepository, clock);
+    reservationService = new ReservationService(reservationRepository, clock);
   }
 
   @Test
@@ -54,11 +54,10 @@ class ReservationServiceTest {
     // Given
     UUID userId = UUID.randomUUID();
     UUID beachId = UUID.randomUUID();
+    UUID reservationId = UUID.randomUUID();
 
     Instant reservedAt = Instant.parse("2025-01-01T01:00:00Z");
-    givenUserAndBeach(userId, beachId);
-    givenNoDuplicate(userId, beachId, reservedAt);
-    stubSaveReservation();
+    givenInserted(reservationId);
 
     ReservationCreateRequest req = req("2025-01-01T01:00:00Z", "  EVENT-1  ");
 
@@ -66,15 +65,22 @@ class ReservationServiceTest {
     var response = reservationService.createReservation(userId, beachId, req);
 
     // Then
+    assertThat(response.reservationId()).isEqualTo(reservationId);
     assertThat(response.status()).isEqualTo(ReservationStatus.CONFIRMED.name());
     assertThat(response.eventId()).isEqualTo("EVENT-1");
     assertThat(response.reservedAtUtc()).isEqualTo(reservedAt);
     assertThat(response.beachId()).isEqualTo(beachId);
-
-    ArgumentCaptor<Reservation> captor = ArgumentCaptor.forClass(Reservation.class);
-    then(reservationRepository).should().save(captor.capture());
-    assertThat(captor.getValue().getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
-    assertThat(captor.getValue().getReservedAt()).isEqualTo(reservedAt);
+    assertThat(response.createdAtUtc()).isEqualTo(Instant.now(clock));
+
+    then(reservationRepository)
+        .should()
+        .insertIfAbsent(
+            eq(userId),
+            eq(beachId),
+            eq(reservedAt),
+            eq("EVENT-1"),
+            eq(ReservationStatus.CONFIRMED.name()),
+            eq(Instant.now(clock)));
   }
 
   @Test
@@ -88,6 +94,7 @@ class ReservationServiceTest {
             ApiException.class);
 
     assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.RESERVATION_PAST_TIME);
+    then(reservationRepository).shouldHaveNoInteractions();
   }
 
   @Test
@@ -104,12 +111,11 @@ class ReservationServiceTest {
   }
 
   @Test
-  @DisplayName("예약 생성 실패 - 중복 예약")
+  @DisplayName("예약 생성 실패 - 중복 예약 (ON CONFLICT DO NOTHING)")
   void createReservation_duplicate() {
     UUID userId = UUID.randomUUID();
     UUID beachId = UUID.randomUUID();
 
-    givenBeach(beachId);
     givenDuplicate();
 
     ReservationCreateRequest req = req("2025-01-01T01:00:00Z", null);
@@ -119,16 +125,16 @@ class ReservationServiceTest {
             () -> reservationService.createReservation(userId, beachId, req), ApiException.class);
 
     assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.RESERVATION_DUPLICATE);
-    then(reservationRepository).should(never()).save(any());
+    assertThat(ex.getDetails()).containsEntry("reservedAtUtc", "2025-01-01T01:00:00Z");
   }
 
   @Test
-  @DisplayName("예약 생성 실패 - 해변 없음")
+  @DisplayName("예약 생성 실패 - 해변 없음 (FK 위반)")
   void createReservation_beachNotFound() {
     UUID userId = UUID.randomUUID();
     UUID beachId = UUID.randomUUID();
 
-    givenBeachNotFound(beachId);
+    givenForeignKeyViolation(DBConstraints.FK_RESERVATION_BEACH);
 
     ReservationCreateRequest req = req("2025-01-01T01:00:00Z", null);
 
@@ -137,25 +143,20 @@ class ReservationServiceTest {
             () -> reservationService.createReservation(userId, beachId, req), ApiException.class);
 
     assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.BEACH_NOT_FOUND);
-    then(reservationRepository).should(never()).save(any());
-    then(userRepository).should(never()).findById(any());
+    assertThat(ex.getDetails()).containsEntry("beachId", beachId.toString());
   }
 
   @Test
-  @DisplayName("예약 생성 실패 - 유저 없음")
+  @DisplayName("예약 생성 실패 - 유저 없음 (FK 위반)")
   void createReservation_userNotFound() {
     /**
      * Why: 해변은 존재하지만 유저가 없는 경우의 예외 흐름을 명확히 보장. Policy: 유저 미존재는 EntityNotFoundException으로 처리된다.
-     * Contract(Input): 유효한 beachId, 존재하지 않는 userId. Contract(Output): EntityNotFoundException 발생,
-     * 저장 없음.
+     * Contract(Input): 유효한 beachId, 존재하지 않는 userId. Contract(Output): EntityNotFoundException 발생.
      */
     UUID userId = UUID.randomUUID();
     UUID beachId = UUID.randomUUID();
 
-    givenBeach(beachId);
-    given(reservationRepository.existsByUserIdAndBeachIdAndReservedAt(any(), any(), any()))
-        .willReturn(false);
-    given(userRepository.findById(userId)).willReturn(Optional.empty());
+    givenForeignKeyViolation(DBConstraints.FK_RESERVATION_USER);
 
     ReservationCreateRequest req = req("2025-01-01T01:00:00Z", null);
 
@@ -165,7 +166,21 @@ class ReservationServiceTest {
             jakarta.persistence.EntityNotFoundException.class);
 
     assertThat(ex.getMessage()).isEqualTo("User not found");
-    then(reservationRepository).should(never()).save(any());
+  }
+
+  @Test
+  @DisplayName("예약 생성 실패 - 알 수 없는 제약 위반은 그대로 전파")
+  void createReservation_unknownConstraint_propagates() {
+    givenForeignKeyViolation("chk_reservation_status");
+
+    ReservationCreateRequest req = req("2025-01-01T01:00:00Z", null);
+
+    var ex =
+        catchThrowableOfType(
+            () -> reservationService.createReservation(UUID.randomUUID(), UUID.randomUUID(), req),
+            DataIntegrityViolationException.class);
+
+    assertThat(ex).isNotNull();
   }
 
   @Test
@@ -178,17 +193,16 @@ class ReservationServiceTest {
     UUID userId = UUID.randomUUID();
     UUID beachId = UUID.randomUUID();
 
-    Instant reservedAt = Instant.parse("2025-01-01T01:00:00Z");
-
-    givenUserAndBeach(userId, beachId);
-    givenNoDuplicate(userId, beachId, reservedAt);
-    stubSaveReservation();
+    givenInserted(UUID.randomUUID());
 
     ReservationCreateRequest req = req("2025-01-01T01:00:00Z", "   ");
 
     var response = reservationService.createReservation(userId, beachId, req);
 
     assertThat(response.eventId()).isNull();
+    then(reservationRepository)
+        .should()
+        .insertIfAbsent(any(), any(), any(), isNull(), any(), any());
   }
 
   @Test
@@ -197,11 +211,7 @@ class ReservationServiceTest {
     UUID userId = UUID.randomUUID();
     UUID beachId = UUID.randomUUID();
 
-    Instant reservedAt = Instant.parse("2025-01-01T01:00:00Z");
-
-    givenUserAndBeach(userId, beachId);
-    givenNoDuplicate(userId, beachId, reservedAt);
-    stubSaveReservation();
+    givenInserted(UUID.randomUUID());
 
     ReservationCreateRequest req = req("2025-01-01T01:00:00Z", null);
 
@@ -222,9 +232,7 @@ class ReservationServiceTest {
 
     Instant reservedAt = Instant.parse("2025-01-01T00:00:00Z");
 
-    givenUserAndBeach(userId, beachId);
-    givenNoDuplicate(userId, beachId, reservedAt);
-    stubSaveReservation();
+    givenInserted(UUID.randomUUID());
 
     ReservationCreateRequest req = req("2025-01-01T00:00:00Z", "EVENT-2");
 
@@ -234,32 +242,6 @@ class ReservationServiceTest {
     assertThat(response.status()).isEqualTo(ReservationStatus.CONFIRMED.name());
   }
 
-  @Test
-  @DisplayName("예약 생성 - 유저/해변/이벤트 ID 설정")
-  void createReservation_setsUserBeachAndEventId() {
-    // Given
-    UUID userId = UUID.randomUUID();
-    UUID beachId = UUID.randomUUID();
-
-    Instant reservedAt = Instant.parse("2025-01-01T01:00:00Z");
-
-    givenUserAndBeach(userId, beachId);
-    givenNoDuplicate(userId, beachId, reservedAt);
-    stubSaveReservation();
-
-    ReservationCreateRequest req = req("2025-01-01T01:00:00Z", "  EVENT-3  ");
-
-    // When
-    reservationService.createReservation(userId, beachId, req);
-
-    // Then
-    ArgumentCaptor<Reservation> captor = ArgumentCaptor.forClass(Reservation.class);
-    then(reservationRepository).should().save(captor.capture());
-    assertThat(captor.getValue().getUser().getId()).isEqualTo(userId);
-    assertThat(captor.getValue().getBeach().getId()).isEqualTo(beachId);
-    assertThat(captor.getValue().getEventId()).isEqualTo("EVENT-3");
-  }
-
   @Test
   @DisplayName("예약 취소 실패 - 리소스 없음")
   void cancelReservation_notFound() {
@@ -297,93 +279,118 @@ class ReservationServiceTest {
   }
 
   @Test
-  @DisplayName("내 예약 조회 - 응답 매핑")
+  @DisplayName("내 예약 목록 - 프로젝션을 응답으로 매핑")
   void getMyReservations_mapsResponses() {
     // Given
     /**
-     * Why: 도메인 -> 응답 DTO 매핑이 정확해야 UI/API가 안전하다. Policy: ReservationResponse.from 매핑 규칙을 그대로 따른다.
-     * Contract(Input): 예약 1건 반환. Contract(Output): 모든 필드가 Reservation과 일치.
+     * Why: 프로젝션 -> 응답 DTO 매핑이 정확해야 UI/API가 안전하다. Policy: ReservationResponse.from 매핑 규칙을 그대로 따른다.
+     * Contract(Input): 예약 1건 반환. Contract(Output): 모든 필드가 프로젝션과 일치하고 다음 커서가 없다.
      */
     UUID userId = UUID.randomUUID();
-    UUID reservationId = UUID.randomUUID();
-    UUID beachId = UUID.randomUUID();
+    ReservationHistoryRow row = historyRow(Instant.parse("2025-01-01T01:00:00Z"));
 
-    Beach beach = new Beach();
-    beach.setId(beachId);
+    given(reservationRepository.findHistoryFirstPage(userId, Limit.of(21)))
+        .willReturn(List.of(row));
 
-    Reservation reservation = new Reservation();
-    reservation.setId(reservationId);
-    reservation.setStatus(ReservationStatus.CONFIRMED);
-    reservation.setReservedAt(Instant.parse("2025-01-01T01:00:00Z"));
-    reservation.setBeach(beach);
-    reservation.setEventId("EVENT-4");
-    reservation.setCreatedAt(Instant.parse("2025-01-01T00:00:00Z"));
+    // When
+    var page = reservationService.getMyReservations(userId, null, 20);
+
+    // Then
+    assertThat(page.hasNext()).isFalse();
+    assertThat(page.items()).hasSize(1);
+    var response = page.items().get(0);
+    assertThat(response.reservationId()).isEqualTo(row.id());
+    assertThat(response.status()).isEqualTo(ReservationStatus.CONFIRMED.name());
+    assertThat(response.reservedAtUtc()).isEqualTo(row.reservedAt());
+    assertThat(response.beachId()).isEqualTo(row.beachId());
+    assertThat(response.eventId()).isEqualTo("EVENT-4");
+    assertThat(response.createdAtUtc()).isEqualTo(row.createdAt());
+  }
+
+  @Test
+  @DisplayName("내 예약 목록 - size+1건이면 마지막 행 기준 다음 커서 반환")
+  void getMyReservations_moreRows_returnsNextCursor() {
+    // Given
+    UUID userId = UUID.randomUUID();
+    ReservationHistoryRow newest = historyRow(Instant.parse("2025-01-03T00:00:00Z"));
+    ReservationHistoryRow middle = historyRow(Instant.parse("2025-01-02T00:00:00Z"));
+    ReservationHistoryRow oldest = historyRow(Instant.parse("2025-01-01T00:00:00Z"));
 
-    given(reservationRepository.findByUserId(userId)).willReturn(List.of(reservation));
+    given(reservationRepository.findHistoryFirstPage(userId, Limit.of(3)))
+        .willReturn(List.of(newest, middle, oldest));
 
     // When
-    var responses = reservationService.getMyReservations(userId);
+    var page = reservationService.getMyReservations(userId, null, 2);
 
     // Then
-    assertThat(responses).hasSize(1);
-    assertThat(responses.get(0).reservationId()).isEqualTo(reservationId);
-    assertThat(responses.get(0).status()).isEqualTo(ReservationStatus.CONFIRMED.name());
-    assertThat(responses.get(0).reservedAtUtc()).isEqualTo(reservation.getReservedAt());
-    assertThat(responses.get(0).beachId()).isEqualTo(beachId);
-    assertThat(responses.get(0).eventId()).isEqualTo("EVENT-4");
-    assertThat(responses.get(0).createdAtUtc()).isEqualTo(reservation.getCreatedAt());
+    assertThat(page.items()).extracting("reservationId").containsExactly(newest.id(), middle.id());
+    assertThat(ReservationCursor.decode(page.nextCursor()))
+        .isEqualTo(new ReservationCursor(middle.reservedAt(), middle.id()));
   }
 
-  private ReservationCreateRequest req(String reservedAtUtc, String eventId) {
-    return new ReservationCreateRequest(reservedAtUtc, eventId);
-  }
+  @Test
+  @DisplayName("내 예약 목록 - 커서가 있으면 커서 이후 조회")
+  void getMyReservations_withCursor_queriesAfterCursor() {
+    // Given
+    UUID userId = UUID.randomUUID();
+    ReservationCursor cursor =
+        new ReservationCursor(Instant.parse("2025-01-02T00:00:00Z"), UUID.randomUUID());
 
-  private void givenUserAndBeach(UUID userId, UUID beachId) {
-    givenBeach(beachId);
-    givenUser(userId);
-  }
+    given(
+            reservationRepository.findHistoryAfter(
+                userId, cursor.reservedAt(), cursor.id(), Limit.of(21)))
+        .willReturn(List.of());
 
-  private void givenBeach(UUID beachId) {
-    given(beachRepository.findById(beachId)).willReturn(Optional.of(beach(beachId)));
-  }
+    // When
+    var page = reservationService.getMyReservations(userId, cursor.encode(), 20);
 
-  private void givenBeachNotFound(UUID beachId) {
-    given(beachRepository.findById(beachId)).willReturn(Optional.empty());
+    // Then
+    assertThat(page.items()).isEmpty();
+    assertThat(page.hasNext()).isFalse();
   }
 
-  private void givenUser(UUID userId) {
-    given(userRepository.findById(userId)).willReturn(Optional.of(user(userId)));
+  @Test
+  @DisplayName("내 예약 목록 - 잘못된 커서는 INVALID_REQUEST")
+  void getMyReservations_invalidCursor_throwsInvalidRequest() {
+    ApiException ex =
+        catchThrowableOfType(
+            () -> reservationService.getMyReservations(UUID.randomUUID(), "not-a-cursor", 20),
+            ApiException.class);
+
+    assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INVALID_REQUEST);
+    then(reservationRepository).shouldHaveNoInteractions();
   }
 
-  private void givenNoDuplicate(UUID userId, UUID beachId, Instant reservedAt) {
-    given(reservationRepository.existsByUserIdAndBeachIdAndReservedAt(userId, beachId, reservedAt))
-        .willReturn(false);
+  private ReservationHistoryRow historyRow(Instant reservedAt) {
+    return new ReservationHistoryRow(
+        UUID.randomUUID(),
+        ReservationStatus.CONFIRMED,
+        reservedAt,
+        UUID.randomUUID(),
+        "EVENT-4",
+        Instant.parse("2025-01-01T00:00:00Z"));
   }
 
-  private void givenDuplicate() {
-    given(reservationRepository.existsByUserIdAndBeachIdAndReservedAt(any(), any(), any()))
-        .willReturn(true);
+  private ReservationCreateRequest req(String reservedAtUtc, String eventId) {
+    return new ReservationCreateRequest(reservedAtUtc, eventId);
   }
 
-  private void stubSaveReservation() {
-    given(reservationRepository.save(any(Reservation.class)))
-        .willAnswer(
-            inv -> {
-              Reservation r = inv.getArgument(0);
-              r.setId(UUID.randomUUID());
-              return r;
-            });
+  private void givenInserted(UUID reservationId) {
+    given(reservationRepository.insertIfAbsent(any(), any(), any(), any(), any(), any()))
+        .willReturn(Optional.of(reservationId));
   }
 
-  private Beach beach(UUID beachId) {
-    Beach beach = new Beach();
-    beach.setId(beachId);
-    return beach;
+  private void givenDuplicate() {
+    given(reservationRepository.insertIfAbsent(any(), any(), any(), any(), any(), any()))
+        .willReturn(Optional.empty());
   }
 
-  private User user(UUID userId) {
-    User user = new User();
-    user.setId(userId);
-    return user;
+  private void givenForeignKeyViolation(String constraintName) {
+    given(reservationRepository.insertIfAbsent(any(), any(), any(), any(), any(), any()))
+        .willThrow(
+            new DataIntegrityViolationException(
+                "could not execute statement",
+                new ConstraintViolationException(
+                    "violates constraint", new SQLException(), constraintName)));
   }
 }
@@ -1,5 +1,6 @@
 package com.beachcheck.support.fixture;
 
+import com.beachcheck.global.cache.TwoLevelCache;
 import java.util.Collection;
 import java.util.Map;
 import org.springframework.cache.Cache;
@@ -107,12 +108,10 @@ public class CacheTestHelper {
     // instanceof로 타입 안전하게 체크 및 캐스팅
     if (cache instanceof CaffeineCache caffeineCache) {
       printCaffeineCacheDetails(caffeineCache);
-    }
-    //         Redis 캐시인 경우 (향후 대응)
-    //         else if (cache instanceof RedisCache redisCache) {
-    //             printRedisCacheDetails(redisCache);
-    //         }
-    else {
+    } else if (cache instanceof TwoLevelCache twoLevelCache) {
+      // 로컬(L1) 계층만 출력한다. Redis(L2) 값은 개별 키로 검증하세요.
+      printLocalEntries(twoLevelCache.getNativeCache().asMap());
+    } else {
       // 알 수 없는 캐시 구현체
       System.out.println("  → 알 수 없는 캐시 구현체: " + cache.getClass().getSimpleName());
       System.out.println("  → 상세 정보 조회 미지원 (개별 키로 검증하세요)");
@@ -133,8 +132,10 @@ public class CacheTestHelper {
     com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
         caffeineCache.getNativeCache();
 
-    Map<Object, Object> cacheMap = nativeCache.asMap();
+    printLocalEntries(nativeCache.asMap());
+  }
 
+  private static void printLocalEntries(Map<?, ?> cacheMap) {
     if (cacheMap.isEmpty()) {
       System.out.println("  캐시가 비어있습니다.");
     } else {
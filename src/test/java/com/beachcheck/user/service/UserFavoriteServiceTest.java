@@ -11,10 +11,10 @@ import static org.mockito.Mockito.never;
 
 import com.beachcheck.beach.domain.Beach;
 import com.beachcheck.beach.repository.BeachRepository;
+import com.beachcheck.beach.service.BeachRegistry;
 import com.beachcheck.user.domain.User;
 import com.beachcheck.user.domain.UserFavorite;
 import com.beachcheck.user.repository.UserFavoriteRepository;
-import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -37,6 +37,8 @@ class UserFavoriteServiceTest {
 
   @Mock private BeachRepository beachRepository;
 
+  @Mock private BeachRegistry beachRegistry;
+
   @InjectMocks private UserFavoriteService favoriteService;
 
   private User testUser;
@@ -60,7 +62,8 @@ class UserFavoriteServiceTest {
   void addFavorite_정상추가_객체필드검증() {
     // Given
     given(favoriteRepository.existsByUserIdAndBeachId(testUser.getId(), beachId)).willReturn(false);
-    given(beachRepository.findById(beachId)).willReturn(Optional.of(testBeach));
+    given(beachRegistry.exists(beachId)).willReturn(true);
+    given(beachRepository.getReferenceById(beachId)).willReturn(testBeach);
 
     ArgumentCaptor<UserFavorite> favoriteCaptor = ArgumentCaptor.forClass(UserFavorite.class);
     given(favoriteRepository.save(favoriteCaptor.capture()))
@@ -99,19 +102,19 @@ class UserFavoriteServiceTest {
 
     // save는 호출되지 않아야 함
     then(favoriteRepository).should(never()).save(any());
-    then(beachRepository).should(never()).findById(any());
+    then(beachRegistry).should(never()).exists(any());
   }
 
   /**
-   * TC-S03: addFavorite - Beach 없음 Why: 존재하지 않는 해수욕장에 대한 찜 방지 Policy: beachRepository.findById가
-   * empty 반환 시 예외 Contract(Input): 존재하지 않는 beachId Contract(Output): IllegalArgumentException
+   * TC-S03: addFavorite - Beach 없음 Why: 존재하지 않는 해수욕장에 대한 찜 방지 Policy: beachRegistry.exists가
+   * false 반환 시 예외 Contract(Input): 존재하지 않는 beachId Contract(Output): IllegalArgumentException
    */
   @Test
   @DisplayName("TC-S03: addFavorite - Beach 없음 시 예외 발생")
   void addFavorite_존재하지않는Beach_예외발생() {
     // Given
     given(favoriteRepository.existsByUserIdAndBeachId(testUser.getId(), beachId)).willReturn(false);
-    given(beachRepository.findById(beachId)).willReturn(Optional.empty());
+    given(beachRegistry.exists(beachId)).willReturn(false);
 
     // When & Then
     assertThatThrownBy(() -> favoriteService.addFavorite(testUser, beachId))
@@ -120,6 +123,7 @@ class UserFavoriteServiceTest {
 
     // save는 호출되지 않아야 함
     then(favoriteRepository).should(never()).save(any());
+    then(beachRepository).should(never()).getReferenceById(any());
   }
 
   /**
@@ -158,7 +162,8 @@ class UserFavoriteServiceTest {
   void toggleFavorite_찜안함_추가성공() {
     // Given - 찜하지 않은 상태
     given(favoriteRepository.existsByUserIdAndBeachId(testUser.getId(), beachId)).willReturn(false);
-    given(beachRepository.findById(beachId)).willReturn(Optional.of(testBeach));
+    given(beachRegistry.exists(beachId)).willReturn(true);
+    given(beachRepository.getReferenceById(beachId)).willReturn(testBeach);
     given(favoriteRepository.save(any(UserFavorite.class)))
         .willAnswer(invocation -> invocation.getArgument(0));
 